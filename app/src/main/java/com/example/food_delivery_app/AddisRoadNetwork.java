@@ -0,0 +1,78 @@
+package com.example.food_delivery_app;
+
+/**
+ * AddisRoadNetwork
+ * ----------------
+ * Built-in delivery zones and main roads for Addis Ababa (demo data, like
+ * SampleCatalogSource), plus the shared estimator built from them.
+ */
+public class AddisRoadNetwork {
+    // Until customers can set an address, orders are delivered here (Meskel Square)
+    public static final GeoPoint DEFAULT_CUSTOMER_LOCATION = new GeoPoint(9.0105, 38.7612);
+
+    private static final double RING_ROAD_KMH = 50;
+    private static final double ARTERIAL_KMH = 30;
+    private static final double STREET_KMH = 20;
+
+    private static EtaEstimator estimator;
+
+    private AddisRoadNetwork() {
+    }
+
+    public static synchronized EtaEstimator getEstimator() {
+        if (estimator == null) {
+            estimator = new EtaEstimator(createGraph());
+        }
+        return estimator;
+    }
+
+    static RoadGraph createGraph() {
+        RoadGraph graph = new RoadGraph();
+        int piassa = graph.addZone("Piassa", new GeoPoint(9.0350, 38.7500));
+        int merkato = graph.addZone("Merkato", new GeoPoint(9.0300, 38.7370));
+        int aratKilo = graph.addZone("Arat Kilo", new GeoPoint(9.0330, 38.7630));
+        int sidistKilo = graph.addZone("Sidist Kilo", new GeoPoint(9.0440, 38.7610));
+        int mexico = graph.addZone("Mexico", new GeoPoint(9.0100, 38.7450));
+        int lideta = graph.addZone("Lideta", new GeoPoint(9.0150, 38.7350));
+        int stadium = graph.addZone("Stadium", new GeoPoint(9.0120, 38.7560));
+        int meskel = graph.addZone("Meskel Square", new GeoPoint(9.0105, 38.7612));
+        int kazanchis = graph.addZone("Kazanchis", new GeoPoint(9.0180, 38.7700));
+        int sarbet = graph.addZone("Sarbet", new GeoPoint(8.9960, 38.7350));
+        int gotera = graph.addZone("Gotera", new GeoPoint(8.9950, 38.7550));
+        int bole = graph.addZone("Bole", new GeoPoint(8.9955, 38.7856));
+        int medhanealem = graph.addZone("Bole Medhanealem", new GeoPoint(8.9990, 38.7900));
+        int megenagna = graph.addZone("Megenagna", new GeoPoint(9.0200, 38.8010));
+        int cmc = graph.addZone("CMC", new GeoPoint(9.0220, 38.8350));
+        int gerji = graph.addZone("Gerji", new GeoPoint(9.0000, 38.8100));
+
+        // City centre
+        graph.addRoad(piassa, merkato, STREET_KMH);
+        graph.addRoad(piassa, aratKilo, ARTERIAL_KMH);
+        graph.addRoad(aratKilo, sidistKilo, ARTERIAL_KMH);
+        graph.addRoad(piassa, mexico, ARTERIAL_KMH);
+        graph.addRoad(merkato, lideta, STREET_KMH);
+        graph.addRoad(lideta, mexico, STREET_KMH);
+        graph.addRoad(mexico, stadium, ARTERIAL_KMH);
+        graph.addRoad(stadium, meskel, ARTERIAL_KMH);
+        graph.addRoad(aratKilo, kazanchis, ARTERIAL_KMH);
+        graph.addRoad(meskel, kazanchis, ARTERIAL_KMH);
+
+        // Bole Road and the south
+        graph.addRoad(meskel, bole, ARTERIAL_KMH);
+        graph.addRoad(bole, medhanealem, STREET_KMH);
+        graph.addRoad(meskel, gotera, ARTERIAL_KMH);
+        graph.addRoad(mexico, sarbet, ARTERIAL_KMH);
+
+        // Ring road
+        graph.addRoad(sarbet, gotera, RING_ROAD_KMH);
+        graph.addRoad(gotera, bole, RING_ROAD_KMH);
+        graph.addRoad(medhanealem, gerji, RING_ROAD_KMH);
+        graph.addRoad(gerji, megenagna, RING_ROAD_KMH);
+        graph.addRoad(megenagna, sidistKilo, RING_ROAD_KMH);
+
+        // East
+        graph.addRoad(kazanchis, megenagna, ARTERIAL_KMH);
+        graph.addRoad(megenagna, cmc, ARTERIAL_KMH);
+        return graph;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.food_delivery_app;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * AppExecutors
+ * ------------
+ * Shared executors, so background work does not each create its own threads.
+ *  - diskIO: single thread for database and file access, in submission order; also runs
+ *    delayed work such as the cart's write-behind flush
+ *  - filter: single thread for debounced in-memory filtering, so a long match never
+ *    queues behind disk work and screens do not each start a thread of their own
+ *  - mainThread: posts to the UI thread
+ */
+public class AppExecutors {
+    private static AppExecutors instance;
+
+    private final ScheduledExecutorService diskIO;
+    private final ScheduledExecutorService filter;
+    private final Executor mainThread;
+
+    private AppExecutors() {
+        diskIO = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "disk-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        filter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        mainThread = mainHandler::post;
+    }
+
+    public static synchronized AppExecutors getInstance() {
+        if (instance == null) {
+            instance = new AppExecutors();
+        }
+        return instance;
+    }
+
+    public ScheduledExecutorService diskIO() {
+        return diskIO;
+    }
+
+    public ScheduledExecutorService filter() {
+        return filter;
+    }
+
+    public Executor mainThread() {
+        return mainThread;
+    }
+}
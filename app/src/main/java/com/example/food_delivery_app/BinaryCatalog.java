@@ -0,0 +1,403 @@
+package com.example.food_delivery_app;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BinaryCatalog
+ * -------------
+ * Read-only catalog file, memory-mapped and read in place.
+ *
+ * Layout:
+ *  - header: magic, format version, source stamp, counts and section offsets
+ *  - restaurant records, fixed width, each with its first item and menu size
+ *  - item records, fixed width, grouped by restaurant in menu order
+ *  - string table: every distinct string once, as a length followed by UTF-8
+ *
+ * Records refer to strings by their offset in the string table. Opening a
+ * file maps it and checks the header, nothing more. Accessors take a record
+ * index and read straight from the mapped buffer: numbers never allocate,
+ * and strings are decoded only when asked for. No object exists per record
+ * unless {@link #toRestaurant} or {@link #toMenuItem} is called, and a
+ * restaurant from toRestaurant reads its menu only when the menu is opened.
+ * Records are therefore checked as they are read: a string reference outside
+ * the string table throws IllegalStateException rather than reading garbage.
+ *
+ * Reads use absolute positions only, so one instance can be shared between threads.
+ */
+public final class BinaryCatalog implements RestaurantStore {
+
+    static final int MAGIC = 0x46444354;  // "FDCT"
+    static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 48;
+
+    // Restaurant record: 7 strings, latitude, longitude, first item, menu size
+    private static final int RESTAURANT_STRINGS = 7;
+    private static final int RESTAURANT_RECORD_SIZE = 4 * RESTAURANT_STRINGS + 8 + 8 + 4 + 4;
+
+    // Item record: 7 strings, restaurant index, price
+    private static final int ITEM_STRINGS = 7;
+    private static final int ITEM_RECORD_SIZE = 4 * ITEM_STRINGS + 4 + 8;
+
+    // String positions within a restaurant record
+    private static final int R_ID = 0;
+    private static final int R_NAME = 1;
+    private static final int R_TAGS = 2;
+    private static final int R_RATING = 3;
+    private static final int R_FOOD_TYPE = 4;
+    private static final int R_DELIVERY_TIME = 5;
+    private static final int R_MIN_ORDER = 6;
+
+    // String positions within an item record
+    private static final int I_ID = 0;
+    private static final int I_NAME = 1;
+    private static final int I_DESCRIPTION = 2;
+    private static final int I_CATEGORY = 3;
+    private static final int I_EMOJI = 4;
+    private static final int I_TAGS = 5;
+    private static final int I_IMAGE_URL = 6;
+
+    private final ByteBuffer buffer;
+    private final long sourceStamp;
+    private final int restaurantCount;
+    private final int itemCount;
+    private final int restaurantTable;
+    private final int itemTable;
+    private final int stringTable;
+    private final int stringTableLength;
+
+    private BinaryCatalog(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a catalog file");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported catalog format " + buffer.getInt(4));
+        }
+
+        this.buffer = buffer;
+        this.sourceStamp = buffer.getLong(8);
+        this.restaurantCount = buffer.getInt(16);
+        this.itemCount = buffer.getInt(20);
+        this.restaurantTable = buffer.getInt(24);
+        this.itemTable = buffer.getInt(28);
+        this.stringTable = buffer.getInt(32);
+        this.stringTableLength = buffer.getInt(36);
+
+        if ((long) restaurantTable + (long) restaurantCount * RESTAURANT_RECORD_SIZE > itemTable
+                || (long) itemTable + (long) itemCount * ITEM_RECORD_SIZE > stringTable
+                || (long) stringTable + stringTableLength > buffer.capacity()) {
+            throw new IOException("Truncated catalog file");
+        }
+    }
+
+    /**
+     * Maps the file read-only. The mapping stays valid after the channel is closed.
+     */
+    public static BinaryCatalog open(File file) throws IOException {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r");
+             FileChannel channel = input.getChannel()) {
+            return new BinaryCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a catalog already in memory, e.g. in tests.
+     */
+    public static BinaryCatalog wrap(ByteBuffer buffer) throws IOException {
+        return new BinaryCatalog(buffer);
+    }
+
+    /**
+     * Stamp of the source data the file was generated from, as passed to {@link #write}.
+     */
+    public long getSourceStamp() {
+        return sourceStamp;
+    }
+
+    @Override
+    public int getRestaurantCount() {
+        return restaurantCount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    // Restaurants
+
+    public String getRestaurantId(int restaurant) {
+        return restaurantString(restaurant, R_ID);
+    }
+
+    @Override
+    public String getRestaurantName(int restaurant) {
+        return restaurantString(restaurant, R_NAME);
+    }
+
+    @Override
+    public String getRestaurantTags(int restaurant) {
+        return restaurantString(restaurant, R_TAGS);
+    }
+
+    public double getLatitude(int restaurant) {
+        return buffer.getDouble(restaurantRecord(restaurant) + 4 * RESTAURANT_STRINGS);
+    }
+
+    public double getLongitude(int restaurant) {
+        return buffer.getDouble(restaurantRecord(restaurant) + 4 * RESTAURANT_STRINGS + 8);
+    }
+
+    /**
+     * Index of the restaurant's first menu item; its menu is the next
+     * {@link #getMenuSize} items.
+     */
+    public int getFirstItem(int restaurant) {
+        return buffer.getInt(restaurantRecord(restaurant) + 4 * RESTAURANT_STRINGS + 16);
+    }
+
+    public int getMenuSize(int restaurant) {
+        return buffer.getInt(restaurantRecord(restaurant) + 4 * RESTAURANT_STRINGS + 20);
+    }
+
+    // Items
+
+    public String getItemId(int item) {
+        return itemString(item, I_ID);
+    }
+
+    public String getItemName(int item) {
+        return itemString(item, I_NAME);
+    }
+
+    public String getItemDescription(int item) {
+        return itemString(item, I_DESCRIPTION);
+    }
+
+    public String getItemTags(int item) {
+        return itemString(item, I_TAGS);
+    }
+
+    /**
+     * Index of the restaurant the item belongs to.
+     */
+    public int getItemRestaurant(int item) {
+        return buffer.getInt(itemRecord(item) + 4 * ITEM_STRINGS);
+    }
+
+    /**
+     * Price in minor units, see Money.
+     */
+    public long getItemPrice(int item) {
+        return buffer.getLong(itemRecord(item) + 4 * ITEM_STRINGS + 4);
+    }
+
+    /**
+     * Builds the restaurant object. Its menu is read from the file the first time
+     * {@link Restaurant#getMenuItems} is called.
+     */
+    @Override
+    public Restaurant toRestaurant(int restaurant) {
+        double latitude = getLatitude(restaurant);
+        double longitude = getLongitude(restaurant);
+        return new Restaurant(
+                getRestaurantId(restaurant),
+                getRestaurantName(restaurant),
+                getRestaurantTags(restaurant),
+                restaurantString(restaurant, R_RATING),
+                restaurantString(restaurant, R_FOOD_TYPE),
+                restaurantString(restaurant, R_DELIVERY_TIME),
+                restaurantString(restaurant, R_MIN_ORDER),
+                Double.isNaN(latitude) ? null : new GeoPoint(latitude, longitude),
+                getMenuSize(restaurant),
+                () -> toMenu(restaurant));
+    }
+
+    /**
+     * Builds the restaurant's menu items, in menu order.
+     */
+    public List<MenuItem> toMenu(int restaurant) {
+        int first = getFirstItem(restaurant);
+        int menuSize = getMenuSize(restaurant);
+        List<MenuItem> menu = new ArrayList<>(menuSize);
+        for (int item = first; item < first + menuSize; item++) {
+            menu.add(toMenuItem(item));
+        }
+        return menu;
+    }
+
+    public MenuItem toMenuItem(int item) {
+        return new MenuItem(
+                getItemId(item),
+                getRestaurantId(getItemRestaurant(item)),
+                getItemName(item),
+                getItemDescription(item),
+                getItemPrice(item),
+                itemString(item, I_CATEGORY),
+                itemString(item, I_EMOJI),
+                getItemTags(item),
+                itemString(item, I_IMAGE_URL));
+    }
+
+    private int restaurantRecord(int restaurant) {
+        if (restaurant < 0 || restaurant >= restaurantCount) {
+            throw new IndexOutOfBoundsException("restaurant " + restaurant);
+        }
+        return restaurantTable + restaurant * RESTAURANT_RECORD_SIZE;
+    }
+
+    private int itemRecord(int item) {
+        if (item < 0 || item >= itemCount) {
+            throw new IndexOutOfBoundsException("item " + item);
+        }
+        return itemTable + item * ITEM_RECORD_SIZE;
+    }
+
+    private String restaurantString(int restaurant, int field) {
+        return string(buffer.getInt(restaurantRecord(restaurant) + 4 * field));
+    }
+
+    private String itemString(int item, int field) {
+        return string(buffer.getInt(itemRecord(item) + 4 * field));
+    }
+
+    private String string(int offset) {
+        if (offset < 0 || offset > stringTableLength - 4) {
+            throw new IllegalStateException("Corrupt catalog: string offset " + offset);
+        }
+        int position = stringTable + offset;
+        int length = buffer.getInt(position);
+        if (length < 0 || length > stringTableLength - offset - 4) {
+            throw new IllegalStateException("Corrupt catalog: string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        // A duplicate has its own position, so the shared buffer is never moved
+        ByteBuffer source = buffer.duplicate();
+        source.position(position + 4);
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the restaurants as a catalog file. Like CartStore, the file is written
+     * to a temporary file, synced and renamed, so readers never see half a catalog.
+     *
+     * @param sourceStamp identifies the source data, so a stale file can be detected
+     */
+    public static void write(List<Restaurant> restaurants, long sourceStamp, File file)
+            throws IOException {
+        StringTable strings = new StringTable();
+        int itemCount = 0;
+        for (Restaurant restaurant : restaurants) {
+            itemCount += restaurant.getMenuItems().size();
+        }
+
+        int restaurantTable = HEADER_SIZE;
+        int itemTable = restaurantTable + restaurants.size() * RESTAURANT_RECORD_SIZE;
+        int stringTable = itemTable + itemCount * ITEM_RECORD_SIZE;
+
+        ByteBuffer records = ByteBuffer.allocate(stringTable);
+        records.putInt(MAGIC);
+        records.putInt(FORMAT_VERSION);
+        records.putLong(sourceStamp);
+        records.putInt(restaurants.size());
+        records.putInt(itemCount);
+        records.putInt(restaurantTable);
+        records.putInt(itemTable);
+        records.putInt(stringTable);
+        int stringTableLengthPosition = records.position();
+        records.putInt(0);
+
+        records.position(restaurantTable);
+        int firstItem = 0;
+        for (Restaurant restaurant : restaurants) {
+            records.putInt(strings.add(restaurant.getId()));
+            records.putInt(strings.add(restaurant.getName()));
+            records.putInt(strings.add(restaurant.getTags()));
+            records.putInt(strings.add(restaurant.getRating()));
+            records.putInt(strings.add(restaurant.getFoodType()));
+            records.putInt(strings.add(restaurant.getDeliveryTime()));
+            records.putInt(strings.add(restaurant.getMinOrder()));
+            GeoPoint location = restaurant.getLocation();
+            records.putDouble(location == null ? Double.NaN : location.getLatitude());
+            records.putDouble(location == null ? Double.NaN : location.getLongitude());
+            records.putInt(firstItem);
+            records.putInt(restaurant.getMenuItems().size());
+            firstItem += restaurant.getMenuItems().size();
+        }
+
+        int restaurantIndex = 0;
+        for (Restaurant restaurant : restaurants) {
+            for (MenuItem item : restaurant.getMenuItems()) {
+                records.putInt(strings.add(item.getId()));
+                records.putInt(strings.add(item.getName()));
+                records.putInt(strings.add(item.getDescription()));
+                records.putInt(strings.add(item.getCategory()));
+                records.putInt(strings.add(item.getEmoji()));
+                records.putInt(strings.add(item.getTags()));
+                records.putInt(strings.add(item.getImageUrl()));
+                records.putInt(restaurantIndex);
+                records.putLong(item.getPrice());
+            }
+            restaurantIndex++;
+        }
+        records.putInt(stringTableLengthPosition, strings.size());
+
+        File tempFile = new File(file.getPath() + ".tmp");
+        FileOutputStream fileOut = new FileOutputStream(tempFile);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.write(records.array());
+            strings.writeTo(out);
+            out.flush();
+            fileOut.getFD().sync();
+        }
+        if (!tempFile.renameTo(file)) {
+            tempFile.delete();
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    /**
+     * Distinct strings in first-use order, with their offsets in the table.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private int size;
+
+        int add(String value) {
+            String text = value == null ? "" : value;
+            Integer offset = offsets.get(text);
+            if (offset == null) {
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                offset = size;
+                offsets.put(text, offset);
+                encoded.add(bytes);
+                size += 4 + bytes.length;
+            }
+            return offset;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            for (byte[] bytes : encoded) {
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.food_delivery_app;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BinaryCatalogSource
+ * -------------------
+ * Serves the catalog from a memory-mapped {@link BinaryCatalog} file, generated
+ * from the source data the first time and whenever the source stamp changes
+ * (e.g. after an app update ships new sample data).
+ *
+ * If the file cannot be written or read, the source data is served directly,
+ * so a full disk never leaves the app without a catalog.
+ */
+public class BinaryCatalogSource implements CatalogSource {
+
+    private final File file;
+    private final CatalogSource source;
+    private final long sourceStamp;
+
+    /**
+     * @param source      data the file is generated from
+     * @param sourceStamp changes whenever the source data may have changed
+     */
+    public BinaryCatalogSource(File file, CatalogSource source, long sourceStamp) {
+        this.file = file;
+        this.source = source;
+        this.sourceStamp = sourceStamp;
+    }
+
+    /**
+     * Maps the catalog file, first regenerating it if it is missing, damaged or stale.
+     */
+    public BinaryCatalog open() throws IOException {
+        try {
+            BinaryCatalog catalog = BinaryCatalog.open(file);
+            if (catalog.getSourceStamp() == sourceStamp) {
+                return catalog;
+            }
+        } catch (IOException e) {
+            // Missing or unreadable: generate it below
+        }
+
+        BinaryCatalog.write(source.loadRestaurants(), sourceStamp, file);
+        return BinaryCatalog.open(file);
+    }
+
+    /**
+     * The mapped file itself: restaurants are read from their records as they are asked for.
+     */
+    @Override
+    public RestaurantStore openStore() {
+        try {
+            return open();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the restaurants from their records only; each menu is read from the
+     * file the first time it is opened.
+     */
+    @Override
+    public List<Restaurant> loadRestaurants() {
+        try {
+            BinaryCatalog catalog = open();
+            List<Restaurant> restaurants = new ArrayList<>(catalog.getRestaurantCount());
+            for (int restaurant = 0; restaurant < catalog.getRestaurantCount(); restaurant++) {
+                restaurants.add(withFallbackMenu(catalog, restaurant));
+            }
+            return restaurants;
+        } catch (IOException | RuntimeException e) {
+            // Unreadable, or damaged past the header; regenerated on the next start
+            file.delete();
+            return source.loadRestaurants();
+        }
+    }
+
+    /**
+     * The restaurant's record, with a menu that comes from the source data if its
+     * records in the file turn out to be damaged.
+     */
+    private Restaurant withFallbackMenu(BinaryCatalog catalog, int index) {
+        Restaurant record = catalog.toRestaurant(index);
+        String id = record.getId();
+        return new Restaurant(id, record.getName(), record.getTags(), record.getRating(),
+                record.getFoodType(), record.getDeliveryTime(), record.getMinOrder(),
+                record.getLocation(), record.getMenuSize(), () -> {
+                    try {
+                        return catalog.toMenu(index);
+                    } catch (RuntimeException e) {
+                        file.delete();
+                        for (Restaurant restaurant : source.loadRestaurants()) {
+                            if (restaurant.getId().equals(id)) {
+                                return restaurant.getMenuItems();
+                            }
+                        }
+                        return new ArrayList<>();
+                    }
+                });
+    }
+}
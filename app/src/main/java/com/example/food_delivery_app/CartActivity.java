@@ -7,6 +7,7 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.Button;
 import android.widget.ImageButton;
+import android.widget.ImageView;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 import android.widget.Toast;
@@ -17,21 +18,30 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
-import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
+import java.util.Map;
 
-public class CartActivity extends AppCompatActivity {
+public class CartActivity extends AppCompatActivity implements CartManager.Listener {
+
+    // Used when no restaurant location is known for the order
+    private static final int FALLBACK_ETA_MINUTES = 15;
 
     private LinearLayout cartItemsContainer;
     private TextView subtotalAmount, deliveryFeeAmount, taxAmount, totalAmount;
     private CartManager cartManager;
-    private DecimalFormat decimalFormat;
+    private OrderService orderService;
+
+    // One row per cart item, keyed by item ID so changes touch only their own row
+    private final Map<String, CartRow> rows = new HashMap<>();
+    private TextView emptyText;
 
     private String orderNumber = "";
+    private long orderPlacedAt;
+    private int etaMinutes;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -40,7 +50,8 @@ public class CartActivity extends AppCompatActivity {
         setContentView(R.layout.activity_cart);
 
         cartManager = CartManager.getInstance();
-        decimalFormat = new DecimalFormat("#,##0.00");
+        orderService = new OrderService(DatabaseHelper.getInstance(this),
+                AppExecutors.getInstance().diskIO(), AppExecutors.getInstance().mainThread());
 
         cartItemsContainer = findViewById(R.id.cartItemsContainer);
         subtotalAmount = findViewById(R.id.subtotalAmount);
@@ -61,8 +72,9 @@ public class CartActivity extends AppCompatActivity {
 
         trackOrderButton.setOnClickListener(v -> navigateToTracking());
 
-        loadCartItems();
-        updateTotals();
+        // Render the cart once; from here on only the changed rows are updated
+        loadCartItems(cartManager.addListener(this, AppExecutors.getInstance().mainThread()));
+        updateTotals(cartManager.getTotals());
 
         ViewCompat.setOnApplyWindowInsetsListener(findViewById(R.id.main), (v, insets) -> {
             Insets bars = insets.getInsets(WindowInsetsCompat.Type.systemBars());
@@ -71,78 +83,108 @@ public class CartActivity extends AppCompatActivity {
         });
     }
 
-    private void loadCartItems() {
+    @Override
+    protected void onStop() {
+        super.onStop();
+        // Don't leave the last changes waiting on the write-behind delay
+        cartManager.flush();
+    }
+
+    @Override
+    protected void onDestroy() {
+        cartManager.removeListener(this);
+        super.onDestroy();
+    }
+
+    private void loadCartItems(List<CartItem> items) {
         cartItemsContainer.removeAllViews();
-        List<CartItem> items = cartManager.getCartItems();
+        rows.clear();
+
+        emptyText = new TextView(this);
+        emptyText.setText("Your cart is empty");
+        emptyText.setTextSize(16);
+        emptyText.setPadding(0, 100, 0, 0);
+        cartItemsContainer.addView(emptyText);
+
+        for (CartItem item : items) {
+            CartRow row = createCartRow(item);
+            rows.put(item.getId(), row);
+            cartItemsContainer.addView(row.view);
+        }
+        updateEmptyText();
+    }
 
-        if (items.isEmpty()) {
-            TextView emptyText = new TextView(this);
-            emptyText.setText("Your cart is empty");
-            emptyText.setTextSize(16);
-            emptyText.setPadding(0, 100, 0, 0);
-            cartItemsContainer.addView(emptyText);
-        } else {
-            for (int i = 0; i < items.size(); i++) {
-                View itemView = createCartItemView(items.get(i), i);
-                cartItemsContainer.addView(itemView);
+    @Override
+    public void onCartChanged(List<CartChange> changes, CartTotals totals) {
+        for (CartChange change : changes) {
+            CartRow row = rows.get(change.getItemId());
+            switch (change.getType()) {
+                case INSERTED:
+                    if (row == null) {
+                        row = createCartRow(change.getItem());
+                        rows.put(change.getItemId(), row);
+                        // The empty-cart text always sits at index 0
+                        cartItemsContainer.addView(row.view, change.getPosition() + 1);
+                    }
+                    break;
+                case CHANGED:
+                    if (row != null) {
+                        row.bind(change.getItem());
+                    }
+                    break;
+                case REMOVED:
+                    if (row != null) {
+                        rows.remove(change.getItemId());
+                        ImageLoader.getInstance(this).cancel(row.photo);
+                        cartItemsContainer.removeView(row.view);
+                    }
+                    break;
             }
         }
+        updateEmptyText();
+        updateTotals(totals);
+    }
+
+    private void updateEmptyText() {
+        emptyText.setVisibility(rows.isEmpty() ? View.VISIBLE : View.GONE);
     }
 
-    private View createCartItemView(CartItem item, int position) {
+    private CartRow createCartRow(CartItem item) {
         View itemView = LayoutInflater.from(this)
                 .inflate(R.layout.cart_item, cartItemsContainer, false);
+        CartRow row = new CartRow(itemView);
 
         TextView itemImage = itemView.findViewById(R.id.itemImage);
         TextView itemName = itemView.findViewById(R.id.itemName);
-        TextView itemQuantity = itemView.findViewById(R.id.itemQuantity);
-        TextView itemPrice = itemView.findViewById(R.id.itemPrice);
         Button btnDecrease = itemView.findViewById(R.id.btnDecrease);
         Button btnIncrease = itemView.findViewById(R.id.btnIncrease);
         Button btnRemove = itemView.findViewById(R.id.btnRemove);
 
         itemName.setText(item.getName());
-        itemQuantity.setText(String.valueOf(item.getQuantity()));
-        itemPrice.setText("+ " + decimalFormat.format(item.getTotalPrice()));
         itemImage.setText(getEmojiForItem(item.getName()));
-
-        btnDecrease.setOnClickListener(v -> {
-            if (item.getQuantity() > 1) {
-                item.decreaseQuantity();
-                refreshCart();
+        row.bind(item);
+        ImageLoader.getInstance(this).load(item.getImageUrl(), row.photo, success -> {
+            if (success) {
+                row.photo.setVisibility(View.VISIBLE);
+                itemImage.setVisibility(View.INVISIBLE);
             }
         });
 
-        btnIncrease.setOnClickListener(v -> {
-            item.increaseQuantity();
-            refreshCart();
-        });
-
-        btnRemove.setOnClickListener(v -> {
-            cartManager.removeItem(position);
-            refreshCart();
-        });
-
-        return itemView;
-    }
+        // Listeners act on the stable item ID; the cart sends back what changed
+        String itemId = item.getId();
+        btnDecrease.setOnClickListener(v -> cartManager.decreaseQuantity(itemId));
+        btnIncrease.setOnClickListener(v -> cartManager.increaseQuantity(itemId));
+        btnRemove.setOnClickListener(v -> cartManager.removeItem(itemId));
 
-    private void refreshCart() {
-        loadCartItems();
-        updateTotals();
+        return row;
     }
 
-    private void updateTotals() {
-        double subtotal = cartManager.calculateSubtotal();
-
-        // Free delivery for orders above 500 ETB
-        double deliveryFee = subtotal >= 500 ? 0 : 60;
-        double tax = subtotal * 0.15;
-        double total = subtotal + deliveryFee + tax;
-
-        subtotalAmount.setText(decimalFormat.format(subtotal) + " ETB");
-        deliveryFeeAmount.setText(decimalFormat.format(deliveryFee) + " ETB");
-        taxAmount.setText(decimalFormat.format(tax) + " ETB");
-        totalAmount.setText(decimalFormat.format(total) + " ETB");
+    private void updateTotals(CartTotals totals) {
+        // Fee and tax rules live in Pricing; the cart keeps them current
+        subtotalAmount.setText(Money.format(totals.getSubtotal()) + " ETB");
+        deliveryFeeAmount.setText(Money.format(totals.getDeliveryFee()) + " ETB");
+        taxAmount.setText(Money.format(totals.getTax()) + " ETB");
+        totalAmount.setText(Money.format(totals.getTotal()) + " ETB");
     }
 
     private void showOrderConfirmation() {
@@ -160,14 +202,58 @@ public class CartActivity extends AppCompatActivity {
     }
 
     private void placeOrder() {
-        orderNumber = "FD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        Button placeOrderButton = findViewById(R.id.placeOrderButton);
+        placeOrderButton.setEnabled(false);
+
+        List<CartItem> items = cartManager.getCartItems();
+        int estimate = estimateEtaMinutes(items);
+
+        orderService.placeOrder(UserSession.getInstance().getCurrentUserId(),
+                items, cartManager.getTotals(), order -> {
+                    placeOrderButton.setEnabled(true);
+                    if (isFinishing() || isDestroyed()) {
+                        return;
+                    }
+                    if (order == null) {
+                        Toast.makeText(this, "Could not place your order, please try again",
+                                Toast.LENGTH_LONG).show();
+                        return;
+                    }
+                    onOrderPlaced(order, items, estimate);
+                });
+    }
+
+    /**
+     * Delivery estimate for the whole order: the slowest of its restaurants to the customer.
+     */
+    private int estimateEtaMinutes(List<CartItem> items) {
+        CatalogSnapshot catalog = CatalogRepository.getInstance().getSnapshot();
+        EtaEstimator estimator = AddisRoadNetwork.getEstimator();
+
+        int slowest = -1;
+        for (CartItem item : items) {
+            MenuItem menuItem = catalog.getMenuItem(item.getId());
+            Restaurant restaurant = menuItem == null
+                    ? null : catalog.getRestaurant(menuItem.getRestaurantId());
+            if (restaurant != null && restaurant.getLocation() != null) {
+                slowest = Math.max(slowest, estimator.estimateMinutes(
+                        restaurant.getLocation(), AddisRoadNetwork.DEFAULT_CUSTOMER_LOCATION));
+            }
+        }
+        return slowest > 0 ? slowest : FALLBACK_ETA_MINUTES;
+    }
+
+    private void onOrderPlaced(Order order, List<CartItem> items, int estimate) {
+        orderNumber = order.getOrderNumber();
+        orderPlacedAt = order.getCreatedAt();
+        etaMinutes = estimate;
 
         Toast.makeText(this,
                 "Order #" + orderNumber + " placed successfully!",
                 Toast.LENGTH_LONG).show();
 
-        cartManager.clearCart();
-        refreshCart();
+        // Only what was ordered: the cart may have changed while the order was written
+        cartManager.removeOrdered(items);
 
         Button trackOrderButton = findViewById(R.id.trackOrderButton);
         trackOrderButton.setEnabled(true);
@@ -187,9 +273,10 @@ public class CartActivity extends AppCompatActivity {
 
         SimpleDateFormat sdf = new SimpleDateFormat("h:mm a", Locale.getDefault());
         Calendar calendar = Calendar.getInstance();
-        calendar.add(Calendar.MINUTE, 15);
+        calendar.setTimeInMillis(orderPlacedAt);
+        calendar.add(Calendar.MINUTE, etaMinutes);
         intent.putExtra("ESTIMATED_TIME",
-                sdf.format(calendar.getTime()) + " (15min)");
+                sdf.format(calendar.getTime()) + " (" + etaMinutes + "min)");
 
         intent.putExtra("DRIVER_NAME", "Abebe Kebede");
         intent.putExtra("DRIVER_PHONE", "+251911223344");
@@ -198,6 +285,28 @@ public class CartActivity extends AppCompatActivity {
         startActivity(intent);
     }
 
+    /**
+     * Views of one cart row that change with the item's quantity.
+     */
+    static class CartRow {
+        final View view;
+        final ImageView photo;
+        final TextView quantity;
+        final TextView price;
+
+        CartRow(View view) {
+            this.view = view;
+            this.photo = view.findViewById(R.id.itemPhoto);
+            this.quantity = view.findViewById(R.id.itemQuantity);
+            this.price = view.findViewById(R.id.itemPrice);
+        }
+
+        void bind(CartItem item) {
+            quantity.setText(String.valueOf(item.getQuantity()));
+            price.setText("+ " + Money.format(item.getTotalPrice()));
+        }
+    }
+
     private String getEmojiForItem(String name) {
         name = name.toLowerCase();
         if (name.contains("burger")) return "🍔";
@@ -0,0 +1,67 @@
+package com.example.food_delivery_app;
+
+/**
+ * CartChange
+ * ----------
+ * One item-level change published by {@link CartManager}, keyed by the item's
+ * stable ID so a screen can update just that row.
+ */
+public final class CartChange {
+
+    public enum Type {
+        INSERTED,
+        CHANGED,
+        REMOVED
+    }
+
+    private final Type type;
+    private final String itemId;
+    private final CartItem item;
+    private final int position;
+
+    private CartChange(Type type, String itemId, CartItem item, int position) {
+        this.type = type;
+        this.itemId = itemId;
+        this.item = item;
+        this.position = position;
+    }
+
+    static CartChange inserted(CartItem item, int position) {
+        return new CartChange(Type.INSERTED, item.getId(), item, position);
+    }
+
+    static CartChange changed(CartItem item) {
+        return new CartChange(Type.CHANGED, item.getId(), item, -1);
+    }
+
+    static CartChange removed(String itemId) {
+        return new CartChange(Type.REMOVED, itemId, null, -1);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Copy of the item after the change; null for removals.
+     */
+    public CartItem getItem() {
+        return item;
+    }
+
+    /**
+     * Where an inserted item now sits in cart order; -1 for other changes.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + itemId + (item == null ? "" : " x" + item.getQuantity());
+    }
+}
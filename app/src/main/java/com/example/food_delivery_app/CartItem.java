@@ -1,25 +1,37 @@
 package com.example.food_delivery_app;
 
 public class CartItem {
+    private String id;
     private String name;
-    private String price;
+    private long price; // minor units, see Money
     private int quantity;
     private String imageUrl;
 
-    public CartItem(String name, String price, int quantity) {
-        this.name = name;
-        this.price = price;
-        this.quantity = quantity;
-        this.imageUrl = "";
+    public CartItem(String name, long price, int quantity) {
+        this(name, name, price, quantity, "");
+    }
+
+    public CartItem(String name, long price, int quantity, String imageUrl) {
+        this(name, name, price, quantity, imageUrl);
     }
 
-    public CartItem(String name, String price, int quantity, String imageUrl) {
+    public CartItem(String id, String name, long price, int quantity, String imageUrl) {
+        this.id = id;
         this.name = name;
         this.price = price;
         this.quantity = quantity;
         this.imageUrl = imageUrl;
     }
 
+    // Copy constructor, used to hand out cart snapshots
+    public CartItem(CartItem other) {
+        this(other.id, other.name, other.price, other.quantity, other.imageUrl);
+    }
+
+    public String getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
@@ -28,11 +40,11 @@ public class CartItem {
         this.name = name;
     }
 
-    public String getPrice() {
+    public long getPrice() {
         return price;
     }
 
-    public void setPrice(String price) {
+    public void setPrice(long price) {
         this.price = price;
     }
 
@@ -52,13 +64,8 @@ public class CartItem {
         this.imageUrl = imageUrl;
     }
 
-    public double getTotalPrice() {
-        try {
-            double priceValue = Double.parseDouble(price);
-            return priceValue * quantity;
-        } catch (NumberFormatException e) {
-            return 0.0;
-        }
+    public long getTotalPrice() {
+        return price * quantity;
     }
 
     public void increaseQuantity() {
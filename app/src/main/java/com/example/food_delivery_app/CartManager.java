@@ -1,18 +1,65 @@
 package com.example.food_delivery_app;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * CartManager
+ * -----------
+ * Process-wide cart keyed by item ID. All mutations are O(1) and keep the totals up to
+ * date, so reading the totals never walks the cart or parses a price. Readers get
+ * immutable snapshots and can be on any thread.
+ *
+ * Once a CartStore is attached the cart is persisted write-behind: mutations only mark it
+ * dirty, and one save of the latest snapshot runs on the disk thread after FLUSH_DELAY_MS,
+ * so a burst of +/- taps costs a single write.
+ *
+ * Listeners receive item-level changes (inserted, changed, removed) keyed by item ID, so a
+ * screen can update the affected rows instead of rebuilding the whole cart.
+ */
 public class CartManager {
     private static CartManager instance;
-    private List<CartItem> cartItems;
 
-    private CartManager() {
-        cartItems = new ArrayList<>();
-        // Add some sample items
-        cartItems.add(new CartItem("CheeseBurger", "350.00", 1));
-        cartItems.add(new CartItem("Coca-cola", "50.00", 1));
-        cartItems.add(new CartItem("Margherita Pizza", "420.00", 1));
+    public interface Listener {
+        // Called on the listener's executor, in the order the changes were made
+        void onCartChanged(List<CartChange> changes, CartTotals totals);
+    }
+
+    static final long FLUSH_DELAY_MS = 500;
+
+    // Time inside each public mutator, and how many of them changed the cart
+    private static final LatencyHistogram MUTATION_LATENCY =
+            MetricsRegistry.getInstance().histogram("cart.mutation");
+    private static final Counter MUTATIONS = MetricsRegistry.getInstance().counter("cart.mutations");
+    private static final LatencyHistogram SAVE_LATENCY =
+            MetricsRegistry.getInstance().histogram("cart.save");
+    private static final Counter SAVE_FAILURES =
+            MetricsRegistry.getInstance().counter("cart.save.failures");
+
+    // Insertion-ordered so the cart keeps the order items were added in
+    private final Map<String, CartItem> entries = new LinkedHashMap<>();
+    private long subtotal;
+
+    // Published on every mutation; read without locking
+    private volatile CartTotals totals = CartTotals.EMPTY;
+    private volatile List<CartItem> snapshot = Collections.emptyList();
+
+    // Write-behind persistence; store stays null until the saved cart has been restored
+    private CartStore store;
+    private ScheduledExecutorService storeExecutor;
+    private ScheduledFuture<?> pendingFlush;
+
+    private final Map<Listener, Executor> listeners = new LinkedHashMap<>();
+
+    CartManager() {
     }
 
     public static synchronized CartManager getInstance() {
@@ -22,54 +69,281 @@ public class CartManager {
         return instance;
     }
 
+    /**
+     * Returns an immutable snapshot of the cart in insertion order.
+     */
     public List<CartItem> getCartItems() {
-        return cartItems;
+        List<CartItem> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                List<CartItem> copy = new ArrayList<>(entries.size());
+                for (CartItem item : entries.values()) {
+                    copy.add(new CartItem(item));
+                }
+                snapshot = Collections.unmodifiableList(copy);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Registers a listener for every change made after this call.
+     *
+     * @return the cart as of registration, so the caller can render it without missing or
+     * double-applying a change
+     */
+    public synchronized List<CartItem> addListener(Listener listener, Executor executor) {
+        listeners.put(listener, executor);
+        return getCartItems();
+    }
+
+    public synchronized void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized CartItem getItem(String itemId) {
+        CartItem item = entries.get(itemId);
+        return item == null ? null : new CartItem(item);
+    }
+
+    /**
+     * Adds the item, or increases its quantity if an item with the same ID is already in the cart.
+     */
+    public synchronized void addItem(CartItem item) {
+        long start = System.nanoTime();
+        if (item.getQuantity() > 0) {
+            CartItem existing = entries.get(item.getId());
+            if (existing == null) {
+                entries.put(item.getId(), new CartItem(item));
+                subtotal += item.getTotalPrice();
+                publish(CartChange.inserted(new CartItem(item), entries.size() - 1));
+            } else {
+                setQuantity(existing, existing.getQuantity() + item.getQuantity());
+                publish(CartChange.changed(new CartItem(existing)));
+            }
+        }
+        MUTATION_LATENCY.recordSince(start);
+    }
+
+    public synchronized void removeItem(String itemId) {
+        long start = System.nanoTime();
+        remove(itemId);
+        MUTATION_LATENCY.recordSince(start);
+    }
+
+    /**
+     * Sets the quantity of an item; a quantity of zero or less removes it.
+     */
+    public synchronized void updateQuantity(String itemId, int quantity) {
+        long start = System.nanoTime();
+        changeQuantity(itemId, quantity);
+        MUTATION_LATENCY.recordSince(start);
+    }
+
+    public synchronized void increaseQuantity(String itemId) {
+        long start = System.nanoTime();
+        CartItem item = entries.get(itemId);
+        if (item != null) {
+            changeQuantity(itemId, item.getQuantity() + 1);
+        }
+        MUTATION_LATENCY.recordSince(start);
+    }
+
+    /**
+     * Decreases the quantity of an item, never below one.
+     */
+    public synchronized void decreaseQuantity(String itemId) {
+        long start = System.nanoTime();
+        CartItem item = entries.get(itemId);
+        if (item != null && item.getQuantity() > 1) {
+            changeQuantity(itemId, item.getQuantity() - 1);
+        }
+        MUTATION_LATENCY.recordSince(start);
+    }
+
+    public CartTotals getTotals() {
+        return totals;
+    }
+
+    public long calculateSubtotal() {
+        return totals.getSubtotal();
+    }
+
+    public long calculateTotal() {
+        return totals.getTotal();
     }
 
-    public void addItem(CartItem item) {
-        // Check if item already exists in cart
-        for (CartItem cartItem : cartItems) {
-            if (cartItem.getName().equals(item.getName())) {
-                cartItem.increaseQuantity();
-                return;
+    public synchronized void clearCart() {
+        long start = System.nanoTime();
+        List<CartChange> changes = new ArrayList<>(entries.size());
+        for (String itemId : entries.keySet()) {
+            changes.add(CartChange.removed(itemId));
+        }
+        entries.clear();
+        subtotal = 0;
+        publish(changes);
+        MUTATION_LATENCY.recordSince(start);
+    }
+
+    /**
+     * Takes the quantities of a placed order out of the cart. Items added, or quantities
+     * raised, while the order was being written stay in the cart.
+     */
+    public synchronized void removeOrdered(List<CartItem> ordered) {
+        long start = System.nanoTime();
+        List<CartChange> changes = new ArrayList<>(ordered.size());
+        for (CartItem line : ordered) {
+            CartItem item = entries.get(line.getId());
+            if (item == null) {
+                continue;
             }
+            int left = item.getQuantity() - line.getQuantity();
+            if (left > 0) {
+                setQuantity(item, left);
+                changes.add(CartChange.changed(new CartItem(item)));
+            } else {
+                entries.remove(line.getId());
+                subtotal -= item.getTotalPrice();
+                changes.add(CartChange.removed(line.getId()));
+            }
+        }
+        if (!changes.isEmpty()) {
+            publish(changes);
+        }
+        MUTATION_LATENCY.recordSince(start);
+    }
+
+    public synchronized int getItemCount() {
+        return entries.size();
+    }
+
+    private void remove(String itemId) {
+        CartItem removed = entries.remove(itemId);
+        if (removed != null) {
+            subtotal -= removed.getTotalPrice();
+            publish(CartChange.removed(itemId));
         }
-        // If not found, add new item
-        cartItems.add(item);
     }
 
-    public void removeItem(int position) {
-        if (position >= 0 && position < cartItems.size()) {
-            cartItems.remove(position);
+    private void changeQuantity(String itemId, int quantity) {
+        if (quantity <= 0) {
+            remove(itemId);
+            return;
         }
+        CartItem item = entries.get(itemId);
+        if (item != null && item.getQuantity() != quantity) {
+            setQuantity(item, quantity);
+            publish(CartChange.changed(new CartItem(item)));
+        }
+    }
+
+    private void setQuantity(CartItem item, int quantity) {
+        subtotal += item.getPrice() * (quantity - item.getQuantity());
+        item.setQuantity(quantity);
     }
 
-    public void updateQuantity(int position, int quantity) {
-        if (position >= 0 && position < cartItems.size()) {
-            cartItems.get(position).setQuantity(quantity);
+    /**
+     * Restores the saved cart on the given executor and persists every later change to the
+     * store. Items added before the restore finishes are kept, after the restored ones.
+     */
+    public void attachStore(CartStore cartStore, ScheduledExecutorService executor) {
+        executor.execute(() -> {
+            List<CartItem> saved = cartStore.load();
+            synchronized (this) {
+                boolean addedMeanwhile = !entries.isEmpty();
+                Map<String, CartItem> merged = new LinkedHashMap<>();
+                for (CartItem item : saved) {
+                    if (item.getQuantity() > 0) {
+                        merged.put(item.getId(), item);
+                    }
+                }
+                for (CartItem item : entries.values()) {
+                    CartItem existing = merged.get(item.getId());
+                    if (existing == null) {
+                        merged.put(item.getId(), item);
+                    } else {
+                        existing.setQuantity(existing.getQuantity() + item.getQuantity());
+                    }
+                }
+                // Restored items go first, so listeners get the cart re-laid out in full
+                List<CartChange> changes = new ArrayList<>(entries.size() + merged.size());
+                for (String itemId : entries.keySet()) {
+                    changes.add(CartChange.removed(itemId));
+                }
+                entries.clear();
+                entries.putAll(merged);
+                subtotal = 0;
+                int position = 0;
+                for (CartItem item : entries.values()) {
+                    subtotal += item.getTotalPrice();
+                    changes.add(CartChange.inserted(new CartItem(item), position++));
+                }
+
+                publish(changes);
+
+                store = cartStore;
+                storeExecutor = executor;
+                if (addedMeanwhile) {
+                    scheduleFlush();
+                }
+            }
+        });
+    }
+
+    /**
+     * Saves any pending changes now instead of waiting for the flush delay, e.g. when the app
+     * goes to the background.
+     */
+    public synchronized void flush() {
+        if (pendingFlush != null && pendingFlush.cancel(false)) {
+            pendingFlush = storeExecutor.schedule(this::writeSnapshot, 0, TimeUnit.MILLISECONDS);
         }
     }
 
-    public double calculateSubtotal() {
-        double subtotal = 0.0;
-        for (CartItem item : cartItems) {
-            subtotal += item.getTotalPrice();
+    private void writeSnapshot() {
+        List<CartItem> items;
+        synchronized (this) {
+            pendingFlush = null;
+            items = getCartItems();
+        }
+        long start = System.nanoTime();
+        try {
+            store.save(items);
+            SAVE_LATENCY.recordSince(start);
+        } catch (IOException e) {
+            // Keep the in-memory cart; the next change schedules another save
+            SAVE_FAILURES.increment();
         }
-        return subtotal;
     }
 
-    public double calculateTotal() {
-        double subtotal = calculateSubtotal();
-        double deliveryFee = 60.00;
-        double tax = subtotal * 0.15; // 15% tax
-        return subtotal + deliveryFee + tax;
+    private void publish(CartChange change) {
+        publish(Collections.singletonList(change));
     }
 
-    public void clearCart() {
-        cartItems.clear();
+    private void publish(List<CartChange> changes) {
+        MUTATIONS.increment();
+        CartTotals current = Pricing.price(subtotal);
+        totals = current;
+        snapshot = null;
+        scheduleFlush();
+
+        if (changes.isEmpty() || listeners.isEmpty()) {
+            return;
+        }
+        List<CartChange> published = Collections.unmodifiableList(changes);
+        for (Map.Entry<Listener, Executor> entry : listeners.entrySet()) {
+            Listener listener = entry.getKey();
+            entry.getValue().execute(() -> listener.onCartChanged(published, current));
+        }
     }
 
-    public int getItemCount() {
-        return cartItems.size();
+    private void scheduleFlush() {
+        if (store != null && pendingFlush == null) {
+            pendingFlush = storeExecutor.schedule(this::writeSnapshot,
+                    FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.example.food_delivery_app;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CartStore
+ * ---------
+ * Saves and loads cart snapshots from a single file.
+ * A save writes the whole cart to a temporary file, syncs it and renames it over the old one,
+ * so a crash mid-write leaves the previous cart intact. Not thread-safe; CartManager only
+ * calls it from the disk thread.
+ */
+public class CartStore {
+    private static final int FORMAT_VERSION = 1;
+
+    // Smallest saved line: three empty UTF strings, the price and the quantity
+    private static final int MIN_LINE_BYTES = 3 * 2 + 8 + 4;
+
+    private final File file;
+    private final File tempFile;
+
+    public CartStore(File file) {
+        this.file = file;
+        this.tempFile = new File(file.getPath() + ".tmp");
+    }
+
+    /**
+     * Returns the saved cart, or an empty list if there is none or it cannot be read.
+     */
+    public List<CartItem> load() {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return Collections.emptyList();
+            }
+            int count = in.readInt();
+            // A count the file is too short to hold means a damaged or truncated header
+            if (count < 0 || count > (file.length() - 8) / MIN_LINE_BYTES) {
+                throw new IOException("Corrupt cart: " + count + " lines");
+            }
+            List<CartItem> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readUTF();
+                String name = in.readUTF();
+                long price = in.readLong();
+                int quantity = in.readInt();
+                String imageUrl = in.readUTF();
+                items.add(new CartItem(id, name, price, quantity, imageUrl));
+            }
+            return items;
+        } catch (FileNotFoundException e) {
+            return Collections.emptyList();
+        } catch (IOException e) {
+            // A damaged cart is not worth failing startup over
+            return Collections.emptyList();
+        }
+    }
+
+    public void save(List<CartItem> items) throws IOException {
+        FileOutputStream fileOut = new FileOutputStream(tempFile);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(items.size());
+            for (CartItem item : items) {
+                out.writeUTF(item.getId());
+                out.writeUTF(item.getName());
+                out.writeLong(item.getPrice());
+                out.writeInt(item.getQuantity());
+                out.writeUTF(item.getImageUrl() == null ? "" : item.getImageUrl());
+            }
+            out.flush();
+            fileOut.getFD().sync();
+        }
+        if (!tempFile.renameTo(file)) {
+            tempFile.delete();
+            throw new IOException("Could not replace " + file);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.food_delivery_app;
+
+/**
+ * Immutable subtotal / fee / tax / total figures for one state of the cart,
+ * in minor units (see {@link Money}).
+ */
+public class CartTotals {
+    public static final CartTotals EMPTY = Pricing.price(0);
+
+    private final long subtotal;
+    private final long deliveryFee;
+    private final long tax;
+    private final long total;
+
+    public CartTotals(long subtotal, long deliveryFee, long tax, long total) {
+        this.subtotal = subtotal;
+        this.deliveryFee = deliveryFee;
+        this.tax = tax;
+        this.total = total;
+    }
+
+    public long getSubtotal() {
+        return subtotal;
+    }
+
+    public long getDeliveryFee() {
+        return deliveryFee;
+    }
+
+    public long getTax() {
+        return tax;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
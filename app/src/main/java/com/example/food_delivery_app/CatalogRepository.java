@@ -0,0 +1,122 @@
+package com.example.food_delivery_app;
+
+import java.util.List;
+
+/**
+ * CatalogRepository
+ * -----------------
+ * Process-wide holder of the restaurant catalog.
+ * The catalog is loaded lazily on first access and then shared by every
+ * screen, so opening a menu is a map lookup instead of a rebuild.
+ */
+public class CatalogRepository {
+    private static CatalogRepository instance;
+
+    private final CatalogSource source;
+    private volatile CatalogSnapshot snapshot;
+    // Opened on first use; replaced by the published restaurants after publish()
+    private RestaurantStore store;
+
+    CatalogRepository(CatalogSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Sets where the catalog comes from. Only takes effect before the first
+     * {@link #getInstance()}; afterwards the existing repository is kept.
+     */
+    public static synchronized void initialize(CatalogSource source) {
+        if (instance == null) {
+            instance = new CatalogRepository(source);
+        }
+    }
+
+    public static synchronized CatalogRepository getInstance() {
+        if (instance == null) {
+            instance = new CatalogRepository(new SampleCatalogSource());
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the current snapshot, loading the catalog on first use.
+     */
+    public CatalogSnapshot getSnapshot() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = new CatalogSnapshot(1, source.loadRestaurants());
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Positional access to the current restaurants, for feeds too long to hold.
+     * Reads straight from the source when it supports that, e.g. the mapped catalog
+     * file, without loading the snapshot. May open or generate files, so call it off
+     * the main thread.
+     */
+    public synchronized RestaurantStore getRestaurantStore() {
+        if (store == null) {
+            store = source.openStore();
+        }
+        if (store == null) {
+            store = new SnapshotStore(getSnapshot().getRestaurants());
+        }
+        return store;
+    }
+
+    /**
+     * Re-reads the source and publishes it as the next snapshot version.
+     */
+    public synchronized CatalogSnapshot reload() {
+        return publish(source.loadRestaurants());
+    }
+
+    /**
+     * Replaces the catalog with the given restaurants under a new version.
+     */
+    public synchronized CatalogSnapshot publish(List<Restaurant> restaurants) {
+        long nextVersion = snapshot == null ? 1 : snapshot.getVersion() + 1;
+        CatalogSnapshot next = new CatalogSnapshot(nextVersion, restaurants);
+        snapshot = next;
+        store = new SnapshotStore(next.getRestaurants());
+        return next;
+    }
+
+    /**
+     * Positional reads over restaurants that are already in memory.
+     */
+    private static final class SnapshotStore implements RestaurantStore {
+        private final List<Restaurant> restaurants;
+
+        SnapshotStore(List<Restaurant> restaurants) {
+            this.restaurants = restaurants;
+        }
+
+        @Override
+        public int getRestaurantCount() {
+            return restaurants.size();
+        }
+
+        @Override
+        public String getRestaurantName(int restaurant) {
+            return restaurants.get(restaurant).getName();
+        }
+
+        @Override
+        public String getRestaurantTags(int restaurant) {
+            return restaurants.get(restaurant).getTags();
+        }
+
+        @Override
+        public Restaurant toRestaurant(int restaurant) {
+            return restaurants.get(restaurant);
+        }
+    }
+}
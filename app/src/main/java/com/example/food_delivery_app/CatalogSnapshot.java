@@ -0,0 +1,86 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CatalogSnapshot
+ * ---------------
+ * Immutable, versioned view of the whole catalog.
+ * A new snapshot is published whenever the catalog changes, so readers
+ * can hold on to one without locking.
+ *
+ * The dish list and dish lookup are built on first use, so a snapshot of
+ * restaurants with lazily loaded menus stays cheap until a dish is needed.
+ */
+public class CatalogSnapshot {
+    private final long version;
+    private final List<Restaurant> restaurants;
+    private final Map<String, Restaurant> restaurantsById;
+
+    // Built together on first use
+    private volatile List<MenuItem> menuItems;
+    private Map<String, MenuItem> menuItemsById;
+
+    CatalogSnapshot(long version, List<Restaurant> restaurants) {
+        this.version = version;
+
+        Map<String, Restaurant> byId = new HashMap<>();
+        for (Restaurant restaurant : restaurants) {
+            byId.put(restaurant.getId(), restaurant);
+        }
+
+        this.restaurants = Collections.unmodifiableList(new ArrayList<>(restaurants));
+        this.restaurantsById = Collections.unmodifiableMap(byId);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Restaurant> getRestaurants() {
+        return restaurants;
+    }
+
+    public Restaurant getRestaurant(String restaurantId) {
+        return restaurantId == null ? null : restaurantsById.get(restaurantId);
+    }
+
+    /**
+     * Every dish of every restaurant, loading any menu not read yet.
+     */
+    public List<MenuItem> getMenuItems() {
+        List<MenuItem> items = menuItems;
+        return items != null ? items : loadMenus();
+    }
+
+    public MenuItem getMenuItem(String itemId) {
+        if (itemId == null) {
+            return null;
+        }
+        if (menuItems == null) {
+            loadMenus();
+        }
+        return menuItemsById.get(itemId);
+    }
+
+    private synchronized List<MenuItem> loadMenus() {
+        if (menuItems == null) {
+            List<MenuItem> items = new ArrayList<>();
+            Map<String, MenuItem> itemsById = new HashMap<>();
+            for (Restaurant restaurant : restaurants) {
+                for (MenuItem item : restaurant.getMenuItems()) {
+                    items.add(item);
+                    itemsById.put(item.getId(), item);
+                }
+            }
+            // The map is published by the volatile write that follows it
+            menuItemsById = Collections.unmodifiableMap(itemsById);
+            menuItems = Collections.unmodifiableList(items);
+        }
+        return menuItems;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.food_delivery_app;
+
+import java.util.List;
+
+/**
+ * Supplies the raw restaurant data that {@link CatalogRepository} turns into snapshots.
+ */
+public interface CatalogSource {
+
+    /**
+     * Loads every restaurant, in display order, together with its menu.
+     */
+    List<Restaurant> loadRestaurants();
+
+    /**
+     * Opens positional access to the restaurants without loading them all, or
+     * returns null if this source can only load everything at once.
+     */
+    default RestaurantStore openStore() {
+        return null;
+    }
+}
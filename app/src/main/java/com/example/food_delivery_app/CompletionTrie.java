@@ -0,0 +1,292 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CompletionTrie
+ * --------------
+ * Search box suggestions over restaurant names, dish names and tags.
+ *
+ * Every suggestion is inserted under its normalized text and under each of
+ * its later words, so "su" offers "Tokyo Sushi House" as well as "Sushi".
+ * When the trie is built, each node stores its k most popular completions.
+ * A lookup therefore walks the prefix and copies one list: its cost follows
+ * the length of the prefix, not the size of the catalog.
+ *
+ * Nodes are kept in flat arrays (edge label, first child, next sibling)
+ * instead of one object per node.
+ */
+public class CompletionTrie {
+
+    /** Suggestions offered for one prefix when no other limit is given. */
+    public static final int DEFAULT_LIMIT = 8;
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // Suggestion text in popularity order; completions refer to it by rank
+    private final String[] suggestions;
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+
+    // Completions of node n are ranks top[topStart[n]] .. top[topStart[n + 1] - 1]
+    private final int[] topStart;
+    private final int[] top;
+
+    private CompletionTrie(String[] suggestions, char[] labels, int[] firstChild,
+                           int[] nextSibling, int[] topStart, int[] top) {
+        this.suggestions = suggestions;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    /**
+     * Suggestions for a catalog snapshot. A suggestion is as popular as the number
+     * of catalog entries it leads to: a restaurant counts its dishes, a dish name
+     * the restaurants serving it, a tag the restaurants and dishes carrying it.
+     */
+    public static CompletionTrie forCatalog(CatalogSnapshot snapshot) {
+        Builder builder = new Builder();
+        for (Restaurant restaurant : snapshot.getRestaurants()) {
+            builder.add(restaurant.getName(), Math.max(1, restaurant.getMenuSize()));
+            addTags(builder, restaurant.getTags());
+        }
+        for (MenuItem dish : snapshot.getMenuItems()) {
+            builder.add(dish.getName(), 1);
+            addTags(builder, dish.getTags());
+        }
+        return builder.build(DEFAULT_LIMIT);
+    }
+
+    private static void addTags(Builder builder, String tags) {
+        if (tags == null) {
+            return;
+        }
+        for (String tag : tags.split(",")) {
+            builder.add(tag, 1);
+        }
+    }
+
+    /**
+     * Up to k suggestions whose text, or one of whose words, starts with the prefix,
+     * most popular first.
+     */
+    public List<String> complete(String prefix) {
+        String key = TextNormalizer.normalize(prefix);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int node = ROOT;
+        for (int i = 0; i < key.length() && node != NONE; i++) {
+            node = child(node, key.charAt(i));
+        }
+        if (node == NONE) {
+            return Collections.emptyList();
+        }
+
+        List<String> result = new ArrayList<>(topStart[node + 1] - topStart[node]);
+        for (int i = topStart[node]; i < topStart[node + 1]; i++) {
+            result.add(suggestions[top[i]]);
+        }
+        return result;
+    }
+
+    int getNodeCount() {
+        return labels.length;
+    }
+
+    public int getSuggestionCount() {
+        return suggestions.length;
+    }
+
+    private int child(int node, char label) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (labels[child] == label) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Collects suggestions and their popularity. Adding the same text twice,
+     * in any case or spacing, adds up its popularity.
+     */
+    public static class Builder {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> texts = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private long[] weights = new long[16];
+
+        public Builder add(String text, long popularity) {
+            String key = TextNormalizer.normalize(text);
+            if (key.isEmpty()) {
+                return this;
+            }
+
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = texts.size();
+                ids.put(key, id);
+                texts.add(text.trim());
+                keys.add(key);
+                if (id == weights.length) {
+                    weights = Arrays.copyOf(weights, id * 2);
+                }
+            }
+            weights[id] += popularity;
+            return this;
+        }
+
+        public CompletionTrie build(int limit) {
+            int count = texts.size();
+
+            // Rank suggestions once, so every per-node list is just its smallest ranks
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int byWeight = Long.compare(weights[b], weights[a]);
+                return byWeight != 0 ? byWeight : keys.get(a).compareTo(keys.get(b));
+            });
+            String[] suggestions = new String[count];
+            int[] rank = new int[count];
+            for (int r = 0; r < count; r++) {
+                suggestions[r] = texts.get(order[r]);
+                rank[order[r]] = r;
+            }
+
+            Nodes nodes = new Nodes();
+            for (int id = 0; id < count; id++) {
+                String key = keys.get(id);
+                for (int start = 0; start < key.length(); start++) {
+                    if (start == 0 || key.charAt(start - 1) == ' ') {
+                        nodes.insert(key, start, rank[id]);
+                    }
+                }
+            }
+
+            // Children are always created after their parent, so a reverse pass
+            // sees every child's list before the parent merges it
+            int[][] best = new int[nodes.size][];
+            IntList merged = new IntList();
+            for (int node = nodes.size - 1; node >= 0; node--) {
+                merged.size = 0;
+                IntList terminals = nodes.terminals[node];
+                for (int i = 0; terminals != null && i < terminals.size; i++) {
+                    merged.add(terminals.values[i]);
+                }
+                for (int child = nodes.firstChild[node]; child != NONE;
+                     child = nodes.nextSibling[child]) {
+                    for (int r : best[child]) {
+                        merged.add(r);
+                    }
+                }
+                best[node] = smallestDistinct(merged, limit);
+            }
+
+            int[] topStart = new int[nodes.size + 1];
+            for (int node = 0; node < nodes.size; node++) {
+                topStart[node + 1] = topStart[node] + best[node].length;
+            }
+            int[] top = new int[topStart[nodes.size]];
+            for (int node = 0; node < nodes.size; node++) {
+                System.arraycopy(best[node], 0, top, topStart[node], best[node].length);
+            }
+
+            return new CompletionTrie(suggestions,
+                    Arrays.copyOf(nodes.labels, nodes.size),
+                    Arrays.copyOf(nodes.firstChild, nodes.size),
+                    Arrays.copyOf(nodes.nextSibling, nodes.size),
+                    topStart, top);
+        }
+
+        private static int[] smallestDistinct(IntList values, int limit) {
+            int[] sorted = Arrays.copyOf(values.values, values.size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length && distinct < limit; i++) {
+                if (distinct == 0 || sorted[distinct - 1] != sorted[i]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+    }
+
+    /**
+     * Growable node arrays used while building.
+     */
+    private static class Nodes {
+        char[] labels = new char[64];
+        int[] firstChild = new int[64];
+        int[] nextSibling = new int[64];
+        // Ranks of the suggestions whose key ends at the node; null for most nodes
+        IntList[] terminals = new IntList[64];
+        int size;
+
+        Nodes() {
+            newNode('\0');
+        }
+
+        void insert(String key, int start, int rank) {
+            int node = ROOT;
+            for (int i = start; i < key.length(); i++) {
+                char label = key.charAt(i);
+                int child = firstChild[node];
+                while (child != NONE && labels[child] != label) {
+                    child = nextSibling[child];
+                }
+                if (child == NONE) {
+                    child = newNode(label);
+                    nextSibling[child] = firstChild[node];
+                    firstChild[node] = child;
+                }
+                node = child;
+            }
+            if (terminals[node] == null) {
+                terminals[node] = new IntList();
+            }
+            terminals[node].add(rank);
+        }
+
+        private int newNode(char label) {
+            if (size == labels.length) {
+                int capacity = size * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                terminals = Arrays.copyOf(terminals, capacity);
+            }
+            labels[size] = label;
+            firstChild[size] = NONE;
+            nextSibling[size] = NONE;
+            return size++;
+        }
+    }
+
+    private static class IntList {
+        int[] values = new int[2];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
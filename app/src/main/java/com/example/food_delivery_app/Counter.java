@@ -0,0 +1,35 @@
+package com.example.food_delivery_app;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free event counter from {@link MetricsRegistry}. Incrementing never allocates.
+ */
+public class Counter {
+    private final String name;
+    private final AtomicLong count = new AtomicLong();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    public void add(long delta) {
+        count.addAndGet(delta);
+    }
+
+    public long get() {
+        return count.get();
+    }
+
+    void reset() {
+        count.set(0);
+    }
+}
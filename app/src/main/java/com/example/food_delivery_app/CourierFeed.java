@@ -0,0 +1,19 @@
+package com.example.food_delivery_app;
+
+/**
+ * CourierFeed
+ * -----------
+ * Source of live courier positions for one order. SimulatedCourierFeed stands in
+ * until there is a real backend feed; anything implementing this can replace it.
+ */
+public interface CourierFeed {
+
+    interface Listener {
+        // Called on the feed's own thread, possibly many times per frame
+        void onLocation(CourierLocation location);
+    }
+
+    void start(Listener listener);
+
+    void stop();
+}
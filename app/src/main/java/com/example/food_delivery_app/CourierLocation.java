@@ -0,0 +1,28 @@
+package com.example.food_delivery_app;
+
+/**
+ * One position report from the courier feed.
+ */
+public class CourierLocation {
+    private final GeoPoint position;
+    private final long timestamp; // epoch millis
+    private final boolean delivered;
+
+    public CourierLocation(GeoPoint position, long timestamp, boolean delivered) {
+        this.position = position;
+        this.timestamp = timestamp;
+        this.delivered = delivered;
+    }
+
+    public GeoPoint getPosition() {
+        return position;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isDelivered() {
+        return delivered;
+    }
+}
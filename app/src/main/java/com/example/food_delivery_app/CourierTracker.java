@@ -0,0 +1,75 @@
+package com.example.food_delivery_app;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CourierTracker
+ * --------------
+ * Sits between a CourierFeed and the tracking screen.
+ * The feed writes into a single latest-position slot and never waits, however fast it
+ * reports; positions the screen has not picked up yet are simply replaced (coalesced), so
+ * memory stays constant and the screen always draws the newest one. The screen polls at
+ * its own fixed rate.
+ */
+public class CourierTracker implements CourierFeed.Listener {
+    // Typical city speed for a scooter, used to turn distance into an ETA
+    static final double AVERAGE_SPEED_METERS_PER_SECOND = 6.0;
+
+    private final GeoPoint destination;
+    private final AtomicReference<CourierLocation> latest = new AtomicReference<>();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public CourierTracker(GeoPoint destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public void onLocation(CourierLocation location) {
+        received.incrementAndGet();
+        CourierLocation previous;
+        do {
+            previous = latest.get();
+            if (previous != null && previous.getTimestamp() > location.getTimestamp()) {
+                // Out of order; the newer one is already waiting
+                coalesced.incrementAndGet();
+                return;
+            }
+        } while (!latest.compareAndSet(previous, location));
+
+        if (previous != null) {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    /**
+     * Takes the newest position reported since the last poll and returns what to show for it,
+     * or null if nothing new arrived.
+     */
+    public TrackingState poll() {
+        CourierLocation location = latest.getAndSet(null);
+        if (location == null) {
+            return null;
+        }
+        return stateFor(location);
+    }
+
+    TrackingState stateFor(CourierLocation location) {
+        if (location.isDelivered()) {
+            return new TrackingState(0, 0, true);
+        }
+        double meters = location.getPosition().distanceTo(destination);
+        int etaMinutes = (int) Math.ceil(meters / AVERAGE_SPEED_METERS_PER_SECOND / 60);
+        return new TrackingState(etaMinutes, (int) Math.round(meters / 100), false);
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    // Positions replaced before the screen picked them up
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+}
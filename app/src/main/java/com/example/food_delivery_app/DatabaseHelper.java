@@ -5,155 +5,462 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
-import android.util.Patterns;
+import android.database.sqlite.SQLiteStatement;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DatabaseHelper
+ * --------------
+ * Process-wide access to the app database.
+ * The connection is opened once and kept open for the life of the process,
+ * write-ahead logging lets reads run alongside writes, and the hot lookups
+ * reuse precompiled statements instead of re-preparing SQL on every call.
+ */
 public class DatabaseHelper extends SQLiteOpenHelper {
 
     private static final String DATABASE_NAME = "FoodDeliveryApp.db";
-    private static final int DATABASE_VERSION = 1;
-
-    // Users table
-    private static final String TABLE_USERS = "users";
-    private static final String COLUMN_ID = "id";
-    private static final String COLUMN_FULL_NAME = "full_name";
-    private static final String COLUMN_EMAIL = "email";
-    private static final String COLUMN_PHONE = "phone";
-    private static final String COLUMN_PASSWORD = "password";
-    private static final String COLUMN_CREATED_AT = "created_at";
-
-    public DatabaseHelper(Context context) {
+    private static final int DATABASE_VERSION = 3;
+
+    private static final LatencyHistogram AUTHENTICATE_LATENCY =
+            MetricsRegistry.getInstance().histogram("db.authenticate");
+    private static final LatencyHistogram EMAIL_EXISTS_LATENCY =
+            MetricsRegistry.getInstance().histogram("db.email_exists");
+    private static final LatencyHistogram USER_BY_EMAIL_LATENCY =
+            MetricsRegistry.getInstance().histogram("db.user_by_email");
+    private static final LatencyHistogram LOGIN_LATENCY =
+            MetricsRegistry.getInstance().histogram("db.login");
+    private static final LatencyHistogram PLACE_ORDER_LATENCY =
+            MetricsRegistry.getInstance().histogram("db.place_order");
+
+    private static DatabaseHelper instance;
+
+    // Compiled on first use and reused for the life of the connection
+    private SQLiteStatement authenticateStatement;
+    private SQLiteStatement emailExistsStatement;
+    private SQLiteStatement phoneExistsStatement;
+    private SQLiteStatement insertOrderStatement;
+    private SQLiteStatement insertOrderItemStatement;
+
+    private DatabaseHelper(Context context) {
         super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        setWriteAheadLoggingEnabled(true);
+    }
+
+    public static synchronized DatabaseHelper getInstance(Context context) {
+        if (instance == null) {
+            // Application context, so the helper never holds on to an Activity
+            instance = new DatabaseHelper(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        // Deleting an order removes its line items
+        db.setForeignKeyConstraintsEnabled(true);
     }
 
     @Override
     public void onCreate(SQLiteDatabase db) {
         // Create users table
-        String CREATE_USERS_TABLE = "CREATE TABLE " + TABLE_USERS + "("
-                + COLUMN_ID + " INTEGER PRIMARY KEY AUTOINCREMENT,"
-                + COLUMN_FULL_NAME + " TEXT NOT NULL,"
-                + COLUMN_EMAIL + " TEXT UNIQUE,"  // Make email unique
-                + COLUMN_PHONE + " TEXT,"
-                + COLUMN_PASSWORD + " TEXT NOT NULL,"
-                + COLUMN_CREATED_AT + " DATETIME DEFAULT CURRENT_TIMESTAMP"
-                + ")";
-        db.execSQL(CREATE_USERS_TABLE);
+        db.execSQL(DatabaseSchema.SQL_CREATE_USERS);
+        db.execSQL(DatabaseSchema.SQL_CREATE_USERS_PHONE_INDEX);
+        createOrderTables(db);
 
         // Add a test user for debugging
         addTestUser(db);
     }
 
+    private void createOrderTables(SQLiteDatabase db) {
+        db.execSQL(DatabaseSchema.SQL_CREATE_ORDERS);
+        db.execSQL(DatabaseSchema.SQL_CREATE_ORDERS_USER_INDEX);
+        db.execSQL(DatabaseSchema.SQL_CREATE_ORDER_ITEMS);
+    }
+
     private void addTestUser(SQLiteDatabase db) {
         ContentValues values = new ContentValues();
-        values.put(COLUMN_FULL_NAME, "Test User");
-        values.put(COLUMN_EMAIL, "test@test.com");
-        values.put(COLUMN_PHONE, "1234567890");
-        values.put(COLUMN_PASSWORD, "test123");
-        db.insert(TABLE_USERS, null, values);
+        values.put(DatabaseSchema.COLUMN_FULL_NAME, "Test User");
+        values.put(DatabaseSchema.COLUMN_EMAIL, "test@test.com");
+        values.put(DatabaseSchema.COLUMN_PHONE, PhoneNumbers.normalize("1234567890"));
+        values.put(DatabaseSchema.COLUMN_PASSWORD, "test123");
+        db.insert(DatabaseSchema.TABLE_USERS, null, values);
     }
 
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        db.execSQL("DROP TABLE IF EXISTS " + TABLE_USERS);
-        onCreate(db);
+        // Step through each version so existing accounts are kept
+        if (oldVersion < 2) {
+            createOrderTables(db);
+        }
+        if (oldVersion < 3) {
+            indexPhoneNumbers(db);
+        }
+    }
+
+    /**
+     * Rewrites every stored phone in canonical form and adds the unique phone index.
+     * Blank or unparseable phones become NULL. If two accounts share a number, the
+     * older account keeps it and the newer one's phone is cleared.
+     * Runs inside the upgrade transaction, so a failure leaves version 2 intact.
+     */
+    private void indexPhoneNumbers(SQLiteDatabase db) {
+        // Read every row before the first update: a cursor refills its window by
+        // re-running the query, so rows changed under it would be skipped
+        List<Long> ids = new ArrayList<>();
+        List<String> stored = new ArrayList<>();
+        Cursor cursor = db.rawQuery(DatabaseSchema.SQL_SELECT_PHONES, null);
+        try {
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getLong(0));
+                stored.add(cursor.getString(1));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        String[] phones = PhoneNumbers.canonicalForUniqueIndex(stored.toArray(new String[0]));
+        SQLiteStatement update = db.compileStatement(DatabaseSchema.SQL_UPDATE_PHONE);
+        try {
+            for (int i = 0; i < phones.length; i++) {
+                if (phones[i] == null) {
+                    update.bindNull(1);
+                } else if (!phones[i].equals(stored.get(i))) {
+                    update.bindString(1, phones[i]);
+                } else {
+                    continue;
+                }
+                update.bindLong(2, ids.get(i));
+                update.executeUpdateDelete();
+                update.clearBindings();
+            }
+        } finally {
+            update.close();
+        }
+        db.execSQL(DatabaseSchema.SQL_CREATE_USERS_PHONE_INDEX);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (authenticateStatement != null) {
+            authenticateStatement.close();
+            authenticateStatement = null;
+        }
+        if (emailExistsStatement != null) {
+            emailExistsStatement.close();
+            emailExistsStatement = null;
+        }
+        if (phoneExistsStatement != null) {
+            phoneExistsStatement.close();
+            phoneExistsStatement = null;
+        }
+        if (insertOrderStatement != null) {
+            insertOrderStatement.close();
+            insertOrderStatement = null;
+        }
+        if (insertOrderItemStatement != null) {
+            insertOrderItemStatement.close();
+            insertOrderItemStatement = null;
+        }
+        super.close();
     }
 
-    // SIMPLIFIED: Add new user (for registration)
-    public boolean addUser(String fullName, String email, String password) {
+    // SIMPLIFIED: Add new user (for registration), identified by email or phone
+    public boolean addUser(String fullName, String identifier, String password) {
         SQLiteDatabase db = this.getWritableDatabase();
         ContentValues values = new ContentValues();
 
-        values.put(COLUMN_FULL_NAME, fullName);
-        values.put(COLUMN_EMAIL, email);
-        values.put(COLUMN_PASSWORD, password);
-        values.put(COLUMN_PHONE, ""); // Empty phone by default
+        values.put(DatabaseSchema.COLUMN_FULL_NAME, fullName);
+        values.put(DatabaseSchema.COLUMN_PASSWORD, password);
+        if (isEmail(identifier)) {
+            values.put(DatabaseSchema.COLUMN_EMAIL, identifier);
+        } else {
+            String phone = PhoneNumbers.normalize(identifier);
+            if (phone == null) {
+                return false;
+            }
+            values.put(DatabaseSchema.COLUMN_PHONE, phone);
+        }
 
-        long result = db.insert(TABLE_USERS, null, values);
-        db.close();
+        long result = db.insert(DatabaseSchema.TABLE_USERS, null, values);
 
         return result != -1;
     }
 
     // SIMPLIFIED: Authenticate user
     public boolean authenticateUser(String email, String password) {
-        SQLiteDatabase db = this.getReadableDatabase();
-
-        String[] columns = {COLUMN_ID};
-        String selection = COLUMN_EMAIL + " = ? AND " + COLUMN_PASSWORD + " = ?";
-        String[] selectionArgs = {email, password};
-
-        Cursor cursor = db.query(
-                TABLE_USERS,
-                columns,
-                selection,
-                selectionArgs,
-                null, null, null
-        );
+        long start = System.nanoTime();
+        SQLiteStatement statement = getAuthenticateStatement();
 
-        int count = cursor.getCount();
-        cursor.close();
-        db.close();
-
-        return count > 0;
+        // Bindings live on the statement, so one caller at a time
+        synchronized (statement) {
+            statement.bindString(1, email);
+            statement.bindString(2, password);
+            long count = statement.simpleQueryForLong();
+            statement.clearBindings();
+            AUTHENTICATE_LATENCY.recordSince(start);
+            return count > 0;
+        }
     }
 
     // Check if email exists
     public boolean checkEmailExists(String email) {
-        SQLiteDatabase db = this.getReadableDatabase();
+        long start = System.nanoTime();
+        SQLiteStatement statement = getEmailExistsStatement();
 
-        String[] columns = {COLUMN_ID};
-        String selection = COLUMN_EMAIL + " = ?";
-        String[] selectionArgs = {email};
-
-        Cursor cursor = db.query(
-                TABLE_USERS,
-                columns,
-                selection,
-                selectionArgs,
-                null, null, null
-        );
+        synchronized (statement) {
+            statement.bindString(1, email);
+            long count = statement.simpleQueryForLong();
+            statement.clearBindings();
+            EMAIL_EXISTS_LATENCY.recordSince(start);
+            return count > 0;
+        }
+    }
 
-        int count = cursor.getCount();
-        cursor.close();
-        db.close();
+    /**
+     * Whether an account exists for the email or phone number, in one indexed lookup.
+     */
+    public boolean checkAccountExists(String identifier) {
+        if (isEmail(identifier)) {
+            return checkEmailExists(identifier);
+        }
+        String phone = PhoneNumbers.normalize(identifier);
+        if (phone == null) {
+            return false;
+        }
 
-        return count > 0;
+        SQLiteStatement statement = getPhoneExistsStatement();
+        synchronized (statement) {
+            statement.bindString(1, phone);
+            long count = statement.simpleQueryForLong();
+            statement.clearBindings();
+            return count > 0;
+        }
     }
 
     // Get user by email
     public User getUserByEmail(String email) {
+        long start = System.nanoTime();
         SQLiteDatabase db = this.getReadableDatabase();
 
-        String[] columns = {COLUMN_ID, COLUMN_FULL_NAME, COLUMN_EMAIL, COLUMN_PHONE};
-        String selection = COLUMN_EMAIL + " = ?";
-        String[] selectionArgs = {email};
-
-        Cursor cursor = db.query(
-                TABLE_USERS,
-                columns,
-                selection,
-                selectionArgs,
-                null, null, null
-        );
+        // The connection caches the prepared statement for this SQL string
+        Cursor cursor = db.rawQuery(DatabaseSchema.SQL_USER_BY_EMAIL, new String[]{email});
 
         User user = null;
-        if (cursor != null && cursor.moveToFirst()) {
-            int idIndex = cursor.getColumnIndex(COLUMN_ID);
-            int nameIndex = cursor.getColumnIndex(COLUMN_FULL_NAME);
-            int emailIndex = cursor.getColumnIndex(COLUMN_EMAIL);
-            int phoneIndex = cursor.getColumnIndex(COLUMN_PHONE);
-
-            if (idIndex != -1 && nameIndex != -1 && emailIndex != -1 && phoneIndex != -1) {
+        try {
+            if (cursor.moveToFirst()) {
                 user = new User(
-                        cursor.getInt(idIndex),
-                        cursor.getString(nameIndex),
-                        cursor.getString(emailIndex),
-                        cursor.getString(phoneIndex)
+                        cursor.getInt(0),
+                        cursor.getString(1),
+                        cursor.getString(2),
+                        cursor.getString(3)
                 );
             }
+        } finally {
             cursor.close();
+            USER_BY_EMAIL_LATENCY.recordSince(start);
         }
-        db.close();
 
         return user;
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolves the user row by email or phone number and verifies the password in a
+     * single indexed query.
+     */
+    public LoginResult login(String identifier, String password) {
+        long start = System.nanoTime();
+        SQLiteDatabase db = this.getReadableDatabase();
+
+        Cursor cursor;
+        if (isEmail(identifier)) {
+            cursor = db.rawQuery(DatabaseSchema.SQL_LOGIN, new String[]{identifier});
+        } else {
+            String phone = PhoneNumbers.normalize(identifier);
+            if (phone == null) {
+                LOGIN_LATENCY.recordSince(start);
+                return LoginResult.unknownUser();
+            }
+            cursor = db.rawQuery(DatabaseSchema.SQL_LOGIN_BY_PHONE, new String[]{phone});
+        }
+        try {
+            if (!cursor.moveToFirst()) {
+                return LoginResult.unknownUser();
+            }
+            if (!passwordMatches(cursor.getString(4), password)) {
+                return LoginResult.wrongPassword();
+            }
+            return LoginResult.success(new User(
+                    cursor.getInt(0),
+                    cursor.getString(1),
+                    cursor.getString(2),
+                    cursor.getString(3)
+            ));
+        } finally {
+            cursor.close();
+            LOGIN_LATENCY.recordSince(start);
+        }
+    }
+
+    /**
+     * Records an order and all of its lines in one transaction, reusing the same two
+     * compiled inserts for every row. Returns the stored order, or null if nothing was written.
+     */
+    public Order placeOrder(long userId, List<CartItem> items, CartTotals totals) {
+        long start = System.nanoTime();
+        SQLiteDatabase db = getWritableDatabase();
+        SQLiteStatement insertOrder = getInsertOrderStatement();
+        SQLiteStatement insertItem = getInsertOrderItemStatement();
+
+        String orderNumber = Order.newOrderNumber();
+        long createdAt = System.currentTimeMillis();
+
+        synchronized (insertOrder) {
+            db.beginTransaction();
+            try {
+                bind(insertOrder, DatabaseSchema.orderValues(orderNumber, userId, createdAt,
+                        totals, items.size()));
+                long orderId = insertOrder.executeInsert();
+                if (orderId == -1) {
+                    return null;
+                }
+
+                int line = 0;
+                for (CartItem item : items) {
+                    bind(insertItem, DatabaseSchema.orderItemValues(orderId, line++, item));
+                    if (insertItem.executeInsert() == -1) {
+                        return null;
+                    }
+                }
+
+                db.setTransactionSuccessful();
+                return new Order(orderId, orderNumber, userId, createdAt, totals, items.size());
+            } finally {
+                insertOrder.clearBindings();
+                insertItem.clearBindings();
+                db.endTransaction();
+                PLACE_ORDER_LATENCY.recordSince(start);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the user's orders, newest first, that come after
+     * {@code after} (the last order of the previous page, or null for the first page).
+     * Each page is an index seek, so its cost does not grow with the number of older orders.
+     */
+    public List<Order> getOrderHistory(long userId, Order after, int limit) {
+        SQLiteDatabase db = this.getReadableDatabase();
+
+        Cursor cursor = db.rawQuery(DatabaseSchema.orderHistorySql(after),
+                DatabaseSchema.orderHistoryArgs(userId, after, limit));
+
+        List<Order> orders = new ArrayList<>(limit);
+        try {
+            while (cursor.moveToNext()) {
+                orders.add(new Order(
+                        cursor.getLong(0),
+                        cursor.getString(1),
+                        cursor.getLong(2),
+                        cursor.getLong(3),
+                        new CartTotals(cursor.getLong(4), cursor.getLong(5),
+                                cursor.getLong(6), cursor.getLong(7)),
+                        cursor.getInt(8)
+                ));
+            }
+        } finally {
+            cursor.close();
+        }
+        return orders;
+    }
+
+    public List<CartItem> getOrderItems(long orderId) {
+        SQLiteDatabase db = this.getReadableDatabase();
+
+        Cursor cursor = db.rawQuery(DatabaseSchema.SQL_ORDER_ITEMS,
+                new String[]{String.valueOf(orderId)});
+        List<CartItem> items = new ArrayList<>();
+        try {
+            while (cursor.moveToNext()) {
+                items.add(new CartItem(
+                        cursor.getString(0),
+                        cursor.getString(1),
+                        cursor.getLong(2),
+                        cursor.getInt(3),
+                        ""
+                ));
+            }
+        } finally {
+            cursor.close();
+        }
+        return items;
+    }
+
+    // Values are Strings or Longs, as built by DatabaseSchema
+    private static void bind(SQLiteStatement statement, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof String) {
+                statement.bindString(i + 1, (String) values[i]);
+            } else {
+                statement.bindLong(i + 1, (Long) values[i]);
+            }
+        }
+    }
+
+    private static boolean isEmail(String identifier) {
+        return identifier != null && identifier.indexOf('@') >= 0;
+    }
+
+    // Constant-time comparison so response time does not leak how much matched
+    private static boolean passwordMatches(String stored, String candidate) {
+        if (stored == null || candidate == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                stored.getBytes(StandardCharsets.UTF_8),
+                candidate.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private synchronized SQLiteStatement getAuthenticateStatement() {
+        if (authenticateStatement == null) {
+            authenticateStatement = getReadableDatabase()
+                    .compileStatement(DatabaseSchema.SQL_AUTHENTICATE);
+        }
+        return authenticateStatement;
+    }
+
+    private synchronized SQLiteStatement getEmailExistsStatement() {
+        if (emailExistsStatement == null) {
+            emailExistsStatement = getReadableDatabase()
+                    .compileStatement(DatabaseSchema.SQL_EMAIL_EXISTS);
+        }
+        return emailExistsStatement;
+    }
+
+    private synchronized SQLiteStatement getPhoneExistsStatement() {
+        if (phoneExistsStatement == null) {
+            phoneExistsStatement = getReadableDatabase()
+                    .compileStatement(DatabaseSchema.SQL_PHONE_EXISTS);
+        }
+        return phoneExistsStatement;
+    }
+
+    private synchronized SQLiteStatement getInsertOrderStatement() {
+        if (insertOrderStatement == null) {
+            insertOrderStatement = getWritableDatabase()
+                    .compileStatement(DatabaseSchema.SQL_INSERT_ORDER);
+        }
+        return insertOrderStatement;
+    }
+
+    private synchronized SQLiteStatement getInsertOrderItemStatement() {
+        if (insertOrderItemStatement == null) {
+            insertOrderItemStatement = getWritableDatabase()
+                    .compileStatement(DatabaseSchema.SQL_INSERT_ORDER_ITEM);
+        }
+        return insertOrderItemStatement;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.food_delivery_app;
+
+/**
+ * DatabaseSchema
+ * --------------
+ * Tables and SQL of the app database. Kept free of Android types, so the JVM
+ * tests and benchmarks run exactly the statements DatabaseHelper does.
+ */
+final class DatabaseSchema {
+
+    // Users table
+    static final String TABLE_USERS = "users";
+    static final String COLUMN_ID = "id";
+    static final String COLUMN_FULL_NAME = "full_name";
+    static final String COLUMN_EMAIL = "email";
+    static final String COLUMN_PHONE = "phone";
+    static final String COLUMN_PASSWORD = "password";
+    static final String COLUMN_CREATED_AT = "created_at";
+
+    static final String SQL_CREATE_USERS = "CREATE TABLE " + TABLE_USERS + "("
+            + COLUMN_ID + " INTEGER PRIMARY KEY AUTOINCREMENT,"
+            + COLUMN_FULL_NAME + " TEXT NOT NULL,"
+            + COLUMN_EMAIL + " TEXT UNIQUE,"  // Make email unique
+            + COLUMN_PHONE + " TEXT,"
+            + COLUMN_PASSWORD + " TEXT NOT NULL,"
+            + COLUMN_CREATED_AT + " DATETIME DEFAULT CURRENT_TIMESTAMP"
+            + ")";
+
+    // Phones are stored in PhoneNumbers' canonical form, or NULL; NULLs don't collide
+    static final String SQL_CREATE_USERS_PHONE_INDEX = "CREATE UNIQUE INDEX idx_users_phone ON "
+            + TABLE_USERS + "(" + COLUMN_PHONE + ")";
+
+    // Version 3 migration: rewrite stored phones in canonical form before indexing them
+    static final String SQL_SELECT_PHONES = "SELECT " + COLUMN_ID + ", " + COLUMN_PHONE
+            + " FROM " + TABLE_USERS + " WHERE " + COLUMN_PHONE + " IS NOT NULL"
+            + " ORDER BY " + COLUMN_ID;
+
+    static final String SQL_UPDATE_PHONE = "UPDATE " + TABLE_USERS + " SET " + COLUMN_PHONE
+            + " = ? WHERE " + COLUMN_ID + " = ?";
+
+    static final String SQL_AUTHENTICATE = "SELECT COUNT(*) FROM " + TABLE_USERS
+            + " WHERE " + COLUMN_EMAIL + " = ? AND " + COLUMN_PASSWORD + " = ?";
+
+    static final String SQL_EMAIL_EXISTS = "SELECT COUNT(*) FROM " + TABLE_USERS
+            + " WHERE " + COLUMN_EMAIL + " = ?";
+
+    static final String SQL_PHONE_EXISTS = "SELECT COUNT(*) FROM " + TABLE_USERS
+            + " WHERE " + COLUMN_PHONE + " = ?";
+
+    // Column order is fixed so rows can be read by position
+    static final String SQL_USER_BY_EMAIL = "SELECT "
+            + COLUMN_ID + ", " + COLUMN_FULL_NAME + ", " + COLUMN_EMAIL + ", " + COLUMN_PHONE
+            + " FROM " + TABLE_USERS + " WHERE " + COLUMN_EMAIL + " = ?";
+
+    // One round trip per login: the password is checked in Java against the row
+    private static final String LOGIN_COLUMNS = COLUMN_ID + ", " + COLUMN_FULL_NAME + ", "
+            + COLUMN_EMAIL + ", " + COLUMN_PHONE + ", " + COLUMN_PASSWORD;
+
+    static final String SQL_LOGIN = "SELECT " + LOGIN_COLUMNS
+            + " FROM " + TABLE_USERS + " WHERE " + COLUMN_EMAIL + " = ?";
+
+    static final String SQL_LOGIN_BY_PHONE = "SELECT " + LOGIN_COLUMNS
+            + " FROM " + TABLE_USERS + " WHERE " + COLUMN_PHONE + " = ?";
+
+    // Orders table (version 2)
+    static final String TABLE_ORDERS = "orders";
+    static final String COLUMN_ORDER_NUMBER = "order_number";
+    static final String COLUMN_USER_ID = "user_id";
+    static final String COLUMN_SUBTOTAL = "subtotal";
+    static final String COLUMN_DELIVERY_FEE = "delivery_fee";
+    static final String COLUMN_TAX = "tax";
+    static final String COLUMN_TOTAL = "total";
+    static final String COLUMN_ITEM_COUNT = "item_count";
+
+    // Order items table (version 2)
+    static final String TABLE_ORDER_ITEMS = "order_items";
+    static final String COLUMN_ORDER_ID = "order_id";
+    static final String COLUMN_LINE = "line";
+    static final String COLUMN_ITEM_ID = "item_id";
+    static final String COLUMN_NAME = "name";
+    static final String COLUMN_PRICE = "price";
+    static final String COLUMN_QUANTITY = "quantity";
+
+    // Amounts are minor units; created_at is epoch millis
+    static final String SQL_CREATE_ORDERS = "CREATE TABLE " + TABLE_ORDERS + "("
+            + COLUMN_ID + " INTEGER PRIMARY KEY AUTOINCREMENT,"
+            + COLUMN_ORDER_NUMBER + " TEXT NOT NULL UNIQUE,"
+            + COLUMN_USER_ID + " INTEGER NOT NULL,"
+            + COLUMN_CREATED_AT + " INTEGER NOT NULL,"
+            + COLUMN_SUBTOTAL + " INTEGER NOT NULL,"
+            + COLUMN_DELIVERY_FEE + " INTEGER NOT NULL,"
+            + COLUMN_TAX + " INTEGER NOT NULL,"
+            + COLUMN_TOTAL + " INTEGER NOT NULL,"
+            + COLUMN_ITEM_COUNT + " INTEGER NOT NULL"
+            + ")";
+
+    // History is always read per user, newest first; the rowid breaks created_at ties
+    static final String SQL_CREATE_ORDERS_USER_INDEX = "CREATE INDEX idx_orders_user_created ON "
+            + TABLE_ORDERS + "(" + COLUMN_USER_ID + ", " + COLUMN_CREATED_AT + ")";
+
+    static final String SQL_CREATE_ORDER_ITEMS = "CREATE TABLE " + TABLE_ORDER_ITEMS + "("
+            + COLUMN_ORDER_ID + " INTEGER NOT NULL REFERENCES " + TABLE_ORDERS
+            + "(" + COLUMN_ID + ") ON DELETE CASCADE,"
+            + COLUMN_LINE + " INTEGER NOT NULL,"
+            + COLUMN_ITEM_ID + " TEXT NOT NULL,"
+            + COLUMN_NAME + " TEXT NOT NULL,"
+            + COLUMN_PRICE + " INTEGER NOT NULL,"
+            + COLUMN_QUANTITY + " INTEGER NOT NULL,"
+            + "PRIMARY KEY (" + COLUMN_ORDER_ID + ", " + COLUMN_LINE + ")"
+            + ")";
+
+    static final String SQL_INSERT_ORDER = "INSERT INTO " + TABLE_ORDERS + "("
+            + COLUMN_ORDER_NUMBER + ", " + COLUMN_USER_ID + ", " + COLUMN_CREATED_AT + ", "
+            + COLUMN_SUBTOTAL + ", " + COLUMN_DELIVERY_FEE + ", " + COLUMN_TAX + ", "
+            + COLUMN_TOTAL + ", " + COLUMN_ITEM_COUNT + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String SQL_INSERT_ORDER_ITEM = "INSERT INTO " + TABLE_ORDER_ITEMS + "("
+            + COLUMN_ORDER_ID + ", " + COLUMN_LINE + ", " + COLUMN_ITEM_ID + ", "
+            + COLUMN_NAME + ", " + COLUMN_PRICE + ", " + COLUMN_QUANTITY
+            + ") VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Column order is fixed so rows can be read by position, see getOrderHistory
+    private static final String ORDER_COLUMNS = COLUMN_ID + ", " + COLUMN_ORDER_NUMBER + ", "
+            + COLUMN_USER_ID + ", " + COLUMN_CREATED_AT + ", " + COLUMN_SUBTOTAL + ", "
+            + COLUMN_DELIVERY_FEE + ", " + COLUMN_TAX + ", " + COLUMN_TOTAL + ", "
+            + COLUMN_ITEM_COUNT;
+
+    private static final String ORDER_HISTORY_ORDER_BY = " ORDER BY " + COLUMN_CREATED_AT
+            + " DESC, " + COLUMN_ID + " DESC LIMIT ?";
+
+    static final String SQL_ORDER_HISTORY_FIRST_PAGE = "SELECT " + ORDER_COLUMNS
+            + " FROM " + TABLE_ORDERS + " WHERE " + COLUMN_USER_ID + " = ?"
+            + ORDER_HISTORY_ORDER_BY;
+
+    // Keyset page: orders strictly after (created_at, id) of the last row already shown.
+    // created_at <= ? is the index range; the OR only drops ties that were already shown.
+    static final String SQL_ORDER_HISTORY_PAGE = "SELECT " + ORDER_COLUMNS
+            + " FROM " + TABLE_ORDERS + " WHERE " + COLUMN_USER_ID + " = ?"
+            + " AND " + COLUMN_CREATED_AT + " <= ?"
+            + " AND (" + COLUMN_CREATED_AT + " < ? OR " + COLUMN_ID + " < ?)"
+            + ORDER_HISTORY_ORDER_BY;
+
+    static final String SQL_ORDER_ITEMS = "SELECT "
+            + COLUMN_ITEM_ID + ", " + COLUMN_NAME + ", " + COLUMN_PRICE + ", " + COLUMN_QUANTITY
+            + " FROM " + TABLE_ORDER_ITEMS + " WHERE " + COLUMN_ORDER_ID + " = ?"
+            + " ORDER BY " + COLUMN_LINE;
+
+    /**
+     * Values for SQL_INSERT_ORDER, in placeholder order.
+     */
+    static Object[] orderValues(String orderNumber, long userId, long createdAt,
+                                CartTotals totals, int itemCount) {
+        return new Object[]{orderNumber, userId, createdAt, totals.getSubtotal(),
+                totals.getDeliveryFee(), totals.getTax(), totals.getTotal(), (long) itemCount};
+    }
+
+    /**
+     * Values for SQL_INSERT_ORDER_ITEM, in placeholder order.
+     */
+    static Object[] orderItemValues(long orderId, int line, CartItem item) {
+        return new Object[]{orderId, (long) line, item.getId(), item.getName(), item.getPrice(),
+                (long) item.getQuantity()};
+    }
+
+    /**
+     * The history query for the page after {@code after}, the last order already shown,
+     * or for the first page if it is null.
+     */
+    static String orderHistorySql(Order after) {
+        return after == null ? SQL_ORDER_HISTORY_FIRST_PAGE : SQL_ORDER_HISTORY_PAGE;
+    }
+
+    /**
+     * Arguments for {@link #orderHistorySql(Order)}, as strings the way rawQuery binds them.
+     */
+    static String[] orderHistoryArgs(long userId, Order after, int limit) {
+        if (after == null) {
+            return new String[]{String.valueOf(userId), String.valueOf(limit)};
+        }
+        String createdAt = String.valueOf(after.getCreatedAt());
+        return new String[]{String.valueOf(userId), createdAt, createdAt,
+                String.valueOf(after.getId()), String.valueOf(limit)};
+    }
+
+    private DatabaseSchema() {
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.food_delivery_app;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DiskCache
+ * ---------
+ * Files keyed by URL in one directory, bounded by total bytes and evicted least recently
+ * used first. Entries are written to a temporary file and renamed into place, so a reader
+ * never sees a partial file. Thread-safe; all file work should run off the main thread.
+ */
+public class DiskCache {
+
+    public interface Writer {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private final File directory;
+    private final long maxBytes;
+    // File name -> length, in access order; loaded from the directory on first use
+    private LinkedHashMap<String, Long> entries;
+    private long size;
+
+    public DiskCache(File directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached file for the key, or null if it is not cached.
+     */
+    public synchronized File get(String key) {
+        String name = fileName(key);
+        if (entries().get(name) == null) {
+            return null;
+        }
+        File file = new File(directory, name);
+        if (!file.exists()) {
+            size -= entries.remove(name);
+            return null;
+        }
+        // Keeps the recency order across restarts
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /**
+     * Stores what the writer produces under the key and returns the cached file.
+     * Nothing is stored if the writer fails. The new file is never the one evicted, so a
+     * file larger than the whole budget is kept until the next write.
+     */
+    public File put(String key, Writer writer) throws IOException {
+        String name = fileName(key);
+        File file = new File(directory, name);
+        File temp = new File(directory, name + "." + Thread.currentThread().getId() + ".tmp");
+
+        // Written outside the lock so slow downloads don't block cache hits
+        synchronized (this) {
+            entries();
+        }
+        try (OutputStream out = new FileOutputStream(temp)) {
+            writer.writeTo(out);
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+
+        synchronized (this) {
+            if (!temp.renameTo(file)) {
+                temp.delete();
+                throw new IOException("Could not move " + temp + " into the cache");
+            }
+            Long previous = entries.put(name, file.length());
+            size += file.length() - (previous == null ? 0 : previous);
+            trim(name);
+        }
+        return file;
+    }
+
+    public synchronized long size() {
+        entries();
+        return size;
+    }
+
+    private LinkedHashMap<String, Long> entries() {
+        if (entries != null) {
+            return entries;
+        }
+        entries = new LinkedHashMap<>(64, 0.75f, true);
+        directory.mkdirs();
+
+        File[] files = directory.listFiles();
+        if (files != null) {
+            Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+            for (File file : files) {
+                if (file.getName().endsWith(".tmp")) {
+                    // Left over from a write that never finished
+                    file.delete();
+                } else {
+                    entries.put(file.getName(), file.length());
+                    size += file.length();
+                }
+            }
+        }
+        trim(null);
+        return entries;
+    }
+
+    // Evicts least recently used files until within budget, sparing the named one
+    private void trim(String keep) {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (size > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            new File(directory, entry.getKey()).delete();
+            size -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    // URLs are not valid file names; a hash of them is
+    static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16))
+                        .append(Character.forDigit(b & 0xF, 16));
+            }
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.food_delivery_app;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * EtaEstimator
+ * ------------
+ * Delivery time estimates from restaurant and customer coordinates.
+ * Shortest travel times between every pair of zones are computed once (Dijkstra from each
+ * zone) and kept in a flat matrix, so an estimate is two nearest-zone lookups plus one
+ * table read. Thread-safe after construction.
+ */
+public class EtaEstimator {
+    // Time for the kitchen to prepare the order and hand it over
+    static final int PREPARATION_SECONDS = 10 * 60;
+    // Speed off the main roads, between a point and its zone centre
+    static final double LOCAL_SPEED_METERS_PER_SECOND = 15 / 3.6;
+
+    private final int zoneCount;
+    private final GeoPoint[] zoneCentres;
+    private final double[] zoneLatitudes;
+    private final double[] zoneLongitudes;
+    private final double[] cosLatitudes;
+    // zoneCount x zoneCount travel seconds, row-major; unreachable pairs are MAX_VALUE
+    private final int[] travelSeconds;
+
+    public EtaEstimator(RoadGraph graph) {
+        zoneCount = graph.getZoneCount();
+        zoneLatitudes = new double[zoneCount];
+        zoneLongitudes = new double[zoneCount];
+        cosLatitudes = new double[zoneCount];
+        zoneCentres = new GeoPoint[zoneCount];
+        for (int zone = 0; zone < zoneCount; zone++) {
+            GeoPoint centre = graph.getZoneCentre(zone);
+            zoneCentres[zone] = centre;
+            zoneLatitudes[zone] = centre.getLatitude();
+            zoneLongitudes[zone] = centre.getLongitude();
+            cosLatitudes[zone] = Math.cos(Math.toRadians(centre.getLatitude()));
+        }
+
+        travelSeconds = new int[zoneCount * zoneCount];
+        for (int zone = 0; zone < zoneCount; zone++) {
+            shortestPaths(graph, zone);
+        }
+    }
+
+    private void shortestPaths(RoadGraph graph, int source) {
+        double[] best = new double[zoneCount];
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        best[source] = 0;
+
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[1], b[1]));
+        queue.add(new double[]{source, 0});
+        while (!queue.isEmpty()) {
+            double[] head = queue.poll();
+            int zone = (int) head[0];
+            if (head[1] > best[zone]) {
+                continue;
+            }
+            for (double[] road : graph.getRoads(zone)) {
+                int next = (int) road[0];
+                double arrival = head[1] + road[1];
+                if (arrival < best[next]) {
+                    best[next] = arrival;
+                    queue.add(new double[]{next, arrival});
+                }
+            }
+        }
+
+        int row = source * zoneCount;
+        for (int zone = 0; zone < zoneCount; zone++) {
+            travelSeconds[row + zone] = Double.isInfinite(best[zone])
+                    ? Integer.MAX_VALUE : (int) Math.round(best[zone]);
+        }
+    }
+
+    /**
+     * Index of the zone whose centre is closest to the point.
+     */
+    public int zoneOf(GeoPoint point) {
+        // Equirectangular distance is enough to rank zones inside one city
+        int nearest = 0;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int zone = 0; zone < zoneCount; zone++) {
+            double dx = (point.getLongitude() - zoneLongitudes[zone]) * cosLatitudes[zone];
+            double dy = point.getLatitude() - zoneLatitudes[zone];
+            double distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = zone;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Travel time between two zone centres along the road graph.
+     */
+    public int travelSeconds(int fromZone, int toZone) {
+        return travelSeconds[fromZone * zoneCount + toZone];
+    }
+
+    /**
+     * Seconds from placing the order to the courier arriving: preparation, the local legs to
+     * and from the nearest zone centres, and the shortest road time between those zones.
+     * Returns -1 if the zones are not connected.
+     */
+    public int estimateSeconds(GeoPoint restaurant, GeoPoint customer) {
+        int fromZone = zoneOf(restaurant);
+        int toZone = zoneOf(customer);
+        int roadSeconds = travelSeconds(fromZone, toZone);
+        if (roadSeconds == Integer.MAX_VALUE) {
+            return -1;
+        }
+        return PREPARATION_SECONDS + roadSeconds
+                + localSeconds(restaurant, fromZone) + localSeconds(customer, toZone);
+    }
+
+    public int estimateMinutes(GeoPoint restaurant, GeoPoint customer) {
+        int seconds = estimateSeconds(restaurant, customer);
+        return seconds < 0 ? -1 : (seconds + 59) / 60;
+    }
+
+    private int localSeconds(GeoPoint point, int zone) {
+        double meters = point.distanceTo(zoneCentres[zone]) * RoadGraph.ROAD_CIRCUITY;
+        return (int) Math.round(meters / LOCAL_SPEED_METERS_PER_SECOND);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FacetIndex
+ * ----------
+ * Restaurant tags parsed once into interned facet IDs, with one bitset of
+ * facets per row.
+ *
+ * A multi-select filter is itself a bitset, so checking a row is one AND
+ * (or OR) per 64 facets instead of a substring search per selected tag.
+ * Tags are matched whole, so "Fast Food" never matches a "Food" chip.
+ */
+public class FacetIndex {
+
+    /**
+     * How the selected facets combine: a row must have all of them, or any of them.
+     */
+    public enum Mode {
+        ALL,
+        ANY
+    }
+
+    private final Map<String, Integer> idsByKey;
+    private final String[] names;
+    private final long[][] rows;
+    private final int words;
+
+    /**
+     * @param tags comma-separated tag list for each row, e.g. "Pizza, Italian"
+     */
+    public FacetIndex(String[] tags) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> facetNames = new ArrayList<>();
+        int[][] rowFacets = new int[tags.length][];
+
+        for (int row = 0; row < tags.length; row++) {
+            String[] parts = tags[row] == null ? new String[0] : tags[row].split(",");
+            int[] facets = new int[parts.length];
+            int count = 0;
+            for (String part : parts) {
+                String key = TextNormalizer.normalize(part);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                Integer id = ids.get(key);
+                if (id == null) {
+                    id = facetNames.size();
+                    ids.put(key, id);
+                    facetNames.add(part.trim());
+                }
+                facets[count++] = id;
+            }
+            rowFacets[row] = Arrays.copyOf(facets, count);
+        }
+
+        this.idsByKey = ids;
+        this.names = facetNames.toArray(new String[0]);
+        this.words = Math.max(1, (names.length + 63) >>> 6);
+        this.rows = new long[tags.length][words];
+        for (int row = 0; row < tags.length; row++) {
+            for (int facet : rowFacets[row]) {
+                rows[row][facet >>> 6] |= 1L << facet;
+            }
+        }
+    }
+
+    public static FacetIndex forRestaurants(List<Restaurant> restaurants) {
+        String[] tags = new String[restaurants.size()];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = restaurants.get(i).getTags();
+        }
+        return new FacetIndex(tags);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    public int getFacetCount() {
+        return names.length;
+    }
+
+    /**
+     * @return the facet's ID, or -1 if no row carries that tag
+     */
+    public int getFacetId(String tag) {
+        Integer id = idsByKey.get(TextNormalizer.normalize(tag));
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * The tag as first written in the catalog.
+     */
+    public String getFacetName(int facetId) {
+        return names[facetId];
+    }
+
+    public boolean hasFacet(int row, int facetId) {
+        return (rows[row][facetId >>> 6] & (1L << facetId)) != 0;
+    }
+
+    public Selection newSelection() {
+        return new Selection(words);
+    }
+
+    /**
+     * An empty selection matches every row.
+     */
+    public boolean matches(int row, Selection selection, Mode mode) {
+        if (selection.isEmpty()) {
+            return true;
+        }
+        long[] facets = rows[row];
+        long[] selected = selection.bits;
+        if (mode == Mode.ALL) {
+            for (int w = 0; w < words; w++) {
+                if ((facets[w] & selected[w]) != selected[w]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int w = 0; w < words; w++) {
+            if ((facets[w] & selected[w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean[] match(Selection selection, Mode mode) {
+        boolean[] result = new boolean[rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            result[row] = matches(row, selection, mode);
+        }
+        return result;
+    }
+
+    /**
+     * Facet counts over the rows for which {@code included} is true.
+     */
+    public Counts count(boolean[] included) {
+        Counts counts = new Counts();
+        for (int row = 0; row < rows.length; row++) {
+            if (included[row]) {
+                counts.add(row);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Facets picked by the user, one bit per facet ID.
+     */
+    public static class Selection {
+        private final long[] bits;
+        private int size;
+
+        Selection(int words) {
+            this.bits = new long[words];
+        }
+
+        /**
+         * @return whether the facet is selected after the toggle
+         */
+        public boolean toggle(int facetId) {
+            bits[facetId >>> 6] ^= 1L << facetId;
+            boolean selected = contains(facetId);
+            size += selected ? 1 : -1;
+            return selected;
+        }
+
+        public boolean contains(int facetId) {
+            return (bits[facetId >>> 6] & (1L << facetId)) != 0;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Per-facet row counts, kept up to date one row at a time as rows are
+     * shown or hidden rather than recounted after every change.
+     */
+    public class Counts {
+        private final int[] counts = new int[names.length];
+
+        public void add(int row) {
+            update(row, 1);
+        }
+
+        public void remove(int row) {
+            update(row, -1);
+        }
+
+        public int get(int facetId) {
+            return facetId < 0 ? 0 : counts[facetId];
+        }
+
+        private void update(int row, int delta) {
+            long[] facets = rows[row];
+            for (int w = 0; w < words; w++) {
+                long bits = facets[w];
+                while (bits != 0) {
+                    counts[(w << 6) + Long.numberOfTrailingZeros(bits)] += delta;
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.food_delivery_app;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.io.File;
+import java.util.concurrent.Executor;
+
+/**
+ * FoodDeliveryApplication
+ * -----------------------
+ * Process start-up, split into phases by StartupRunner so the first screen never waits
+ * for work it does not need:
+ *  - critical (main thread): only the shared executors
+ *  - deferred (disk thread): open / create the database, map the catalog file (generating
+ *    it from the sample data after an install or update), restore the cart
+ *  - idle (after the first frame): build the search index and ETA matrix, set up images
+ * Timings end up in StartupTrace.getInstance().
+ */
+public class FoodDeliveryApplication extends Application {
+    private static final String TAG = "Startup";
+    private static final String CART_FILE = "cart.bin";
+    private static final String CATALOG_FILE = "catalog.bin";
+    private static final String IMAGES_DIR = "images";
+
+    private StartupRunner startupRunner;
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        // Measure from process start, not from here; both clocks are monotonic
+        long sinceProcessStartMs = SystemClock.uptimeMillis() - Process.getStartUptimeMillis();
+        StartupTrace trace = StartupTrace.start(System.nanoTime() - sinceProcessStartMs * 1_000_000L);
+        AppExecutors executors = AppExecutors.getInstance();
+
+        // The APK's timestamp changes with every install or update, and so may the sample data
+        CatalogRepository.initialize(new BinaryCatalogSource(
+                new File(getFilesDir(), CATALOG_FILE),
+                new SampleCatalogSource(imageBaseUrl()),
+                new File(getApplicationInfo().sourceDir).lastModified()));
+
+        // Runs once the main thread has nothing else to do, then moves to the disk thread
+        Executor whenIdle = command -> Looper.myQueue().addIdleHandler(() -> {
+            executors.diskIO().execute(command);
+            return false;
+        });
+
+        startupRunner = new StartupRunner(trace, executors.diskIO(), whenIdle)
+                .add(StartupTrace.Phase.CRITICAL, "executors", AppExecutors::getInstance)
+                // Schema creation and the test user are written here, not during login
+                .add(StartupTrace.Phase.DEFERRED, "database",
+                        () -> DatabaseHelper.getInstance(this).getWritableDatabase())
+                .add(StartupTrace.Phase.DEFERRED, "catalog",
+                        () -> CatalogRepository.getInstance().getSnapshot())
+                .add(StartupTrace.Phase.DEFERRED, "cart", () -> CartManager.getInstance()
+                        .attachStore(new CartStore(new File(getFilesDir(), CART_FILE)),
+                                executors.diskIO()))
+                .add(StartupTrace.Phase.IDLE, "search-index", () -> SearchEngine.forSnapshot(
+                        CatalogRepository.getInstance().getSnapshot()))
+                .add(StartupTrace.Phase.IDLE, "eta-matrix", AddisRoadNetwork::getEstimator)
+                .add(StartupTrace.Phase.IDLE, "images", () -> ImageLoader.getInstance(this));
+        startupRunner.start();
+
+        if (!startupRunner.isCriticalWithinBudget()) {
+            Log.w(TAG, "Critical startup took "
+                    + trace.getPhaseNanos(StartupTrace.Phase.CRITICAL) / 1_000_000 + " ms");
+        }
+
+        registerActivityLifecycleCallbacks(new FirstFrameCallbacks());
+    }
+
+    /**
+     * Where dish photos come from: R.string.image_base_url when set, otherwise
+     * images/<item id>.jpg in the app's files directory.
+     */
+    private String imageBaseUrl() {
+        String configured = getString(R.string.image_base_url);
+        if (!configured.isEmpty()) {
+            return configured;
+        }
+        return "file://" + new File(getFilesDir(), IMAGES_DIR).getPath() + "/";
+    }
+
+    public StartupRunner getStartupRunner() {
+        return startupRunner;
+    }
+
+    // Whichever activity shows first, its first frame ends startup
+    private class FirstFrameCallbacks implements ActivityLifecycleCallbacks {
+        @Override
+        public void onActivityResumed(Activity activity) {
+            unregisterActivityLifecycleCallbacks(this);
+            // Runs after the traversal that draws the first frame
+            activity.getWindow().getDecorView().post(() -> {
+                startupRunner.onFirstFrame();
+                Log.i(TAG, "First frame after "
+                        + StartupTrace.getInstance().getTimeToFirstFrameNanos() / 1_000_000
+                        + " ms");
+            });
+        }
+
+        @Override
+        public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityStarted(Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+        }
+
+        @Override
+        public void onActivityDestroyed(Activity activity) {
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FuzzyIndex
+ * ----------
+ * Typo-tolerant word matching over a fixed list of names, so "piza",
+ * "carbonarra" or "tokio" still find "Pizza", "Carbonara" and "Tokyo".
+ *
+ * The distinct words of all names form a vocabulary, indexed by trigrams of
+ * the word padded with boundary markers. A query word only reaches the
+ * Levenshtein check for vocabulary words that pass two filters: the length
+ * filter, and the q-gram count filter. With k edits the query loses at most
+ * 3k of its trigrams, so a real match shares all but 3k of them. The distance
+ * itself is computed in a band of width k and abandoned once it exceeds k.
+ * Edit distance is never computed against every name.
+ *
+ * A name matches when every query word is within the allowed distance of
+ * one of its words.
+ */
+public class FuzzyIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char BOUNDARY = '\u0002';
+
+    private final int size;
+    private final String[] words;
+    private final int[][] wordPostings;
+    private final Map<Long, int[]> gramPostings;
+
+    /**
+     * @param names one name per document, in document order
+     */
+    public FuzzyIndex(List<String> names) {
+        this.size = names.size();
+
+        Map<String, Integer> wordIds = new HashMap<>();
+        List<String> vocabulary = new ArrayList<>();
+        List<IntList> postings = new ArrayList<>();
+
+        for (int docId = 0; docId < names.size(); docId++) {
+            for (String word : splitWords(TextNormalizer.normalize(names.get(docId)))) {
+                Integer wordId = wordIds.get(word);
+                if (wordId == null) {
+                    wordId = vocabulary.size();
+                    wordIds.put(word, wordId);
+                    vocabulary.add(word);
+                    postings.add(new IntList());
+                }
+                postings.get(wordId).addIfNotLast(docId);
+            }
+        }
+
+        this.words = vocabulary.toArray(new String[0]);
+        this.wordPostings = new int[words.length][];
+        Map<Long, IntList> grams = new HashMap<>();
+        for (int wordId = 0; wordId < words.length; wordId++) {
+            wordPostings[wordId] = postings.get(wordId).toArray();
+            for (long gram : distinctGrams(words[wordId])) {
+                IntList list = grams.get(gram);
+                if (list == null) {
+                    list = new IntList();
+                    grams.put(gram, list);
+                }
+                list.addIfNotLast(wordId);
+            }
+        }
+
+        this.gramPostings = new HashMap<>(grams.size() * 2);
+        for (Map.Entry<Long, IntList> entry : grams.entrySet()) {
+            gramPostings.put(entry.getKey(), entry.getValue().toArray());
+        }
+    }
+
+    public int getVocabularySize() {
+        return words.length;
+    }
+
+    /**
+     * Returns the sorted IDs of names in which every query word has a word
+     * within {@link #maxEdits} of it.
+     */
+    public int[] searchIds(String query) {
+        List<String> queryWords = splitWords(TextNormalizer.normalize(query));
+        if (queryWords.isEmpty()) {
+            return new int[0];
+        }
+
+        BitSet matches = null;
+        for (String queryWord : queryWords) {
+            BitSet docs = new BitSet(size);
+            for (int wordId : similarWordIds(queryWord)) {
+                for (int docId : wordPostings[wordId]) {
+                    docs.set(docId);
+                }
+            }
+            if (matches == null) {
+                matches = docs;
+            } else {
+                matches.and(docs);
+            }
+            if (matches.isEmpty()) {
+                return new int[0];
+            }
+        }
+
+        int[] result = new int[matches.cardinality()];
+        int index = 0;
+        for (int docId = matches.nextSetBit(0); docId >= 0; docId = matches.nextSetBit(docId + 1)) {
+            result[index++] = docId;
+        }
+        return result;
+    }
+
+    /**
+     * Vocabulary words within the allowed edit distance of the word, closest first.
+     */
+    public List<String> similarWords(String word) {
+        String normalized = TextNormalizer.normalize(word);
+        int[] ids = similarWordIds(normalized);
+        Integer[] order = new Integer[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            order[i] = ids[i];
+        }
+        int maxEdits = maxEdits(normalized.length());
+        Arrays.sort(order, (a, b) -> Integer.compare(
+                boundedDistance(normalized, words[a], maxEdits),
+                boundedDistance(normalized, words[b], maxEdits)));
+
+        List<String> result = new ArrayList<>(order.length);
+        for (int id : order) {
+            result.add(words[id]);
+        }
+        return result;
+    }
+
+    /**
+     * Typos allowed for a query word of this length: none for very short words,
+     * where one edit would match almost anything.
+     */
+    static int maxEdits(int length) {
+        if (length < 3) {
+            return 0;
+        }
+        return length < 6 ? 1 : 2;
+    }
+
+    private int[] similarWordIds(String queryWord) {
+        int maxEdits = maxEdits(queryWord.length());
+        long[] queryGrams = distinctGrams(queryWord);
+        int required = queryGrams.length - GRAM_LENGTH * maxEdits;
+
+        // Count shared trigrams per candidate word; only touched words are visited again
+        int[] shared = new int[words.length];
+        IntList touched = new IntList();
+        for (long gram : queryGrams) {
+            int[] wordIds = gramPostings.get(gram);
+            if (wordIds == null) {
+                continue;
+            }
+            for (int wordId : wordIds) {
+                if (shared[wordId]++ == 0) {
+                    touched.add(wordId);
+                }
+            }
+        }
+
+        IntList similar = new IntList();
+        for (int i = 0; i < touched.size; i++) {
+            int wordId = touched.values[i];
+            String candidate = words[wordId];
+            if (shared[wordId] < required
+                    || Math.abs(candidate.length() - queryWord.length()) > maxEdits) {
+                continue;
+            }
+            if (boundedDistance(queryWord, candidate, maxEdits) <= maxEdits) {
+                similar.add(wordId);
+            }
+        }
+        return similar.toArray();
+    }
+
+    /**
+     * Levenshtein distance between a and b, or max + 1 as soon as it is known to
+     * exceed max. Only the diagonal band of width max is computed.
+     */
+    static int boundedDistance(CharSequence a, CharSequence b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+
+        int outside = max + 1;
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= max ? j : outside;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - max);
+            int to = Math.min(m, i + max);
+            current[0] = i <= max ? i : outside;
+            if (from > 1) {
+                current[from - 1] = outside;
+            }
+
+            int rowMin = current[0];
+            char c = a.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = c == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1),
+                        previous[j - 1] + cost);
+                current[j] = Math.min(value, outside);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = outside;
+            }
+            if (rowMin > max) {
+                return outside;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[m], outside);
+    }
+
+    private static List<String> splitWords(String normalized) {
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length()
+                    && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                result.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Distinct trigrams of the word padded with two boundary markers on each side,
+     * so even one- and two-letter words have grams and word edges weigh more.
+     */
+    private static long[] distinctGrams(String word) {
+        int padding = GRAM_LENGTH - 1;
+        char[] padded = new char[word.length() + 2 * padding];
+        Arrays.fill(padded, BOUNDARY);
+        word.getChars(0, word.length(), padded, padding);
+
+        long[] grams = new long[padded.length - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) padded[i] << 32) | ((long) padded[i + 1] << 16) | padded[i + 2];
+        }
+        Arrays.sort(grams);
+
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        // Values arrive in order, so duplicates are always adjacent
+        void addIfNotLast(int value) {
+            if (size == 0 || values[size - 1] != value) {
+                add(value);
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.food_delivery_app;
+
+/**
+ * GeoPoint
+ * --------
+ * Immutable latitude / longitude in degrees.
+ */
+public class GeoPoint {
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    private final double latitude;
+    private final double longitude;
+
+    public GeoPoint(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Great-circle (haversine) distance in meters.
+     */
+    public double distanceTo(GeoPoint other) {
+        double lat1 = Math.toRadians(latitude);
+        double lat2 = Math.toRadians(other.latitude);
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(other.longitude - longitude);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * The point a fraction {@code t} (0..1) of the way to {@code other}. Linear in degrees,
+     * which is accurate enough over a city block.
+     */
+    public GeoPoint interpolate(GeoPoint other, double t) {
+        return new GeoPoint(latitude + (other.latitude - latitude) * t,
+                longitude + (other.longitude - longitude) * t);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.food_delivery_app;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ImageLoader
+ * -----------
+ * Process-wide bitmap loading for list rows (menu items, cart items).
+ * Bitmaps are decoded at the size of the view they go into and cached in memory up to an
+ * eighth of the heap, with the downloaded files kept in a bounded disk cache. Each
+ * ImageView remembers its request, so binding it again, or recycling it, cancels the
+ * previous load instead of letting a stale image land in a reused row.
+ */
+public class ImageLoader {
+    private static final String DISK_CACHE_DIR = "images";
+    private static final long DISK_CACHE_BYTES = 20L * 1024 * 1024;
+    // Decoding is CPU and memory heavy; a couple of threads is enough for a list
+    private static final int WORKER_THREADS = 2;
+
+    public interface Listener {
+        void onLoaded(boolean success);
+    }
+
+    private static ImageLoader instance;
+
+    private final ImagePipeline<Bitmap> pipeline;
+
+    private ImageLoader(Context context) {
+        long memoryBytes = Runtime.getRuntime().maxMemory() / 8;
+        MemoryCache<String, Bitmap> memoryCache =
+                new MemoryCache<>(memoryBytes, Bitmap::getAllocationByteCount);
+        DiskCache diskCache = new DiskCache(
+                new File(context.getCacheDir(), DISK_CACHE_DIR), DISK_CACHE_BYTES);
+
+        ExecutorService workers = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "image-loader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+        pipeline = new ImagePipeline<>(memoryCache, diskCache, ImagePipeline.URL_FETCHER,
+                new BitmapDecoder(), workers, AppExecutors.getInstance().mainThread());
+    }
+
+    public static synchronized ImageLoader getInstance(Context context) {
+        if (instance == null) {
+            instance = new ImageLoader(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Loads the image into the view at the view's layout size. The listener is told whether
+     * it worked so the caller can show or hide a fallback; it is not called if the load is
+     * cancelled. Must be called on the main thread.
+     */
+    public void load(String url, ImageView target, Listener listener) {
+        cancel(target);
+        target.setImageDrawable(null);
+        if (url == null || url.isEmpty()) {
+            listener.onLoaded(false);
+            return;
+        }
+
+        ViewGroup.LayoutParams params = target.getLayoutParams();
+        int width = params != null && params.width > 0 ? params.width : target.getWidth();
+        int height = params != null && params.height > 0 ? params.height : target.getHeight();
+
+        ImagePipeline.Request<Bitmap> request = pipeline.load(url, width, height, bitmap -> {
+            target.setTag(R.id.image_request, null);
+            if (bitmap != null) {
+                target.setImageBitmap(bitmap);
+            }
+            listener.onLoaded(bitmap != null);
+        });
+        if (!request.isCancelled() && target.getDrawable() == null) {
+            // Still loading; remember it so it can be cancelled
+            target.setTag(R.id.image_request, request);
+        }
+    }
+
+    /**
+     * Cancels whatever is loading into the view, e.g. when its row is recycled.
+     */
+    @SuppressWarnings("unchecked")
+    public void cancel(ImageView target) {
+        Object tag = target.getTag(R.id.image_request);
+        if (tag != null) {
+            pipeline.cancel((ImagePipeline.Request<Bitmap>) tag);
+            target.setTag(R.id.image_request, null);
+        }
+    }
+
+    private static class BitmapDecoder implements ImagePipeline.Decoder<Bitmap> {
+        @Override
+        public Bitmap decode(File file, int width, int height) {
+            String path = file.getPath();
+
+            // Read only the header first to pick a subsampling factor
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeFile(path, options);
+            if (options.outWidth <= 0 || options.outHeight <= 0) {
+                return null;
+            }
+
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = ImagePipeline.calculateSampleSize(
+                    options.outWidth, options.outHeight, width, height);
+            // Photos have no alpha; half the memory of ARGB_8888
+            options.inPreferredConfig = Bitmap.Config.RGB_565;
+            return BitmapFactory.decodeFile(path, options);
+        }
+    }
+}
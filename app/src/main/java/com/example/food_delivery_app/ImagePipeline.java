@@ -0,0 +1,233 @@
+package com.example.food_delivery_app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImagePipeline
+ * -------------
+ * Loads images by URL through a memory cache, a disk cache and finally the network
+ * (or a local file), decoding each one at the size it is shown at.
+ *  - Memory hits are delivered immediately on the calling thread.
+ *  - Concurrent requests for the same image and size share one fetch and decode.
+ *  - A URL that could not be fetched is not tried again for FAILURE_RETRY_MS; requests
+ *    for it get null straight away instead of waiting on another timeout.
+ *  - A cancelled request is never called back; when every request for a job is cancelled
+ *    the job itself is interrupted.
+ * Independent of Android; ImageLoader supplies the bitmap decoder and executors.
+ */
+public class ImagePipeline<T> {
+
+    public interface Decoder<T> {
+        // Decodes the file at roughly the requested size; null if it is not an image
+        T decode(File file, int width, int height) throws IOException;
+    }
+
+    public interface Fetcher {
+        void fetch(String url, OutputStream out) throws IOException;
+    }
+
+    public interface Callback<T> {
+        // Called on the callback executor; image is null if loading failed
+        void onResult(T image);
+    }
+
+    /**
+     * Handle for one load; cancel it when its view is recycled or detached.
+     */
+    public static final class Request<T> {
+        private final Callback<T> callback;
+        private Job<T> job;
+        private volatile boolean cancelled;
+
+        Request(Callback<T> callback) {
+            this.callback = callback;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private static final class Job<T> {
+        final List<Request<T>> requests = new ArrayList<>();
+        Future<?> future;
+    }
+
+    static final int CONNECT_TIMEOUT_MS = 10_000;
+    static final int READ_TIMEOUT_MS = 15_000;
+
+    static final long FAILURE_RETRY_MS = 60_000;
+    private static final int MAX_FAILED_URLS = 256;
+
+    // Plain URL streams cover file:, http: and https:
+    public static final Fetcher URL_FETCHER = (url, out) -> {
+        URLConnection connection = new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        connection.setReadTimeout(READ_TIMEOUT_MS);
+        try (InputStream in = connection.getInputStream()) {
+            byte[] buffer = new byte[16 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    };
+
+    private final MemoryCache<String, T> memoryCache;
+    private final DiskCache diskCache;
+    private final Fetcher fetcher;
+    private final Decoder<T> decoder;
+    private final ExecutorService workers;
+    private final Executor callbackExecutor;
+
+    // Guarded by itself; keyed like the memory cache
+    private final Map<String, Job<T>> inFlight = new HashMap<>();
+
+    // URL -> System.nanoTime() of its last failed fetch, bounded by count
+    private final MemoryCache<String, Long> failedFetches =
+            new MemoryCache<>(MAX_FAILED_URLS, failedAt -> 1);
+
+    public ImagePipeline(MemoryCache<String, T> memoryCache, DiskCache diskCache, Fetcher fetcher,
+                         Decoder<T> decoder, ExecutorService workers, Executor callbackExecutor) {
+        this.memoryCache = memoryCache;
+        this.diskCache = diskCache;
+        this.fetcher = fetcher;
+        this.decoder = decoder;
+        this.workers = workers;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    public Request<T> load(String url, int width, int height, Callback<T> callback) {
+        Request<T> request = new Request<>(callback);
+        String key = url + "@" + width + "x" + height;
+
+        T cached = memoryCache.get(key);
+        if (cached != null) {
+            callback.onResult(cached);
+            return request;
+        }
+        if (failedRecently(url)) {
+            callback.onResult(null);
+            return request;
+        }
+
+        synchronized (inFlight) {
+            Job<T> job = inFlight.get(key);
+            if (job == null) {
+                Job<T> newJob = new Job<>();
+                job = newJob;
+                inFlight.put(key, job);
+                job.future = workers.submit(() -> run(newJob, key, url, width, height));
+            }
+            job.requests.add(request);
+            request.job = job;
+        }
+        return request;
+    }
+
+    public void cancel(Request<T> request) {
+        if (request == null || request.cancelled) {
+            return;
+        }
+        request.cancelled = true;
+
+        synchronized (inFlight) {
+            Job<T> job = request.job;
+            if (job == null || !job.requests.remove(request) || !job.requests.isEmpty()) {
+                return;
+            }
+            // Nobody is waiting for this image any more
+            job.future.cancel(true);
+            inFlight.values().remove(job);
+        }
+    }
+
+    private void run(Job<T> job, String key, String url, int width, int height) {
+        T image = null;
+        try {
+            File file = diskCache.get(url);
+            if (file == null) {
+                file = fetch(url);
+            }
+            if (!Thread.currentThread().isInterrupted()) {
+                image = decoder.decode(file, width, height);
+            }
+            if (image != null) {
+                memoryCache.put(key, image);
+            }
+        } catch (IOException e) {
+            // Delivered as a failed load
+        } finally {
+            // Even a decoder crash or an OutOfMemoryError must release the job and answer
+            // its requests, or later loads of this image would wait on it forever
+            deliver(job, key, image);
+        }
+    }
+
+    private File fetch(String url) throws IOException {
+        try {
+            return diskCache.put(url, out -> fetcher.fetch(url, out));
+        } catch (IOException e) {
+            // A fetch cut short by cancellation says nothing about the URL
+            if (!(e instanceof InterruptedIOException) && !Thread.currentThread().isInterrupted()) {
+                failedFetches.put(url, System.nanoTime());
+            }
+            throw e;
+        }
+    }
+
+    private boolean failedRecently(String url) {
+        Long failedAt = failedFetches.get(url);
+        return failedAt != null
+                && System.nanoTime() - failedAt < TimeUnit.MILLISECONDS.toNanos(FAILURE_RETRY_MS);
+    }
+
+    private void deliver(Job<T> job, String key, T image) {
+        List<Request<T>> waiting;
+        synchronized (inFlight) {
+            if (inFlight.get(key) == job) {
+                inFlight.remove(key);
+            }
+            waiting = new ArrayList<>(job.requests);
+        }
+
+        for (Request<T> request : waiting) {
+            callbackExecutor.execute(() -> {
+                if (!request.cancelled) {
+                    request.callback.onResult(image);
+                }
+            });
+        }
+    }
+
+    /**
+     * Largest power-of-two subsampling that keeps the decoded image at least as big as the
+     * view in both dimensions.
+     */
+    public static int calculateSampleSize(int sourceWidth, int sourceHeight,
+                                          int targetWidth, int targetHeight) {
+        int sampleSize = 1;
+        if (targetWidth <= 0 || targetHeight <= 0) {
+            return sampleSize;
+        }
+        while (sourceWidth / (sampleSize * 2) >= targetWidth
+                && sourceHeight / (sampleSize * 2) >= targetHeight) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.food_delivery_app;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram
+ * ----------------
+ * Lock-free latency histogram from {@link MetricsRegistry} with fixed power-of-two buckets:
+ * bucket 0 holds everything under 1 µs, bucket i (i >= 1) holds [2^(i-1), 2^i) µs, and the
+ * last bucket everything above. Recording is a few atomic adds and never allocates;
+ * percentiles are bucket upper bounds, so they are accurate to within a factor of two.
+ */
+public class LatencyHistogram {
+    static final int BUCKETS = 32;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Records the time since {@code startNanos}, a value taken from System.nanoTime().
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    static int bucketOf(long nanos) {
+        long micros = nanos / 1_000;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    // Exclusive upper bound of the bucket in nanoseconds
+    static long upperBoundNanos(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) * 1_000;
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(name, counts, count.get(), totalNanos.get(), maxNanos.get());
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    /**
+     * Point-in-time copy of a histogram. Taken without stopping writers, so the totals can
+     * be a few records apart from the buckets.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final long[] bucketCounts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        Snapshot(String name, long[] bucketCounts, long count, long totalNanos, long maxNanos) {
+            this.name = name;
+            this.bucketCounts = bucketCounts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Upper bound of the bucket holding the given percentile (0-100), capped at the
+         * largest value seen.
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (long bucketCount : bucketCounts) {
+                total += bucketCount;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundNanos(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
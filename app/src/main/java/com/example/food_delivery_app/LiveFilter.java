@@ -0,0 +1,135 @@
+package com.example.food_delivery_app;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LiveFilter
+ * ----------
+ * Debounced, cancellable substring filter over a fixed list of keys.
+ *
+ * Queries are matched on a single background thread against keys that were
+ * normalized once up front. Only the rows whose visibility changed since the
+ * last published result are handed to the listener, on the UI executor.
+ * A newer query cancels any pending or running match for an older one.
+ */
+public class LiveFilter {
+
+    // How many keys are matched between cancellation checks
+    private static final int CANCEL_CHECK_INTERVAL = 256;
+
+    private static final LatencyHistogram FILTER_LATENCY =
+            MetricsRegistry.getInstance().histogram("restaurants.filter");
+    private static final Counter FILTER_CANCELLED =
+            MetricsRegistry.getInstance().counter("restaurants.filter.cancelled");
+
+    /**
+     * Receives visibility changes on the UI executor.
+     */
+    public interface Listener {
+        void onVisibilityChanged(int[] shown, int[] hidden);
+    }
+
+    private final String[] keys;
+    private final long debounceMillis;
+    private final ScheduledExecutorService worker;
+    private final Executor uiExecutor;
+    private final Listener listener;
+
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pending;
+
+    // Last published visibility, owned by the worker thread
+    private boolean[] visible;
+
+    /**
+     * @param keys pre-normalized search keys, one per row
+     */
+    public LiveFilter(String[] keys, long debounceMillis, ScheduledExecutorService worker,
+                      Executor uiExecutor, Listener listener) {
+        this.keys = keys;
+        this.debounceMillis = debounceMillis;
+        this.worker = worker;
+        this.uiExecutor = uiExecutor;
+        this.listener = listener;
+        this.visible = new boolean[keys.length];
+        Arrays.fill(visible, true);
+    }
+
+    /**
+     * Schedules a match for the query, replacing any earlier pending one.
+     */
+    public synchronized void submit(String query) {
+        long ticket = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        pending = worker.schedule(() -> match(query, ticket), debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drops any pending or running match. The worker may be shared, so it keeps running.
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    /**
+     * Matches every key against the query synchronously, without debouncing.
+     */
+    boolean[] matches(String query) {
+        return matches(TextNormalizer.normalize(query), generation.get());
+    }
+
+    private boolean[] matches(String normalized, long ticket) {
+        boolean[] next = new boolean[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            if (i % CANCEL_CHECK_INTERVAL == 0 && generation.get() != ticket) {
+                return null;
+            }
+            next[i] = normalized.isEmpty() || keys[i].contains(normalized);
+        }
+        return next;
+    }
+
+    private void match(String query, long ticket) {
+        long start = System.nanoTime();
+        boolean[] next = matches(TextNormalizer.normalize(query), ticket);
+
+        if (next == null || generation.get() != ticket) {
+            FILTER_CANCELLED.increment();
+            return;
+        }
+        FILTER_LATENCY.recordSince(start);
+
+        int shownCount = 0;
+        int hiddenCount = 0;
+        int[] changed = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (visible[i] != next[i]) {
+                if (next[i]) {
+                    changed[shownCount++] = i;
+                } else {
+                    changed[keys.length - 1 - hiddenCount++] = i;
+                }
+            }
+        }
+        visible = next;
+
+        if (shownCount == 0 && hiddenCount == 0) {
+            return;
+        }
+
+        int[] shown = Arrays.copyOf(changed, shownCount);
+        int[] hidden = Arrays.copyOfRange(changed, keys.length - hiddenCount, keys.length);
+        uiExecutor.execute(() -> listener.onVisibilityChanged(shown, hidden));
+    }
+}
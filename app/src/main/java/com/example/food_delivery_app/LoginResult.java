@@ -0,0 +1,54 @@
+package com.example.food_delivery_app;
+
+/**
+ * Outcome of a login attempt: success with the user, wrong password, unknown user,
+ * or an error that kept the account from being checked.
+ */
+public class LoginResult {
+
+    public enum Status {
+        SUCCESS,
+        WRONG_PASSWORD,
+        UNKNOWN_USER,
+        ERROR
+    }
+
+    private static final LoginResult WRONG_PASSWORD = new LoginResult(Status.WRONG_PASSWORD, null);
+    private static final LoginResult UNKNOWN_USER = new LoginResult(Status.UNKNOWN_USER, null);
+    private static final LoginResult ERROR = new LoginResult(Status.ERROR, null);
+
+    private final Status status;
+    private final User user;
+
+    private LoginResult(Status status, User user) {
+        this.status = status;
+        this.user = user;
+    }
+
+    public static LoginResult success(User user) {
+        return new LoginResult(Status.SUCCESS, user);
+    }
+
+    public static LoginResult wrongPassword() {
+        return WRONG_PASSWORD;
+    }
+
+    public static LoginResult unknownUser() {
+        return UNKNOWN_USER;
+    }
+
+    public static LoginResult error() {
+        return ERROR;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * The signed-in user, or null unless the status is {@link Status#SUCCESS}.
+     */
+    public User getUser() {
+        return user;
+    }
+}
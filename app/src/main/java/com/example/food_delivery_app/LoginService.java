@@ -0,0 +1,43 @@
+package com.example.food_delivery_app;
+
+import java.util.concurrent.Executor;
+
+/**
+ * LoginService
+ * ------------
+ * Runs a login off the main thread and delivers a typed {@link LoginResult}
+ * back on the callback executor. Each attempt is a single database query, and
+ * the callback always runs, with {@link LoginResult.Status#ERROR} if the query failed.
+ */
+public class LoginService {
+
+    public interface Callback {
+        void onResult(LoginResult result);
+    }
+
+    private final DatabaseHelper databaseHelper;
+    private final Executor backgroundExecutor;
+    private final Executor callbackExecutor;
+
+    public LoginService(DatabaseHelper databaseHelper, Executor backgroundExecutor,
+                        Executor callbackExecutor) {
+        this.databaseHelper = databaseHelper;
+        this.backgroundExecutor = backgroundExecutor;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    public void login(String identifier, String password, Callback callback) {
+        backgroundExecutor.execute(() -> {
+            LoginResult result;
+            try {
+                result = databaseHelper.login(identifier, password);
+            } catch (RuntimeException e) {
+                // E.g. the database could not be opened; the caller still gets an answer
+                result = LoginResult.error();
+            }
+
+            LoginResult delivered = result;
+            callbackExecutor.execute(() -> callback.onResult(delivered));
+        });
+    }
+}
@@ -19,6 +19,7 @@ import androidx.core.view.WindowInsetsCompat;
 public class MainActivity extends AppCompatActivity {
 
     private DatabaseHelper databaseHelper;
+    private LoginService loginService;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -26,7 +27,10 @@ public class MainActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_main);
 
-        databaseHelper = new DatabaseHelper(this);
+        databaseHelper = DatabaseHelper.getInstance(this);
+        loginService = new LoginService(databaseHelper,
+                AppExecutors.getInstance().diskIO(),
+                AppExecutors.getInstance().mainThread());
 
         EditText inputEmail = findViewById(R.id.inputEmail);
         EditText inputPassword = findViewById(R.id.inputPassword);
@@ -58,36 +62,15 @@ public class MainActivity extends AppCompatActivity {
                 return;
             }
 
-            boolean isAuthenticated = databaseHelper.authenticateUser(identifier, password);
-
-            if (isAuthenticated) {
-                Toast.makeText(this, "Login successful!", Toast.LENGTH_SHORT).show();
-
-                User user = databaseHelper.getUserByEmail(identifier);
-
-                Intent restaurantIntent =
-                        new Intent(MainActivity.this, RestaurantListActivity.class);
-
-                if (user != null) {
-                    restaurantIntent.putExtra("user_name", user.getFullName());
-                    restaurantIntent.putExtra("user_email", user.getEmail());
+            // Single query, off the main thread; the button stays disabled until it returns
+            btnLogin.setEnabled(false);
+            loginService.login(identifier, password, result -> {
+                if (isFinishing() || isDestroyed()) {
+                    return;
                 }
-
-                startActivity(restaurantIntent);
-                finish();
-            } else {
-                boolean exists = databaseHelper.checkEmailExists(identifier);
-
-                if (exists) {
-                    showErrorDialog("Login Failed", "Incorrect password. Please try again.");
-                    inputPassword.setText("");
-                    inputPassword.requestFocus();
-                } else {
-                    showErrorDialog("User Not Found",
-                            "No account found. Please sign up first.");
-                    inputEmail.requestFocus();
-                }
-            }
+                btnLogin.setEnabled(true);
+                handleLoginResult(result, inputEmail, inputPassword);
+            });
         });
 
         signUp.setOnClickListener(v -> {
@@ -112,7 +95,7 @@ public class MainActivity extends AppCompatActivity {
                 return;
             }
 
-            if (databaseHelper.checkEmailExists(identifier)) {
+            if (databaseHelper.checkAccountExists(identifier)) {
                 Toast.makeText(this,
                         "Password recovery instructions sent",
                         Toast.LENGTH_LONG).show();
@@ -134,6 +117,42 @@ public class MainActivity extends AppCompatActivity {
         });
     }
 
+    private void handleLoginResult(LoginResult result, EditText inputEmail, EditText inputPassword) {
+        switch (result.getStatus()) {
+            case SUCCESS:
+                Toast.makeText(this, "Login successful!", Toast.LENGTH_SHORT).show();
+
+                User user = result.getUser();
+                UserSession.getInstance().setCurrentUser(user);
+
+                Intent restaurantIntent =
+                        new Intent(MainActivity.this, RestaurantListActivity.class);
+                restaurantIntent.putExtra("user_name", user.getFullName());
+                restaurantIntent.putExtra("user_email", user.getEmail());
+
+                startActivity(restaurantIntent);
+                finish();
+                break;
+
+            case WRONG_PASSWORD:
+                showErrorDialog("Login Failed", "Incorrect password. Please try again.");
+                inputPassword.setText("");
+                inputPassword.requestFocus();
+                break;
+
+            case UNKNOWN_USER:
+                showErrorDialog("User Not Found",
+                        "No account found. Please sign up first.");
+                inputEmail.requestFocus();
+                break;
+
+            case ERROR:
+                Toast.makeText(this, "Could not sign in right now. Please try again.",
+                        Toast.LENGTH_LONG).show();
+                break;
+        }
+    }
+
     private void showErrorDialog(String title, String message) {
         new AlertDialog.Builder(this)
                 .setTitle(title)
@@ -142,12 +161,4 @@ public class MainActivity extends AppCompatActivity {
                 .setCancelable(false)
                 .show();
     }
-
-    @Override
-    protected void onDestroy() {
-        if (databaseHelper != null) {
-            databaseHelper.close();
-        }
-        super.onDestroy();
-    }
 }
@@ -0,0 +1,82 @@
+package com.example.food_delivery_app;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MemoryCache
+ * -----------
+ * Least-recently-used cache bounded by the total size of its values (e.g. bitmap bytes),
+ * and optionally by entry count as well. Thread-safe.
+ */
+public class MemoryCache<K, V> {
+
+    public interface Sizer<V> {
+        int sizeOf(V value);
+    }
+
+    private final long maxSize;
+    private final int maxEntries;
+    private final Sizer<V> sizer;
+    // Access order, so iteration starts at the least recently used entry
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    public MemoryCache(long maxSize, Sizer<V> sizer) {
+        this(maxSize, Integer.MAX_VALUE, sizer);
+    }
+
+    public MemoryCache(long maxSize, int maxEntries, Sizer<V> sizer) {
+        this.maxSize = maxSize;
+        this.maxEntries = maxEntries;
+        this.sizer = sizer;
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        int valueSize = sizer.sizeOf(value);
+        if (valueSize > maxSize) {
+            // Would evict everything else and still not fit; don't keep serving the old value
+            V previous = entries.remove(key);
+            if (previous != null) {
+                size -= sizer.sizeOf(previous);
+            }
+            return;
+        }
+        V previous = entries.put(key, value);
+        size += valueSize;
+        if (previous != null) {
+            size -= sizer.sizeOf(previous);
+        }
+        trimTo(maxSize);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    public long maxSize() {
+        return maxSize;
+    }
+
+    private void trimTo(long limit) {
+        Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+        while ((size > limit || entries.size() > maxEntries) && eldest.hasNext()) {
+            size -= sizer.sizeOf(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+}
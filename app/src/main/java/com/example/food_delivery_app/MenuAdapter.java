@@ -0,0 +1,214 @@
+package com.example.food_delivery_app;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MenuAdapter
+ * -----------
+ * Sectioned, recycled list of a restaurant's menu.
+ * Rows are either a category header or a menu item; view holders are reused
+ * as the list scrolls, so only the visible rows are ever inflated.
+ */
+public class MenuAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+
+    /**
+     * Called when the user taps "Add To Cart" on a row.
+     */
+    public interface OnAddToCartListener {
+        void onAddToCart(MenuItem item);
+    }
+
+    private static final int TYPE_HEADER = 0;
+    private static final int TYPE_ITEM = 1;
+
+    // Section order and titles
+    private static final String[] CATEGORIES = {"pizza", "burger", "drinks"};
+    private static final String[] CATEGORY_TITLES = {"Pizza", "Burger", "Drinks"};
+
+    private final OnAddToCartListener listener;
+
+    private List<MenuItem> menuItems = new ArrayList<>();
+    private String selectedCategory;
+
+    // Each row is an index into menuItems, or (-1 - section) for a header
+    private int[] rows = new int[0];
+
+    public MenuAdapter(OnAddToCartListener listener) {
+        this.listener = listener;
+        setHasStableIds(true);
+    }
+
+    /**
+     * Shows the given menu, keeping the current category selection.
+     */
+    public void setMenuItems(List<MenuItem> items) {
+        menuItems = items;
+        rebuildRows();
+    }
+
+    /**
+     * Restricts the list to one category, or shows all sections when null.
+     */
+    public void showCategory(String category) {
+        selectedCategory = category;
+        rebuildRows();
+    }
+
+    /**
+     * Returns the adapter position of the item, or -1 when it is not shown.
+     */
+    public int positionOf(String itemId) {
+        for (int position = 0; position < rows.length; position++) {
+            int row = rows[position];
+            if (row >= 0 && menuItems.get(row).getId().equals(itemId)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private void rebuildRows() {
+        int[] next = new int[menuItems.size() + CATEGORIES.length];
+        int count = 0;
+
+        for (int section = 0; section < CATEGORIES.length; section++) {
+            String category = CATEGORIES[section];
+            if (selectedCategory != null && !selectedCategory.equals(category)) {
+                continue;
+            }
+
+            int headerRow = count;
+            next[count++] = -1 - section;
+            for (int i = 0; i < menuItems.size(); i++) {
+                if (category.equals(menuItems.get(i).getCategory())) {
+                    next[count++] = i;
+                }
+            }
+
+            // Drop headers of empty sections
+            if (count == headerRow + 1) {
+                count = headerRow;
+            }
+        }
+
+        rows = Arrays.copyOf(next, count);
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public int getItemCount() {
+        return rows.length;
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        return rows[position] < 0 ? TYPE_HEADER : TYPE_ITEM;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        // Item rows use their index in the menu; headers count up from Long.MIN_VALUE,
+        // far from RecyclerView.NO_ID (-1), which would leave a header without a stable ID
+        int row = rows[position];
+        return row >= 0 ? row : Long.MIN_VALUE + (-1 - row);
+    }
+
+    @NonNull
+    @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        LayoutInflater inflater = LayoutInflater.from(parent.getContext());
+        if (viewType == TYPE_HEADER) {
+            return new HeaderViewHolder(inflater.inflate(R.layout.menu_section_header, parent, false));
+        }
+        return new ItemViewHolder(inflater.inflate(R.layout.menu_item_card, parent, false), listener);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        int row = rows[position];
+        if (holder instanceof HeaderViewHolder) {
+            ((HeaderViewHolder) holder).title.setText(CATEGORY_TITLES[-1 - row]);
+        } else {
+            ((ItemViewHolder) holder).bind(menuItems.get(row));
+        }
+    }
+
+    @Override
+    public void onViewRecycled(@NonNull RecyclerView.ViewHolder holder) {
+        if (holder instanceof ItemViewHolder) {
+            // The row scrolled away; don't finish loading a photo nobody will see
+            ((ItemViewHolder) holder).unbind();
+        }
+    }
+
+    static class HeaderViewHolder extends RecyclerView.ViewHolder {
+        final TextView title;
+
+        HeaderViewHolder(View itemView) {
+            super(itemView);
+            title = itemView.findViewById(R.id.menuSectionTitle);
+        }
+    }
+
+    static class ItemViewHolder extends RecyclerView.ViewHolder {
+        final TextView name;
+        final TextView description;
+        final TextView price;
+        final TextView emoji;
+        final ImageView photo;
+        final ImageLoader imageLoader;
+        MenuItem item;
+
+        ItemViewHolder(View itemView, OnAddToCartListener listener) {
+            super(itemView);
+            name = itemView.findViewById(R.id.menuItemName);
+            description = itemView.findViewById(R.id.menuItemDescription);
+            price = itemView.findViewById(R.id.menuItemPrice);
+            emoji = itemView.findViewById(R.id.menuItemEmoji);
+            photo = itemView.findViewById(R.id.menuItemPhoto);
+            imageLoader = ImageLoader.getInstance(itemView.getContext());
+
+            // One listener per holder; it reads whichever item is currently bound
+            Button addToCartButton = itemView.findViewById(R.id.btnAddToCartMenuItem);
+            addToCartButton.setOnClickListener(v -> {
+                if (item != null) {
+                    listener.onAddToCart(item);
+                }
+            });
+        }
+
+        void bind(MenuItem menuItem) {
+            item = menuItem;
+            name.setText(menuItem.getName());
+            description.setText(menuItem.getDescription());
+            price.setText(Money.format(menuItem.getPrice()) + " ETB");
+            emoji.setText(menuItem.getEmoji());
+
+            // Emoji until the photo arrives, and for good if there is none
+            emoji.setVisibility(View.VISIBLE);
+            photo.setVisibility(View.GONE);
+            imageLoader.load(menuItem.getImageUrl(), photo, success -> {
+                if (success) {
+                    photo.setVisibility(View.VISIBLE);
+                    emoji.setVisibility(View.INVISIBLE);
+                }
+            });
+        }
+
+        void unbind() {
+            imageLoader.cancel(photo);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.food_delivery_app;
+
+/**
+ * MenuItem
+ * --------
+ * Immutable menu entry shared by the catalog, the menu screen and search.
+ */
+public class MenuItem {
+    private final String id;
+    private final String restaurantId;
+    private final String name;
+    private final String description;
+    private final long price; // minor units, see Money
+    private final String category; // "pizza", "burger", "drinks"
+    private final String emoji;
+    private final String tags;
+    private final String imageUrl; // "" when there is no photo
+
+    public MenuItem(String id, String restaurantId, String name, String description,
+                    long price, String category, String emoji, String tags) {
+        this(id, restaurantId, name, description, price, category, emoji, tags, "");
+    }
+
+    public MenuItem(String id, String restaurantId, String name, String description,
+                    long price, String category, String emoji, String tags, String imageUrl) {
+        this.id = id;
+        this.restaurantId = restaurantId;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.category = category;
+        this.emoji = emoji;
+        this.tags = tags;
+        this.imageUrl = imageUrl;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getEmoji() {
+        return emoji;
+    }
+
+    public String getTags() {
+        return tags;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+}
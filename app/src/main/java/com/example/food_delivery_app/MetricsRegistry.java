@@ -0,0 +1,96 @@
+package com.example.food_delivery_app;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MetricsRegistry
+ * ---------------
+ * Process-wide, in-memory counters and latency histograms for the hot paths (database
+ * lookups, search, filtering, cart changes). Instrumented classes look their metrics up
+ * once, into static fields, so recording is just the lock-free update.
+ * {@link #dump()} gives a readable summary for tests and debug output.
+ */
+public class MetricsRegistry {
+    private static MetricsRegistry instance;
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms =
+            new ConcurrentHashMap<>();
+
+    MetricsRegistry() {
+    }
+
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Current counter values, sorted by name.
+     */
+    public Map<String, Long> counterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        for (Counter counter : counters.values()) {
+            values.put(counter.getName(), counter.get());
+        }
+        return values;
+    }
+
+    /**
+     * Current histogram snapshots, sorted by name.
+     */
+    public Map<String, LatencyHistogram.Snapshot> histogramSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        for (LatencyHistogram histogram : histograms.values()) {
+            snapshots.put(histogram.getName(), histogram.snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * One line per metric, e.g.
+     * {@code search.dishes count=12 mean=85us p50=128us p99=512us max=430us}.
+     */
+    public String dump() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, Long> counter : counterValues().entrySet()) {
+            out.append(counter.getKey()).append(' ').append(counter.getValue()).append('\n');
+        }
+        for (LatencyHistogram.Snapshot histogram : histogramSnapshots().values()) {
+            out.append(String.format(Locale.ROOT,
+                    "%s count=%d mean=%dus p50=%dus p90=%dus p99=%dus max=%dus%n",
+                    histogram.getName(), histogram.getCount(),
+                    histogram.getMeanNanos() / 1_000,
+                    histogram.getPercentileNanos(50) / 1_000,
+                    histogram.getPercentileNanos(90) / 1_000,
+                    histogram.getPercentileNanos(99) / 1_000,
+                    histogram.getMaxNanos() / 1_000));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Zeroes every metric; the metric objects themselves stay registered.
+     */
+    public void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+}
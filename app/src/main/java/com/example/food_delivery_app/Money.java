@@ -0,0 +1,122 @@
+package com.example.food_delivery_app;
+
+/**
+ * Money
+ * -----
+ * Amounts are plain {@code long} values in minor units (santim, 1/100 ETB),
+ * so arithmetic never allocates and never drifts the way doubles do.
+ * This class only holds the conversion and rounding helpers.
+ */
+public final class Money {
+
+    public static final int MINOR_PER_MAJOR = 100;
+
+    // Rates are expressed in basis points: 1500 = 15%
+    public static final int BASIS_POINTS = 10_000;
+
+    private Money() {
+    }
+
+    public static long ofMajor(long major) {
+        return Math.multiplyExact(major, MINOR_PER_MAJOR);
+    }
+
+    /**
+     * Parses a decimal amount such as "450.00", "45" or "1,234.5".
+     * Digits beyond the second decimal place are rounded half up.
+     *
+     * @throws NumberFormatException if the text is not a decimal amount
+     */
+    public static long parse(String text) {
+        if (text == null) {
+            throw new NumberFormatException("null amount");
+        }
+
+        String value = text.trim();
+        boolean negative = value.startsWith("-");
+        int start = negative ? 1 : 0;
+
+        long major = 0;
+        long minor = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        boolean seenDigit = false;
+        boolean inFraction = false;
+
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' && !inFraction) {
+                continue;
+            }
+            if (c == '.' && !inFraction) {
+                inFraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid amount: " + text);
+            }
+            seenDigit = true;
+            int digit = c - '0';
+            if (!inFraction) {
+                major = Math.addExact(Math.multiplyExact(major, 10), digit);
+            } else if (fractionDigits < 2) {
+                minor = minor * 10 + digit;
+                fractionDigits++;
+            } else if (fractionDigits == 2) {
+                roundUp = digit >= 5;
+                fractionDigits++;
+            }
+        }
+
+        if (!seenDigit) {
+            throw new NumberFormatException("Invalid amount: " + text);
+        }
+
+        while (fractionDigits < 2) {
+            minor *= 10;
+            fractionDigits++;
+        }
+
+        long amount = Math.addExact(ofMajor(major), minor + (roundUp ? 1 : 0));
+        return negative ? -amount : amount;
+    }
+
+    /**
+     * Multiplies an amount by a rate in basis points, rounding half away from zero.
+     */
+    public static long applyRate(long amount, int basisPoints) {
+        long scaled = Math.multiplyExact(amount, basisPoints);
+        long half = BASIS_POINTS / 2;
+        return scaled >= 0
+                ? (scaled + half) / BASIS_POINTS
+                : -((-scaled + half) / BASIS_POINTS);
+    }
+
+    /**
+     * Formats an amount as "#,##0.00", e.g. 123456 becomes "1,234.56".
+     */
+    public static String format(long amount) {
+        StringBuilder builder = new StringBuilder(24);
+        if (amount < 0) {
+            builder.append('-');
+        }
+
+        // Work with the magnitude; Long.MIN_VALUE is not a realistic amount
+        long magnitude = Math.abs(amount);
+        String major = Long.toString(magnitude / MINOR_PER_MAJOR);
+        for (int i = 0; i < major.length(); i++) {
+            if (i > 0 && (major.length() - i) % 3 == 0) {
+                builder.append(',');
+            }
+            builder.append(major.charAt(i));
+        }
+
+        long minor = magnitude % MINOR_PER_MAJOR;
+        builder.append('.');
+        if (minor < 10) {
+            builder.append('0');
+        }
+        builder.append(minor);
+        return builder.toString();
+    }
+}
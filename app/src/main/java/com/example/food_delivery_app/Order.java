@@ -0,0 +1,59 @@
+package com.example.food_delivery_app;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Order
+ * -----
+ * One placed order as recorded in the orders table. Amounts are in minor units
+ * (see {@link Money}); the line items are read separately with
+ * {@link DatabaseHelper#getOrderItems(long)}.
+ */
+public class Order {
+    private final long id;
+    private final String orderNumber;
+    private final long userId;
+    private final long createdAt; // epoch millis
+    private final CartTotals totals;
+    private final int itemCount;
+
+    public Order(long id, String orderNumber, long userId, long createdAt, CartTotals totals,
+                 int itemCount) {
+        this.id = id;
+        this.orderNumber = orderNumber;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.totals = totals;
+        this.itemCount = itemCount;
+    }
+
+    // Short, human readable number shown to the customer, e.g. FD-3F2A9C1B
+    public static String newOrderNumber() {
+        return "FD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public CartTotals getTotals() {
+        return totals;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.food_delivery_app;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * OrderService
+ * ------------
+ * Records orders off the main thread and delivers the stored {@link Order}
+ * back on the callback executor.
+ */
+public class OrderService {
+
+    public interface Callback {
+        void onOrderPlaced(Order order);
+    }
+
+    private final DatabaseHelper databaseHelper;
+    private final Executor backgroundExecutor;
+    private final Executor callbackExecutor;
+
+    public OrderService(DatabaseHelper databaseHelper, Executor backgroundExecutor,
+                        Executor callbackExecutor) {
+        this.databaseHelper = databaseHelper;
+        this.backgroundExecutor = backgroundExecutor;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Writes the order and its lines in one transaction. The callback always runs, and
+     * gets null if the write failed.
+     */
+    public void placeOrder(long userId, List<CartItem> items, CartTotals totals,
+                           Callback callback) {
+        backgroundExecutor.execute(() -> {
+            Order order;
+            try {
+                order = databaseHelper.placeOrder(userId, items, totals);
+            } catch (RuntimeException e) {
+                // E.g. a constraint failure or a full disk; the transaction was rolled back
+                order = null;
+            }
+
+            Order placed = order;
+            callbackExecutor.execute(() -> callback.onOrderPlaced(placed));
+        });
+    }
+}
@@ -3,6 +3,8 @@ package com.example.food_delivery_app;
 import android.content.Intent;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 import android.widget.Button;
 import android.widget.ImageButton;
@@ -15,6 +17,12 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
 public class OrderTrackingActivity extends AppCompatActivity {
 
     // Sample data
@@ -24,6 +32,41 @@ public class OrderTrackingActivity extends AppCompatActivity {
     private static final String DEFAULT_ORDER_NUMBER = "FD-2345-12";
     private static final String DEFAULT_ESTIMATED_TIME = "2:45 pm (15min)";
 
+    // Simulated delivery route across Addis Ababa, restaurant to customer
+    private static final List<GeoPoint> SAMPLE_ROUTE = Arrays.asList(
+            new GeoPoint(9.0108, 38.7613),
+            new GeoPoint(9.0150, 38.7640),
+            new GeoPoint(9.0192, 38.7625),
+            new GeoPoint(9.0227, 38.7669),
+            new GeoPoint(9.0262, 38.7701)
+    );
+    private static final double SIMULATED_SPEED_METERS_PER_SECOND = 6.0;
+    // The feed reports far more often than the screen redraws, like a real GPS stream can
+    private static final long FEED_INTERVAL_MS = 20;
+    private static final long UI_REFRESH_MS = 250;
+
+    private final Handler uiHandler = new Handler(Looper.getMainLooper());
+    private final SimpleDateFormat etaFormat = new SimpleDateFormat("h:mm a", Locale.getDefault());
+
+    private CourierFeed courierFeed;
+    private CourierTracker courierTracker;
+    private TextView tvEstimatedTime;
+    private TextView tvCourierStatus;
+
+    // Last state drawn; only fields that changed are set again
+    private TrackingState renderedState;
+
+    private final Runnable refreshTick = new Runnable() {
+        @Override
+        public void run() {
+            TrackingState state = courierTracker.poll();
+            if (state != null) {
+                render(state);
+            }
+            uiHandler.postDelayed(this, UI_REFRESH_MS);
+        }
+    };
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -34,7 +77,8 @@ public class OrderTrackingActivity extends AppCompatActivity {
         TextView tvOrderNumber = findViewById(R.id.tvOrderNumber);
         TextView tvDriverName = findViewById(R.id.tvDriverName);
         TextView tvVehicle = findViewById(R.id.tvVehicle);
-        TextView tvEstimatedTime = findViewById(R.id.tvEstimatedTime);
+        tvEstimatedTime = findViewById(R.id.tvEstimatedTime);
+        tvCourierStatus = findViewById(R.id.tvCourierStatus);
 
         Button btnCall = findViewById(R.id.btnCall);
         Button btnMessage = findViewById(R.id.btnMessage);
@@ -64,6 +108,11 @@ public class OrderTrackingActivity extends AppCompatActivity {
         tvVehicle.setText(vehicle);
         tvEstimatedTime.setText(estimatedTime);
 
+        // Live courier position; replace the simulator with a real feed when there is one
+        courierTracker = new CourierTracker(SAMPLE_ROUTE.get(SAMPLE_ROUTE.size() - 1));
+        courierFeed = new SimulatedCourierFeed(SAMPLE_ROUTE,
+                SIMULATED_SPEED_METERS_PER_SECOND, FEED_INTERVAL_MS);
+
         // ================= BUTTON LISTENERS =================
 
         String finalDriverPhone1 = driverPhone;
@@ -110,6 +159,43 @@ public class OrderTrackingActivity extends AppCompatActivity {
         handleWindowInsets();
     }
 
+    @Override
+    protected void onStart() {
+        super.onStart();
+        courierFeed.start(courierTracker);
+        uiHandler.post(refreshTick);
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+        uiHandler.removeCallbacks(refreshTick);
+        courierFeed.stop();
+    }
+
+    private void render(TrackingState state) {
+        TrackingState previous = renderedState;
+        renderedState = state;
+
+        if (previous == null || previous.getEtaMinutes() != state.getEtaMinutes()
+                || previous.isDelivered() != state.isDelivered()) {
+            if (state.isDelivered()) {
+                tvEstimatedTime.setText("Delivered");
+            } else {
+                Date arrival = new Date(System.currentTimeMillis()
+                        + state.getEtaMinutes() * 60_000L);
+                tvEstimatedTime.setText(etaFormat.format(arrival)
+                        + " (" + state.getEtaMinutes() + "min)");
+            }
+        }
+
+        if (previous == null
+                || previous.getDistanceHundredMeters() != state.getDistanceHundredMeters()
+                || previous.isDelivered() != state.isDelivered()) {
+            tvCourierStatus.setText(state.getStatusText());
+        }
+    }
+
     private void makePhoneCall(String phoneNumber, String driverName) {
         try {
             Intent callIntent = new Intent(Intent.ACTION_DIAL);
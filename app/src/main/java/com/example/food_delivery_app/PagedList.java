@@ -0,0 +1,194 @@
+package com.example.food_delivery_app;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * PagedList
+ * ---------
+ * A list that is read from its source one page at a time, for feeds too long to
+ * hold or bind at once.
+ *
+ * The list grows as pages arrive. Reading within prefetchDistance of the loaded
+ * end requests the next page before the user reaches it. At most maxPages pages
+ * are kept: the ones farthest from where the user last read are dropped and read
+ * again if the user scrolls back. Memory stays constant however long the feed is.
+ *
+ * Pages load on the loader executor and are applied on the UI executor. All
+ * other methods must be called on the UI thread.
+ */
+public class PagedList<T> {
+
+    private static final LatencyHistogram PAGE_LOAD_LATENCY =
+            MetricsRegistry.getInstance().histogram("paged_list.load");
+
+    /**
+     * Reads one page. Called on the loader executor.
+     */
+    public interface PageSource<T> {
+        /**
+         * @return up to limit items starting at offset; fewer means the end was reached
+         */
+        List<T> loadPage(int offset, int limit);
+    }
+
+    /**
+     * Told about items that arrived, on the UI executor.
+     */
+    public interface Callback {
+        void onItemsInserted(int position, int count);
+
+        // A dropped page was read again; its positions now have items instead of placeholders
+        void onItemsChanged(int position, int count);
+    }
+
+    private final PageSource<T> source;
+    private final int pageSize;
+    private final int prefetchDistance;
+    private final int maxPages;
+    private final Executor loader;
+    private final Executor uiExecutor;
+    private final Callback callback;
+
+    private final Map<Integer, List<T>> pages = new HashMap<>();
+    private final Set<Integer> loading = new HashSet<>();
+    private int size;
+    private boolean complete;
+    private int lastReadPage;
+    private boolean closed;
+
+    public PagedList(PageSource<T> source, int pageSize, int prefetchDistance, int maxPages,
+                     Executor loader, Executor uiExecutor, Callback callback) {
+        if (pageSize <= 0 || maxPages < 2) {
+            throw new IllegalArgumentException("pageSize " + pageSize + ", maxPages " + maxPages);
+        }
+        this.source = source;
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+        this.maxPages = maxPages;
+        this.loader = loader;
+        this.uiExecutor = uiExecutor;
+        this.callback = callback;
+    }
+
+    /**
+     * Requests the first page.
+     */
+    public void start() {
+        requestPage(0);
+    }
+
+    /**
+     * Stops applying pages, e.g. once the list has been replaced by a new one.
+     */
+    public void close() {
+        closed = true;
+        pages.clear();
+    }
+
+    /**
+     * Number of items loaded so far, including positions whose page was dropped.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether the source has no more pages.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Whether the page holding this position is in memory.
+     */
+    public boolean isLoaded(int position) {
+        return pages.containsKey(position / pageSize);
+    }
+
+    int getCachedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Returns the item, or null while its page is being read. Also prefetches the
+     * next page when the position is close to the loaded end.
+     */
+    public T get(int position) {
+        int page = position / pageSize;
+        lastReadPage = page;
+
+        if (!complete && position >= size - prefetchDistance) {
+            requestPage(size / pageSize);
+        }
+
+        List<T> items = pages.get(page);
+        if (items == null) {
+            requestPage(page);
+            return null;
+        }
+        return items.get(position - page * pageSize);
+    }
+
+    private void requestPage(int page) {
+        if (closed || pages.containsKey(page) || !loading.add(page)) {
+            return;
+        }
+
+        int offset = page * pageSize;
+        loader.execute(() -> {
+            long start = System.nanoTime();
+            List<T> items;
+            try {
+                items = source.loadPage(offset, pageSize);
+            } catch (RuntimeException e) {
+                // Forget the request; the next read of this page tries again
+                items = null;
+            }
+            PAGE_LOAD_LATENCY.recordSince(start);
+
+            List<T> loaded = items;
+            uiExecutor.execute(() -> onPageLoaded(page, loaded));
+        });
+    }
+
+    private void onPageLoaded(int page, List<T> items) {
+        loading.remove(page);
+        if (closed || items == null) {
+            return;
+        }
+
+        int offset = page * pageSize;
+        pages.put(page, items);
+
+        if (offset == size && !complete) {
+            // The next page of the feed
+            size += items.size();
+            complete = items.size() < pageSize;
+            if (!items.isEmpty()) {
+                callback.onItemsInserted(offset, items.size());
+            }
+        } else {
+            callback.onItemsChanged(offset, items.size());
+        }
+
+        trimPages();
+    }
+
+    private void trimPages() {
+        while (pages.size() > maxPages) {
+            int farthest = -1;
+            for (int page : pages.keySet()) {
+                if (farthest < 0 || Math.abs(page - lastReadPage) > Math.abs(farthest - lastReadPage)) {
+                    farthest = page;
+                }
+            }
+            pages.remove(farthest);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.food_delivery_app;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * PhoneNumbers
+ * ------------
+ * Canonical form for phone numbers, so "0911 22 33 44", "+251-911-223344" and
+ * "00251911223344" are stored and looked up as the same "+251911223344".
+ *
+ * Local numbers (a leading 0, or a bare 9-digit subscriber number) get the
+ * default country code; anything else is taken as already international.
+ */
+public final class PhoneNumbers {
+
+    // Ethiopia
+    static final String DEFAULT_COUNTRY_CODE = "251";
+
+    private static final int SUBSCRIBER_DIGITS = 9;
+    private static final int MIN_DIGITS = 8;
+    private static final int MAX_DIGITS = 15;  // E.164
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * Returns the number as '+' followed by digits only, or null if the text is not
+     * a phone number.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        StringBuilder digits = new StringBuilder(MAX_DIGITS + 1);
+        boolean international = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c == '+' && digits.length() == 0 && !international) {
+                international = true;
+            } else if (c != ' ' && c != '-' && c != '.' && c != '(' && c != ')') {
+                return null;
+            }
+        }
+
+        if (!international) {
+            if (digits.length() > 2 && digits.charAt(0) == '0' && digits.charAt(1) == '0') {
+                // 00 is the international call prefix
+                digits.delete(0, 2);
+            } else if (digits.length() > 0 && digits.charAt(0) == '0') {
+                digits.replace(0, 1, DEFAULT_COUNTRY_CODE);
+            } else if (digits.length() == SUBSCRIBER_DIGITS) {
+                digits.insert(0, DEFAULT_COUNTRY_CODE);
+            }
+        }
+
+        if (digits.length() < MIN_DIGITS || digits.length() > MAX_DIGITS || digits.charAt(0) == '0') {
+            return null;
+        }
+        return digits.insert(0, '+').toString();
+    }
+
+    /**
+     * The phones to store so they can take a unique index, given the stored phones of
+     * the accounts oldest first. Unparseable numbers become null, and so does a number
+     * an older account already has.
+     */
+    static String[] canonicalForUniqueIndex(String[] stored) {
+        String[] phones = new String[stored.length];
+        Set<String> taken = new HashSet<>();
+        for (int i = 0; i < stored.length; i++) {
+            String phone = normalize(stored[i]);
+            if (phone != null && taken.add(phone)) {
+                phones[i] = phone;
+            }
+        }
+        return phones;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.food_delivery_app;
+
+/**
+ * Pricing
+ * -------
+ * The single place where delivery fee, tax and total are derived from a
+ * cart subtotal. All amounts are in minor units (see {@link Money}).
+ */
+public final class Pricing {
+
+    public static final long DELIVERY_FEE = Money.ofMajor(60);
+
+    // Free delivery for orders of 500 ETB and above
+    public static final long FREE_DELIVERY_THRESHOLD = Money.ofMajor(500);
+
+    // 15% tax
+    public static final int TAX_RATE_BASIS_POINTS = 1_500;
+
+    private Pricing() {
+    }
+
+    public static long deliveryFee(long subtotal) {
+        return subtotal >= FREE_DELIVERY_THRESHOLD ? 0 : DELIVERY_FEE;
+    }
+
+    public static long tax(long subtotal) {
+        return Money.applyRate(subtotal, TAX_RATE_BASIS_POINTS);
+    }
+
+    public static CartTotals price(long subtotal) {
+        long deliveryFee = deliveryFee(subtotal);
+        long tax = tax(subtotal);
+        return new CartTotals(subtotal, deliveryFee, tax, subtotal + deliveryFee + tax);
+    }
+}
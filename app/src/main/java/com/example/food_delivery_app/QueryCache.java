@@ -0,0 +1,118 @@
+package com.example.food_delivery_app;
+
+/**
+ * QueryCache
+ * ----------
+ * Recent search results as lists of document IDs, shared by the search engines
+ * of every catalog version.
+ *
+ * A key is the normalized query plus the catalog version, the kind of search
+ * and the result limit. A new catalog version therefore never sees results
+ * from an older one; those entries just age out of the LRU order. The cache is
+ * bounded both by entry count and by an estimate of the memory its ID lists
+ * hold. Hits and misses are counted in {@link MetricsRegistry}.
+ */
+public class QueryCache {
+
+    static final int MAX_ENTRIES = 256;
+    static final long MAX_BYTES = 512 * 1024;
+
+    // Key, query text and map node, roughly, on top of the ID array itself
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private static final Counter HITS = MetricsRegistry.getInstance().counter("search.cache.hits");
+    private static final Counter MISSES = MetricsRegistry.getInstance().counter("search.cache.misses");
+
+    private static QueryCache instance;
+
+    private final MemoryCache<Key, int[]> results;
+
+    public QueryCache(int maxEntries, long maxBytes) {
+        this.results = new MemoryCache<>(maxBytes, maxEntries,
+                ids -> ENTRY_OVERHEAD_BYTES + 4 * ids.length);
+    }
+
+    public static synchronized QueryCache getInstance() {
+        if (instance == null) {
+            instance = new QueryCache(MAX_ENTRIES, MAX_BYTES);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the cached IDs, or null on a miss. Callers must not modify the array.
+     *
+     * @param scope what was searched, e.g. "dishes"
+     * @param limit the result limit the IDs were computed for
+     */
+    public int[] get(long catalogVersion, String scope, String query, int limit) {
+        int[] ids = results.get(new Key(catalogVersion, scope, TextNormalizer.normalize(query), limit));
+        if (ids == null) {
+            MISSES.increment();
+        } else {
+            HITS.increment();
+        }
+        return ids;
+    }
+
+    public void put(long catalogVersion, String scope, String query, int limit, int[] ids) {
+        results.put(new Key(catalogVersion, scope, TextNormalizer.normalize(query), limit), ids);
+    }
+
+    public void clear() {
+        results.clear();
+    }
+
+    public int count() {
+        return results.count();
+    }
+
+    public long sizeInBytes() {
+        return results.size();
+    }
+
+    public static Counter hits() {
+        return HITS;
+    }
+
+    public static Counter misses() {
+        return MISSES;
+    }
+
+    private static final class Key {
+        final long catalogVersion;
+        final String scope;
+        final String query;
+        final int limit;
+
+        Key(long catalogVersion, String scope, String query, int limit) {
+            this.catalogVersion = catalogVersion;
+            this.scope = scope;
+            this.query = query;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return catalogVersion == key.catalogVersion
+                    && limit == key.limit
+                    && scope.equals(key.scope)
+                    && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(catalogVersion);
+            hash = 31 * hash + scope.hashCode();
+            hash = 31 * hash + query.hashCode();
+            return 31 * hash + limit;
+        }
+    }
+}
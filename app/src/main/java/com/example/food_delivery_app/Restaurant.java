@@ -0,0 +1,118 @@
+package com.example.food_delivery_app;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Restaurant
+ * ----------
+ * Immutable restaurant record with its menu, as served by {@link CatalogRepository}.
+ * The menu may be loaded lazily, the first time {@link #getMenuItems} is called, so
+ * screens that only list restaurants never read the dishes.
+ */
+public class Restaurant {
+
+    public interface MenuLoader {
+        List<MenuItem> load();
+    }
+
+    private final String id;
+    private final String name;
+    private final String tags;
+    private final String rating;
+    private final String foodType;
+    private final String deliveryTime;
+    private final String minOrder;
+    private final GeoPoint location;
+    private final int menuSize;
+
+    // Set once the menu is loaded; the loader is dropped then
+    private MenuLoader menuLoader;
+    private volatile List<MenuItem> menuItems;
+
+    public Restaurant(String id, String name, String tags, String rating, String foodType,
+                      String deliveryTime, String minOrder, GeoPoint location,
+                      List<MenuItem> menuItems) {
+        this.id = id;
+        this.name = name;
+        this.tags = tags;
+        this.rating = rating;
+        this.foodType = foodType;
+        this.deliveryTime = deliveryTime;
+        this.minOrder = minOrder;
+        this.location = location;
+        this.menuSize = menuItems.size();
+        this.menuItems = Collections.unmodifiableList(menuItems);
+    }
+
+    /**
+     * A restaurant whose menu of {@code menuSize} items is loaded on first use.
+     */
+    public Restaurant(String id, String name, String tags, String rating, String foodType,
+                      String deliveryTime, String minOrder, GeoPoint location,
+                      int menuSize, MenuLoader menuLoader) {
+        this.id = id;
+        this.name = name;
+        this.tags = tags;
+        this.rating = rating;
+        this.foodType = foodType;
+        this.deliveryTime = deliveryTime;
+        this.minOrder = minOrder;
+        this.location = location;
+        this.menuSize = menuSize;
+        this.menuLoader = menuLoader;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTags() {
+        return tags;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public String getFoodType() {
+        return foodType;
+    }
+
+    public String getDeliveryTime() {
+        return deliveryTime;
+    }
+
+    public String getMinOrder() {
+        return minOrder;
+    }
+
+    public GeoPoint getLocation() {
+        return location;
+    }
+
+    /**
+     * Number of dishes on the menu, known without loading it.
+     */
+    public int getMenuSize() {
+        return menuSize;
+    }
+
+    public List<MenuItem> getMenuItems() {
+        List<MenuItem> menu = menuItems;
+        if (menu != null) {
+            return menu;
+        }
+        synchronized (this) {
+            if (menuItems == null) {
+                menuItems = Collections.unmodifiableList(menuLoader.load());
+                menuLoader = null;
+            }
+            return menuItems;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.food_delivery_app;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * RestaurantAdapter
+ * -----------------
+ * Recycled restaurant feed backed by a {@link PagedList}.
+ * Rows whose page is still being read show a placeholder and are rebound
+ * when the page arrives.
+ */
+public class RestaurantAdapter extends RecyclerView.Adapter<RestaurantAdapter.ViewHolder>
+        implements PagedList.Callback {
+
+    /**
+     * Called when the user taps "View Menu" on a row.
+     */
+    public interface OnRestaurantClickListener {
+        void onRestaurantClick(Restaurant restaurant);
+    }
+
+    private final OnRestaurantClickListener listener;
+    private PagedList<Restaurant> restaurants;
+
+    public RestaurantAdapter(OnRestaurantClickListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Replaces the feed, e.g. after the filters changed. The old list stops loading.
+     */
+    public void setRestaurants(PagedList<Restaurant> next) {
+        if (restaurants != null) {
+            restaurants.close();
+        }
+        restaurants = next;
+        notifyDataSetChanged();
+        next.start();
+    }
+
+    @Override
+    public void onItemsInserted(int position, int count) {
+        notifyItemRangeInserted(position, count);
+    }
+
+    @Override
+    public void onItemsChanged(int position, int count) {
+        notifyItemRangeChanged(position, count);
+    }
+
+    @Override
+    public int getItemCount() {
+        return restaurants == null ? 0 : restaurants.size();
+    }
+
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.item_restaurant_card, parent, false);
+        return new ViewHolder(view, listener);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        holder.bind(restaurants.get(position));
+    }
+
+    static class ViewHolder extends RecyclerView.ViewHolder {
+        final TextView name;
+        final TextView tags;
+        final Button viewMenu;
+        Restaurant restaurant;
+
+        ViewHolder(View itemView, OnRestaurantClickListener listener) {
+            super(itemView);
+            name = itemView.findViewById(R.id.restaurantName);
+            tags = itemView.findViewById(R.id.restaurantTags);
+            viewMenu = itemView.findViewById(R.id.viewMenuButton);
+
+            // One listener per holder; it reads whichever restaurant is currently bound
+            viewMenu.setOnClickListener(v -> {
+                if (restaurant != null) {
+                    listener.onRestaurantClick(restaurant);
+                }
+            });
+        }
+
+        void bind(Restaurant next) {
+            restaurant = next;
+            if (next == null) {
+                name.setText("Loading…");
+                tags.setText("");
+                viewMenu.setEnabled(false);
+                return;
+            }
+            name.setText(next.getName());
+            tags.setText(next.getTags() + " · " + next.getDeliveryTime());
+            viewMenu.setEnabled(true);
+        }
+    }
+}
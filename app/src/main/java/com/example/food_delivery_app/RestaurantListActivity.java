@@ -6,18 +6,21 @@ import android.text.Editable;
 import android.text.TextUtils;
 import android.text.TextWatcher;
 import android.view.KeyEvent;
-import android.view.View;
-import android.widget.Button;
+import android.widget.ArrayAdapter;
 import android.widget.ImageButton;
-import android.widget.LinearLayout;
+import android.widget.ListPopupWindow;
 import android.widget.TextView;
 
 import androidx.appcompat.app.AppCompatActivity;
-import androidx.cardview.widget.CardView;
+import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.textfield.TextInputEditText;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -25,20 +28,59 @@ import java.util.List;
  * ----------------------
  * This activity displays all available restaurants.
  * Users can:
- *  - Search restaurants by name or tag
- *  - Filter restaurants by category
+ *  - Search restaurants by name or tag, with suggestions as they type
+ *  - Filter restaurants by one or more categories
  *  - Select a restaurant to view its menu
+ *
+ * The list is a recycled feed read from the catalog's RestaurantStore in pages of
+ * R.integer.restaurant_page_size, so thousands of restaurants scroll without
+ * binding or holding all of them at once. Only each restaurant's name and tags
+ * are read up front, on the disk thread, to build the search and category filters.
  */
 public class RestaurantListActivity extends AppCompatActivity {
 
     // Search input field
     private TextInputEditText searchInput;
 
-    // Container layout for restaurant cards
-    private LinearLayout restaurantsContainer;
+    // Recycled, paged restaurant feed
+    private RestaurantAdapter restaurantAdapter;
 
-    // List holding restaurant card references for filtering
-    private List<RestaurantCard> restaurantCards = new ArrayList<>();
+    // Where feed pages are read from; null until opened on the disk thread
+    private RestaurantStore restaurantStore;
+
+    // Debounced background filter driven by the search box
+    private LiveFilter liveFilter;
+
+    // Suggestions for the search box; null until built off the main thread
+    private CompletionTrie completions;
+    private ListPopupWindow suggestionsPopup;
+    private ArrayAdapter<String> suggestionsAdapter;
+
+    // Delay after the last keystroke before filtering starts
+    private static final long SEARCH_DEBOUNCE_MS = 150;
+
+    // Pages kept in memory around the scroll position; older ones are read again on demand
+    private static final int MAX_CACHED_PAGES = 5;
+
+    // Selected categories narrow the list: a restaurant must carry every one
+    private static final FacetIndex.Mode CATEGORY_MODE = FacetIndex.Mode.ALL;
+
+    private int pageSize;
+
+    // Restaurant tags, parsed once into per-restaurant facet bitsets
+    private FacetIndex facetIndex;
+    private FacetIndex.Selection selectedCategories;
+
+    // Category chips with their facet IDs, in layout order
+    private final List<CategoryChip> categoryChips = new ArrayList<>();
+
+    // Per-restaurant results of the search box and of the category chips
+    private boolean[] textMatches;
+    private boolean[] categoryMatches;
+    private boolean[] visible;
+
+    // Facet counts over the visible restaurants, updated as they show and hide
+    private FacetIndex.Counts visibleCounts;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -53,87 +95,118 @@ public class RestaurantListActivity extends AppCompatActivity {
 
         // Initialize views
         searchInput = findViewById(R.id.searchInput);
-        restaurantsContainer = findViewById(R.id.restaurantsLayout);
+        pageSize = getResources().getInteger(R.integer.restaurant_page_size);
 
-        /*
-         * NOTE:
-         * Restaurants are filtered by hiding/showing CardViews
-         * instead of dynamically adding or removing views.
-         */
+        // Setup the recycled restaurant feed
+        setupRestaurantList();
 
         // Setup search functionality
         setupSearch();
 
-        // Setup restaurant button click actions
-        setupRestaurantButtons();
+        // Setup search suggestions
+        setupSuggestions();
 
-        // Setup food category filters
-        setupCategoryFilters();
+        // Open the catalog store, then build the filters and show the first page
+        loadCatalog();
+    }
 
-        // Initialize restaurant data list
-        initializeRestaurantCards();
+    /**
+     * Opens the restaurant store and reads the names and tags the filters need on the
+     * disk thread; the restaurants themselves are read page by page as the feed scrolls
+     */
+    private void loadCatalog() {
+
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            RestaurantStore store = CatalogRepository.getInstance().getRestaurantStore();
+            int count = store.getRestaurantCount();
+            String[] tags = new String[count];
+            String[] keys = new String[count];
+            for (int i = 0; i < count; i++) {
+                tags[i] = store.getRestaurantTags(i);
+                keys[i] = TextNormalizer.normalize(store.getRestaurantName(i)) + "\n"
+                        + TextNormalizer.normalize(tags[i]);
+            }
+            FacetIndex facets = new FacetIndex(tags);
+
+            AppExecutors.getInstance().mainThread().execute(() -> {
+                if (isDestroyed()) {
+                    return;
+                }
+                restaurantStore = store;
+
+                // Parse tags into facets and start with every restaurant visible
+                initializeFacets(facets);
+
+                // Setup background filtering for the search box
+                setupLiveFilter(keys);
+
+                // Setup food category filters
+                setupCategoryFilters();
+
+                // Show the first page, or apply what was typed while the catalog opened
+                submitVisibleRestaurants();
+                if (searchInput != null && searchInput.getText() != null
+                        && searchInput.getText().length() > 0) {
+                    filterRestaurants(searchInput.getText().toString());
+                }
+            });
+        });
     }
 
     /**
-     * Initializes restaurant card data
+     * Creates the recycled list; rows open the restaurant's menu
      */
-    private void initializeRestaurantCards() {
-
-        restaurantCards.add(new RestaurantCard(
-                findViewById(R.id.btnSunny),
-                findViewById(R.id.tvSunnyName),
-                "Sunny Burger and Pizza",
-                "sunny",
-                "Pizza,Burger"
-        ));
+    private void setupRestaurantList() {
 
-        restaurantCards.add(new RestaurantCard(
-                findViewById(R.id.btnRome),
-                findViewById(R.id.tvRomeName),
-                "Rome 1960 Chicken, Pizza and Burger",
-                "rome",
-                "Chicken,Pizza,Burger"
-        ));
+        RecyclerView restaurantsList = findViewById(R.id.restaurantsList);
+        restaurantsList.setLayoutManager(new LinearLayoutManager(this));
 
-        restaurantCards.add(new RestaurantCard(
-                findViewById(R.id.btnHTown),
-                findViewById(R.id.tvHTownName),
-                "H Town Burger",
-                "htown",
-                "Burger"
-        ));
+        restaurantAdapter = new RestaurantAdapter(this::openRestaurant);
+        restaurantsList.setAdapter(restaurantAdapter);
+    }
 
-        restaurantCards.add(new RestaurantCard(
-                findViewById(R.id.btnVenezia),
-                findViewById(R.id.tvVeneziaName),
-                "Venezia – Italian Restaurant",
-                "venezia",
-                "Italian,Pasta"
-        ));
+    /**
+     * Takes the facet index built over the restaurants' tags
+     */
+    private void initializeFacets(FacetIndex facets) {
 
-        restaurantCards.add(new RestaurantCard(
-                findViewById(R.id.btnTokyo),
-                findViewById(R.id.tvTokyoName),
-                "Tokyo Sushi House",
-                "tokyo",
-                "Sushi,Japanese"
-        ));
+        facetIndex = facets;
+        selectedCategories = facetIndex.newSelection();
 
-        restaurantCards.add(new RestaurantCard(
-                findViewById(R.id.btnNapoli),
-                findViewById(R.id.tvNapoliName),
-                "Napoli Pizza House",
-                "napoli",
-                "Pizza,Italian"
-        ));
+        int count = facetIndex.size();
+        textMatches = new boolean[count];
+        categoryMatches = new boolean[count];
+        visible = new boolean[count];
+        Arrays.fill(textMatches, true);
+        Arrays.fill(categoryMatches, true);
+        Arrays.fill(visible, true);
 
-        restaurantCards.add(new RestaurantCard(
-                findViewById(R.id.btnJuice),
-                findViewById(R.id.tvJuiceName),
-                "Fresh Juice Bar",
-                "juice",
-                "Juice,Drinks"
-        ));
+        visibleCounts = facetIndex.count(visible);
+    }
+
+    /**
+     * Creates the live filter over precomputed, normalized name and tag keys
+     */
+    private void setupLiveFilter(String[] keys) {
+
+        liveFilter = new LiveFilter(
+                keys,
+                SEARCH_DEBOUNCE_MS,
+                AppExecutors.getInstance().filter(),
+                ContextCompat.getMainExecutor(this),
+                (shown, hidden) -> {
+                    for (int index : shown) {
+                        textMatches[index] = true;
+                        applyVisibility(index);
+                    }
+                    for (int index : hidden) {
+                        textMatches[index] = false;
+                        applyVisibility(index);
+                    }
+                    refreshCategoryCounts();
+                    submitVisibleRestaurants();
+                }
+        );
     }
 
     /**
@@ -150,6 +223,7 @@ public class RestaurantListActivity extends AppCompatActivity {
                 @Override
                 public void onTextChanged(CharSequence s, int start, int before, int count) {
                     filterRestaurants(s.toString());
+                    showSuggestions(s.toString());
                 }
 
                 @Override
@@ -162,6 +236,7 @@ public class RestaurantListActivity extends AppCompatActivity {
                 public boolean onEditorAction(TextView v, int actionId, KeyEvent event) {
 
                     String query = v.getText().toString().trim();
+                    suggestionsPopup.dismiss();
 
                     if (!TextUtils.isEmpty(query)) {
                         // Navigate to full search results screen
@@ -177,17 +252,53 @@ public class RestaurantListActivity extends AppCompatActivity {
     }
 
     /**
-     * Sets click listeners for restaurant buttons
+     * Creates the suggestion dropdown under the search box.
+     * The trie comes with the search engine, built on the disk thread.
      */
-    private void setupRestaurantButtons() {
-
-        setupButton(R.id.btnSunny, "Sunny Burger and Pizza", "sunny");
-        setupButton(R.id.btnRome, "Rome 1960 Chicken, Pizza and Burger", "rome");
-        setupButton(R.id.btnHTown, "H Town Burger", "htown");
-        setupButton(R.id.btnVenezia, "Venezia – Italian Restaurant", "venezia");
-        setupButton(R.id.btnTokyo, "Tokyo Sushi House", "tokyo");
-        setupButton(R.id.btnNapoli, "Napoli Pizza House", "napoli");
-        setupButton(R.id.btnJuice, "Fresh Juice Bar", "juice");
+    private void setupSuggestions() {
+
+        suggestionsAdapter = new ArrayAdapter<>(this, android.R.layout.simple_list_item_1);
+        suggestionsPopup = new ListPopupWindow(this);
+        suggestionsPopup.setAnchorView(searchInput);
+        suggestionsPopup.setInputMethodMode(ListPopupWindow.INPUT_METHOD_NEEDED);
+        suggestionsPopup.setAdapter(suggestionsAdapter);
+        suggestionsPopup.setOnItemClickListener((parent, view, position, id) -> {
+            String suggestion = suggestionsAdapter.getItem(position);
+            suggestionsPopup.dismiss();
+            navigateToSearchResults(suggestion);
+        });
+
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            CatalogSnapshot snapshot = CatalogRepository.getInstance().getSnapshot();
+            CompletionTrie trie = SearchEngine.forSnapshot(snapshot).getCompletions();
+            AppExecutors.getInstance().mainThread().execute(() -> {
+                if (!isDestroyed()) {
+                    completions = trie;
+                }
+            });
+        });
+    }
+
+    /**
+     * Shows the most popular completions of the typed prefix.
+     * A lookup only walks the prefix, so it runs on every keystroke.
+     */
+    private void showSuggestions(String prefix) {
+
+        List<String> suggestions = completions == null
+                ? Collections.<String>emptyList()
+                : completions.complete(prefix);
+
+        if (suggestions.isEmpty()) {
+            suggestionsPopup.dismiss();
+            return;
+        }
+
+        suggestionsAdapter.clear();
+        suggestionsAdapter.addAll(suggestions);
+        if (!suggestionsPopup.isShowing()) {
+            suggestionsPopup.show();
+        }
     }
 
     /**
@@ -199,119 +310,144 @@ public class RestaurantListActivity extends AppCompatActivity {
         setupCategory(R.id.categoryDrinks, "Drinks");
         setupCategory(R.id.categorySushi, "Sushi");
         setupCategory(R.id.categoryDessert, "Dessert");
+        refreshCategoryCounts();
     }
 
     /**
-     * Sets click behavior for each category
+     * Sets toggle behavior for each category
      */
     private void setupCategory(int categoryId, String category) {
 
         TextView categoryView = findViewById(categoryId);
 
         if (categoryView != null) {
-            categoryView.setOnClickListener(v -> {
+            CategoryChip chip = new CategoryChip(categoryView, category,
+                    facetIndex.getFacetId(category));
+            categoryChips.add(chip);
+
+            // No restaurant carries this tag, so selecting it could only empty the list
+            if (chip.facetId < 0) {
+                categoryView.setEnabled(false);
+                return;
+            }
 
-                // Reset all category styles
-                resetCategoryBackgrounds();
+            categoryView.setOnClickListener(v -> {
 
-                // Highlight selected category
-                categoryView.setBackgroundResource(R.drawable.category_bg_selected);
+                // Toggle the category in the selection and restyle its chip
+                boolean selected = selectedCategories.toggle(chip.facetId);
+                categoryView.setBackgroundResource(selected
+                        ? R.drawable.category_bg_selected
+                        : R.drawable.category_bg);
 
                 // Filter restaurants
-                filterByCategory(category);
+                filterByCategories();
             });
         }
     }
 
     /**
-     * Resets all category backgrounds to default
+     * Shows how many visible restaurants carry each category
      */
-    private void resetCategoryBackgrounds() {
-
-        int[] categoryIds = {
-                R.id.categoryPizza,
-                R.id.categoryBurger,
-                R.id.categoryDrinks,
-                R.id.categorySushi,
-                R.id.categoryDessert
-        };
-
-        for (int id : categoryIds) {
-            TextView categoryView = findViewById(id);
-            if (categoryView != null) {
-                categoryView.setBackgroundResource(R.drawable.category_bg);
+    private void refreshCategoryCounts() {
+
+        for (CategoryChip chip : categoryChips) {
+            int count = visibleCounts.get(chip.facetId);
+            if (count != chip.shownCount) {
+                chip.shownCount = count;
+                chip.view.setText(chip.label + " (" + count + ")");
             }
         }
     }
 
     /**
-     * Sets navigation for restaurant selection
+     * Opens the menu of the tapped restaurant
      */
-    private void setupButton(int buttonId, String restaurantName, String restaurantId) {
-
-        Button button = findViewById(buttonId);
+    private void openRestaurant(Restaurant restaurant) {
 
-        if (button != null) {
-            button.setOnClickListener(v -> {
-
-                // Navigate to restaurant menu screen
-                Intent intent = new Intent(RestaurantListActivity.this, RestaurantMenuActivity.class);
-                intent.putExtra("RESTAURANT_NAME", restaurantName);
-                intent.putExtra("RESTAURANT_ID", restaurantId);
-                startActivity(intent);
-            });
-        }
+        // Navigate to restaurant menu screen
+        Intent intent = new Intent(RestaurantListActivity.this, RestaurantMenuActivity.class);
+        intent.putExtra("RESTAURANT_NAME", restaurant.getName());
+        intent.putExtra("RESTAURANT_ID", restaurant.getId());
+        startActivity(intent);
     }
 
     /**
-     * Filters restaurants based on search text
+     * Filters restaurants based on search text.
+     * Matching runs off the main thread; only visibility changes come back.
+     * Until the catalog is open the text is applied once it is.
      */
     private void filterRestaurants(String query) {
-
-        if (TextUtils.isEmpty(query)) {
-            showAllRestaurants();
-            return;
+        if (liveFilter != null) {
+            liveFilter.submit(query);
         }
+    }
 
-        query = query.toLowerCase().trim();
-
-        for (RestaurantCard restaurant : restaurantCards) {
-
-            boolean matches =
-                    restaurant.name.toLowerCase().contains(query) ||
-                    restaurant.tags.toLowerCase().contains(query);
+    /**
+     * Filters restaurants by the selected categories, one bitset check per restaurant
+     */
+    private void filterByCategories() {
 
-            // Access parent CardView and update visibility
-            View cardView = (View) restaurant.button.getParent().getParent();
-            cardView.setVisibility(matches ? View.VISIBLE : View.GONE);
+        for (int i = 0; i < visible.length; i++) {
+            categoryMatches[i] = facetIndex.matches(i, selectedCategories, CATEGORY_MODE);
+            applyVisibility(i);
         }
+
+        refreshCategoryCounts();
+        submitVisibleRestaurants();
     }
 
     /**
-     * Filters restaurants by selected category
+     * Shows a restaurant only if both the search box and the categories match it,
+     * keeping the facet counts in step with the feed
      */
-    private void filterByCategory(String category) {
+    private void applyVisibility(int index) {
 
-        category = category.toLowerCase();
-
-        for (RestaurantCard restaurant : restaurantCards) {
-
-            boolean matches = restaurant.tags.toLowerCase().contains(category);
+        boolean show = textMatches[index] && categoryMatches[index];
+        if (show == visible[index]) {
+            return;
+        }
 
-            View cardView = (View) restaurant.button.getParent().getParent();
-            cardView.setVisibility(matches ? View.VISIBLE : View.GONE);
+        visible[index] = show;
+        if (show) {
+            visibleCounts.add(index);
+        } else {
+            visibleCounts.remove(index);
         }
     }
 
     /**
-     * Displays all restaurants
+     * Restarts the feed over the visible restaurants. Each page is read from the
+     * restaurant store on the disk thread by catalog position, and only the pages
+     * near the scroll position are kept.
      */
-    private void showAllRestaurants() {
-
-        for (RestaurantCard restaurant : restaurantCards) {
-            View cardView = (View) restaurant.button.getParent().getParent();
-            cardView.setVisibility(View.VISIBLE);
+    private void submitVisibleRestaurants() {
+
+        RestaurantStore store = restaurantStore;
+        int[] rows = new int[visible.length];
+        int count = 0;
+        for (int i = 0; i < visible.length; i++) {
+            if (visible[i]) {
+                rows[count++] = i;
+            }
         }
+        int[] visibleRows = Arrays.copyOf(rows, count);
+
+        restaurantAdapter.setRestaurants(new PagedList<>(
+                (offset, limit) -> {
+                    int end = Math.min(visibleRows.length, offset + limit);
+                    List<Restaurant> page = new ArrayList<>(Math.max(0, end - offset));
+                    for (int i = offset; i < end; i++) {
+                        page.add(store.toRestaurant(visibleRows[i]));
+                    }
+                    return page;
+                },
+                pageSize,
+                pageSize / 2,
+                MAX_CACHED_PAGES,
+                AppExecutors.getInstance().diskIO(),
+                AppExecutors.getInstance().mainThread(),
+                restaurantAdapter
+        ));
     }
 
     /**
@@ -324,25 +460,31 @@ public class RestaurantListActivity extends AppCompatActivity {
         startActivity(intent);
     }
 
+    @Override
+    protected void onDestroy() {
+        if (liveFilter != null) {
+            liveFilter.cancel();
+        }
+        if (suggestionsPopup != null) {
+            suggestionsPopup.dismiss();
+        }
+        super.onDestroy();
+    }
+
     /**
-     * Helper model class for restaurant card information
+     * Category chip and the facet it selects
      */
-    static class RestaurantCard {
-
-        Button button;
-        TextView nameView;
-        String name;
-        String id;
-        String tags;
-
-        RestaurantCard(Button button, TextView nameView,
-                       String name, String id, String tags) {
-
-            this.button = button;
-            this.nameView = nameView;
-            this.name = name;
-            this.id = id;
-            this.tags = tags;
+    static class CategoryChip {
+
+        TextView view;
+        String label;
+        int facetId;
+        int shownCount = -1;
+
+        CategoryChip(TextView view, String label, int facetId) {
+            this.view = view;
+            this.label = label;
+            this.facetId = facetId;
         }
     }
 }
@@ -0,0 +1,22 @@
+package com.example.food_delivery_app;
+
+/**
+ * RestaurantStore
+ * ---------------
+ * Restaurants read by their position in the catalog, one at a time, for screens
+ * that page through more restaurants than they should hold. Reads may touch disk,
+ * so call them off the main thread.
+ */
+public interface RestaurantStore {
+
+    int getRestaurantCount();
+
+    String getRestaurantName(int restaurant);
+
+    String getRestaurantTags(int restaurant);
+
+    /**
+     * Builds the restaurant at this position; its menu is read only when opened.
+     */
+    Restaurant toRestaurant(int restaurant);
+}
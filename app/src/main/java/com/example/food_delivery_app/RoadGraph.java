@@ -0,0 +1,57 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RoadGraph
+ * ---------
+ * Small undirected road network between delivery zones. Each node is a zone centre;
+ * each road has a length (meters) and a typical speed, giving its travel time.
+ * Built once and then handed to {@link EtaEstimator}.
+ */
+public class RoadGraph {
+    // Roads are longer than the straight line between their ends
+    static final double ROAD_CIRCUITY = 1.3;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<GeoPoint> points = new ArrayList<>();
+    // Adjacency per zone; each road is {neighbour zone, travel seconds}
+    private final List<List<double[]>> roads = new ArrayList<>();
+
+    /**
+     * Adds a zone and returns its index.
+     */
+    public int addZone(String name, GeoPoint centre) {
+        names.add(name);
+        points.add(centre);
+        roads.add(new ArrayList<>());
+        return points.size() - 1;
+    }
+
+    /**
+     * Adds a two-way road whose length is estimated from the straight-line distance.
+     */
+    public void addRoad(int from, int to, double speedKmh) {
+        double meters = points.get(from).distanceTo(points.get(to)) * ROAD_CIRCUITY;
+        double seconds = meters / (speedKmh / 3.6);
+        roads.get(from).add(new double[]{to, seconds});
+        roads.get(to).add(new double[]{from, seconds});
+    }
+
+    public int getZoneCount() {
+        return points.size();
+    }
+
+    public String getZoneName(int zone) {
+        return names.get(zone);
+    }
+
+    public GeoPoint getZoneCentre(int zone) {
+        return points.get(zone);
+    }
+
+    List<double[]> getRoads(int zone) {
+        return roads.get(zone);
+    }
+}
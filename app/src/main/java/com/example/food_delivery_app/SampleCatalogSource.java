@@ -0,0 +1,217 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SampleCatalogSource
+ * -------------------
+ * Built-in demo catalog (temporary / demo data).
+ */
+public class SampleCatalogSource implements CatalogSource {
+    // Photos are <imageBaseUrl><item id>.jpg; items without one show their emoji
+    private final String imageBaseUrl;
+
+    /**
+     * Sample catalog without dish photos.
+     */
+    public SampleCatalogSource() {
+        this(null);
+    }
+
+    /**
+     * @param imageBaseUrl file: or http: prefix of the dish photos, or null for none
+     */
+    public SampleCatalogSource(String imageBaseUrl) {
+        this.imageBaseUrl = imageBaseUrl;
+    }
+
+    @Override
+    public List<Restaurant> loadRestaurants() {
+        List<Restaurant> restaurants = new ArrayList<>();
+
+        // Sunny Burger and Pizza
+        restaurants.add(new Restaurant(
+                "sunny",
+                "Sunny Burger and Pizza",
+                "Pizza, Burger, Fast Food",
+                "★★★★☆(4.0)",
+                "Burger & Pizza",
+                "25 min",
+                "450 ETB",
+                new GeoPoint(8.9955, 38.7856),
+                createSunnyMenuItems()
+        ));
+
+        // Rome 1960
+        restaurants.add(new Restaurant(
+                "rome",
+                "Rome 1960 Chicken, Pizza and Burger",
+                "Chicken, Pizza, Burger, Italian",
+                "★★★★☆(4.1)",
+                "Chicken, Pizza & Burger",
+                "20 min",
+                "500 ETB",
+                new GeoPoint(9.0350, 38.7500),
+                createRomeMenuItems()
+        ));
+
+        // H-Town Burger
+        restaurants.add(new Restaurant(
+                "htown",
+                "H Town Burger",
+                "Burger, American, Fast Food",
+                "★★★★★(4.2)",
+                "Burger",
+                "15-20 min",
+                "500 ETB",
+                new GeoPoint(9.0180, 38.7700),
+                createHTownMenuItems()
+        ));
+
+        // Venezia
+        restaurants.add(new Restaurant(
+                "venezia",
+                "Venezia – Italian Restaurant",
+                "Italian, Pasta, Pizza, Fine Dining",
+                "★★★★☆(4.3)",
+                "Italian",
+                "25 min",
+                "550 ETB",
+                new GeoPoint(8.9960, 38.7350),
+                createVeneziaMenuItems()
+        ));
+
+        // Tokyo
+        restaurants.add(new Restaurant(
+                "tokyo",
+                "Tokyo Sushi House",
+                "Sushi, Japanese, Asian, Seafood",
+                "★★★★★(4.5)",
+                "Japanese",
+                "30 min",
+                "600 ETB",
+                new GeoPoint(8.9990, 38.7900),
+                createTokyoMenuItems()
+        ));
+
+        // Napoli
+        restaurants.add(new Restaurant(
+                "napoli",
+                "Napoli Pizza House",
+                "Pizza, Italian, Wood Fired",
+                "★★★★☆(4.2)",
+                "Pizza",
+                "20 min",
+                "500 ETB",
+                new GeoPoint(9.0330, 38.7630),
+                createNapoliMenuItems()
+        ));
+
+        // Juice Bar
+        restaurants.add(new Restaurant(
+                "juice",
+                "Fresh Juice Bar",
+                "Juice, Drinks, Healthy, Smoothies",
+                "★★★★☆(4.0)",
+                "Drinks",
+                "15 min",
+                "300 ETB",
+                new GeoPoint(9.0200, 38.8010),
+                createJuiceBarMenuItems()
+        ));
+
+        return restaurants;
+    }
+
+    private List<MenuItem> createHTownMenuItems() {
+        List<MenuItem> items = new ArrayList<>();
+        items.add(item("htown", "H-Town Special Burger", "Boasts a flavorful beef patty, fresh lettuce, juicy tomatoes, and tangy condiments", "450.00", "burger", "🍔", "Burger, American"));
+        items.add(item("htown", "Chicken Burger", "Features a juicy chicken patty, crisp lettuce, ripe tomatoes, and savory condiments", "475.00", "burger", "🍗", "Burger, Chicken"));
+        items.add(item("htown", "Chef Burger", "Succulent beef patty, melted cheese, caramelized onions, and tangy special sauce", "420.00", "burger", "👨‍🍳", "Burger, American"));
+        items.add(item("htown", "French Fries", "Crispy golden fries with seasoning", "120.00", "burger", "🍟", "Sides, Fast Food"));
+        items.add(item("htown", "Coca-Cola", "Refreshing carbonated drink", "50.00", "drinks", "🥤", "Drinks, Soda"));
+        items.add(item("htown", "Milkshake", "Creamy vanilla milkshake", "150.00", "drinks", "🥛", "Drinks, Dessert"));
+        return items;
+    }
+
+    private List<MenuItem> createSunnyMenuItems() {
+        List<MenuItem> items = new ArrayList<>();
+        items.add(item("sunny", "Sunny Special Pizza", "Loaded with mozzarella, pepperoni, mushrooms, and bell peppers", "550.00", "pizza", "🍕", "Pizza, Italian"));
+        items.add(item("sunny", "BBQ Burger", "Grilled beef patty with BBQ sauce, onions, and cheese", "480.00", "burger", "🍔", "Burger, BBQ, American"));
+        items.add(item("sunny", "Cheese Burger", "Classic beef burger with double cheese and special sauce", "430.00", "burger", "🍔", "Burger, American"));
+        items.add(item("sunny", "Garlic Bread", "Toasted bread with garlic butter", "180.00", "pizza", "🍞", "Sides, Italian"));
+        items.add(item("sunny", "Pepsi", "Cold refreshing soda", "45.00", "drinks", "🥤", "Drinks, Soda"));
+        items.add(item("sunny", "Water", "Bottled mineral water", "30.00", "drinks", "💧", "Drinks"));
+        return items;
+    }
+
+    private List<MenuItem> createRomeMenuItems() {
+        List<MenuItem> items = new ArrayList<>();
+        items.add(item("rome", "Roman Chicken", "Grilled chicken with Italian herbs and spices", "520.00", "burger", "🍗", "Chicken, Italian"));
+        items.add(item("rome", "Classic Pizza", "Traditional Italian pizza with fresh ingredients", "490.00", "pizza", "🍕", "Pizza, Italian"));
+        items.add(item("rome", "Italian Burger", "Burger with Italian seasoning and mozzarella", "460.00", "burger", "🍔", "Burger, Italian"));
+        items.add(item("rome", "Caesar Salad", "Fresh salad with Caesar dressing", "280.00", "burger", "🥗", "Salad, Healthy"));
+        items.add(item("rome", "Red Wine", "Italian red wine glass", "350.00", "drinks", "🍷", "Drinks, Wine"));
+        items.add(item("rome", "Espresso", "Strong Italian coffee", "120.00", "drinks", "☕", "Drinks, Coffee"));
+        return items;
+    }
+
+    private List<MenuItem> createVeneziaMenuItems() {
+        List<MenuItem> items = new ArrayList<>();
+        items.add(item("venezia", "Pasta Carbonara", "Creamy pasta with eggs, cheese, and bacon", "380.00", "pizza", "🍝", "Pasta, Italian"));
+        items.add(item("venezia", "Margherita Pizza", "Classic tomato and mozzarella pizza", "450.00", "pizza", "🍕", "Pizza, Italian, Vegetarian"));
+        items.add(item("venezia", "Tiramisu", "Traditional Italian dessert", "280.00", "burger", "🍰", "Dessert, Italian"));
+        items.add(item("venezia", "Lasagna", "Layered pasta with meat sauce", "420.00", "pizza", "🍝", "Pasta, Italian"));
+        items.add(item("venezia", "White Wine", "Italian white wine glass", "320.00", "drinks", "🍷", "Drinks, Wine"));
+        items.add(item("venezia", "Cappuccino", "Italian coffee with milk foam", "150.00", "drinks", "☕", "Drinks, Coffee"));
+        return items;
+    }
+
+    private List<MenuItem> createTokyoMenuItems() {
+        List<MenuItem> items = new ArrayList<>();
+        items.add(item("tokyo", "Salmon Sushi", "Fresh salmon sushi with rice", "520.00", "burger", "🍣", "Sushi, Japanese, Seafood"));
+        items.add(item("tokyo", "Chicken Teriyaki", "Grilled chicken with teriyaki sauce", "480.00", "burger", "🍗", "Chicken, Japanese"));
+        items.add(item("tokyo", "Miso Soup", "Traditional Japanese soup", "180.00", "drinks", "🍜", "Soup, Japanese"));
+        items.add(item("tokyo", "California Roll", "Crab and avocado sushi roll", "450.00", "burger", "🍣", "Sushi, Japanese, Seafood"));
+        items.add(item("tokyo", "Green Tea", "Japanese green tea", "100.00", "drinks", "🍵", "Drinks, Tea, Japanese"));
+        items.add(item("tokyo", "Sake", "Japanese rice wine", "400.00", "drinks", "🍶", "Drinks, Japanese"));
+        return items;
+    }
+
+    private List<MenuItem> createNapoliMenuItems() {
+        List<MenuItem> items = new ArrayList<>();
+        items.add(item("napoli", "Neapolitan Pizza", "Traditional Neapolitan style pizza", "490.00", "pizza", "🍕", "Pizza, Italian, Wood Fired"));
+        items.add(item("napoli", "Calzone", "Folded pizza with cheese and ham", "420.00", "pizza", "🥟", "Pizza, Italian"));
+        items.add(item("napoli", "Garlic Bread", "Toasted bread with garlic butter", "220.00", "pizza", "🍞", "Sides, Italian"));
+        items.add(item("napoli", "Quattro Formaggi", "Four cheese pizza", "520.00", "pizza", "🍕", "Pizza, Italian, Vegetarian"));
+        items.add(item("napoli", "Italian Soda", "Refreshing Italian soda", "120.00", "drinks", "🥤", "Drinks, Soda"));
+        items.add(item("napoli", "Limoncello", "Italian lemon liqueur", "250.00", "drinks", "🍸", "Drinks, Italian"));
+        return items;
+    }
+
+    private List<MenuItem> createJuiceBarMenuItems() {
+        List<MenuItem> items = new ArrayList<>();
+        items.add(item("juice", "Orange Juice", "Freshly squeezed orange juice", "120.00", "drinks", "🧃", "Juice, Healthy, Drinks"));
+        items.add(item("juice", "Mango Smoothie", "Creamy mango smoothie", "180.00", "drinks", "🥭", "Smoothies, Healthy, Drinks"));
+        items.add(item("juice", "Berry Blast", "Mixed berry smoothie", "200.00", "drinks", "🍓", "Smoothies, Healthy, Drinks"));
+        items.add(item("juice", "Green Detox", "Kale, spinach, and apple juice", "150.00", "drinks", "🥬", "Juice, Healthy, Drinks"));
+        items.add(item("juice", "Protein Shake", "Chocolate protein shake", "220.00", "drinks", "🥛", "Smoothies, Drinks"));
+        items.add(item("juice", "Iced Coffee", "Cold brewed coffee", "140.00", "drinks", "☕", "Drinks, Coffee"));
+        return items;
+    }
+
+    /**
+     * Builds a menu item whose ID is derived from the restaurant ID and item name,
+     * e.g. "htown_chicken_burger".
+     */
+    private MenuItem item(String restaurantId, String name, String description,
+                                 String price, String category, String emoji, String tags) {
+        String slug = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+        String id = restaurantId + "_" + slug;
+        return new MenuItem(id, restaurantId, name, description,
+                Money.parse(price), category, emoji, tags,
+                imageBaseUrl == null ? "" : imageBaseUrl + id + ".jpg");
+    }
+}
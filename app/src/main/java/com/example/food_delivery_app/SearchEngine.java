@@ -0,0 +1,208 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SearchEngine
+ * ------------
+ * Restaurant and dish indexes for one catalog snapshot.
+ * The engine is built once per snapshot version and reused by every search.
+ *
+ * A query with no exact match falls back to typo-tolerant matching on names,
+ * so a misspelled search still finds something.
+ *
+ * The engine also holds the search box suggestions for the same snapshot.
+ *
+ * Ranked searches weigh a hit in the name above one in the tags, and a tag
+ * hit above one in a dish description.
+ *
+ * The shared engine from {@link #forSnapshot} remembers recent results in the
+ * process-wide {@link QueryCache}, so repeating a search or recreating the
+ * results screen does not search again.
+ */
+public class SearchEngine {
+    private static final LatencyHistogram RESTAURANT_SEARCH_LATENCY =
+            MetricsRegistry.getInstance().histogram("search.restaurants");
+    private static final LatencyHistogram DISH_SEARCH_LATENCY =
+            MetricsRegistry.getInstance().histogram("search.dishes");
+    private static final Counter FUZZY_FALLBACKS =
+            MetricsRegistry.getInstance().counter("search.fuzzy_fallbacks");
+
+    // BM25F weight of each field
+    private static final float NAME_WEIGHT = 3f;
+    private static final float TAGS_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    // Result limit of unranked searches, which return every match
+    private static final int ALL = -1;
+
+    private static final String RESTAURANTS = "restaurants";
+    private static final String DISHES = "dishes";
+
+    private static SearchEngine instance;
+
+    private final long catalogVersion;
+    private final QueryCache queryCache;
+    private final SearchIndex<Restaurant> restaurantIndex;
+    private final SearchIndex<MenuItem> dishIndex;
+    private final FuzzyIndex restaurantNames;
+    private final FuzzyIndex dishNames;
+    private final CompletionTrie completions;
+
+    /**
+     * An engine that searches on every call, without a result cache.
+     */
+    public SearchEngine(CatalogSnapshot snapshot) {
+        this(snapshot, null);
+    }
+
+    /**
+     * @param queryCache shared result cache, or null to search on every call
+     */
+    public SearchEngine(CatalogSnapshot snapshot, QueryCache queryCache) {
+        this.catalogVersion = snapshot.getVersion();
+        this.queryCache = queryCache;
+
+        List<String[]> restaurantFields = new ArrayList<>();
+        List<String> restaurantNameList = new ArrayList<>();
+        for (Restaurant restaurant : snapshot.getRestaurants()) {
+            restaurantFields.add(new String[]{restaurant.getName(), restaurant.getTags()});
+            restaurantNameList.add(restaurant.getName());
+        }
+        this.restaurantIndex = new SearchIndex<>(snapshot.getRestaurants(), restaurantFields,
+                new float[]{NAME_WEIGHT, TAGS_WEIGHT});
+        this.restaurantNames = new FuzzyIndex(restaurantNameList);
+
+        List<String[]> dishFields = new ArrayList<>();
+        List<String> dishNameList = new ArrayList<>();
+        for (MenuItem dish : snapshot.getMenuItems()) {
+            dishFields.add(new String[]{dish.getName(), dish.getDescription(), dish.getTags()});
+            dishNameList.add(dish.getName());
+        }
+        this.dishIndex = new SearchIndex<>(snapshot.getMenuItems(), dishFields,
+                new float[]{NAME_WEIGHT, DESCRIPTION_WEIGHT, TAGS_WEIGHT});
+        this.dishNames = new FuzzyIndex(dishNameList);
+        this.completions = CompletionTrie.forCatalog(snapshot);
+    }
+
+    /**
+     * Returns the engine for the given snapshot, rebuilding it when the
+     * catalog version has changed.
+     */
+    public static synchronized SearchEngine forSnapshot(CatalogSnapshot snapshot) {
+        if (instance == null || instance.catalogVersion != snapshot.getVersion()) {
+            instance = new SearchEngine(snapshot, QueryCache.getInstance());
+        }
+        return instance;
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public List<Restaurant> searchRestaurants(String query) {
+        long start = System.nanoTime();
+        try {
+            return find(RESTAURANTS, restaurantIndex, restaurantNames, query, ALL);
+        } finally {
+            RESTAURANT_SEARCH_LATENCY.recordSince(start);
+        }
+    }
+
+    public List<MenuItem> searchDishes(String query) {
+        long start = System.nanoTime();
+        try {
+            return find(DISHES, dishIndex, dishNames, query, ALL);
+        } finally {
+            DISH_SEARCH_LATENCY.recordSince(start);
+        }
+    }
+
+    /**
+     * The best {@code limit} restaurants for the query, most relevant first.
+     */
+    public List<Restaurant> searchRestaurants(String query, int limit) {
+        long start = System.nanoTime();
+        try {
+            return find(RESTAURANTS, restaurantIndex, restaurantNames, query, limit);
+        } finally {
+            RESTAURANT_SEARCH_LATENCY.recordSince(start);
+        }
+    }
+
+    /**
+     * The best {@code limit} dishes for the query, most relevant first.
+     */
+    public List<MenuItem> searchDishes(String query, int limit) {
+        long start = System.nanoTime();
+        try {
+            return find(DISHES, dishIndex, dishNames, query, limit);
+        } finally {
+            DISH_SEARCH_LATENCY.recordSince(start);
+        }
+    }
+
+    /**
+     * Cached result IDs if there are any, otherwise a fresh search, either
+     * unranked or the top {@code limit}.
+     */
+    private <T> List<T> find(String scope, SearchIndex<T> index, FuzzyIndex names, String query,
+                             int limit) {
+        int[] ids = queryCache != null ? queryCache.get(catalogVersion, scope, query, limit) : null;
+        if (ids == null) {
+            ids = limit == ALL ? search(index, names, query) : rank(index, names, query, limit);
+            if (queryCache != null) {
+                queryCache.put(catalogVersion, scope, query, limit, ids);
+            }
+        }
+
+        List<T> results = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            results.add(index.get(id));
+        }
+        return results;
+    }
+
+    /**
+     * Exact matches if there are any, otherwise names within a few typos of the query.
+     */
+    private static int[] search(SearchIndex<?> index, FuzzyIndex names, String query) {
+        int[] ids = index.searchIds(query);
+        if (ids.length == 0) {
+            FUZZY_FALLBACKS.increment();
+            ids = names.searchIds(query);
+        }
+        return ids;
+    }
+
+    /**
+     * Top scored exact matches, or the first fuzzy name matches when there are none.
+     */
+    private static int[] rank(SearchIndex<?> index, FuzzyIndex names, String query, int limit) {
+        int[] ids = index.searchTopIds(query, limit);
+        if (ids.length == 0 && limit > 0) {
+            FUZZY_FALLBACKS.increment();
+            int[] fuzzy = names.searchIds(query);
+            ids = Arrays.copyOf(fuzzy, Math.min(limit, fuzzy.length));
+        }
+        return ids;
+    }
+
+    public SearchIndex<Restaurant> getRestaurantIndex() {
+        return restaurantIndex;
+    }
+
+    public SearchIndex<MenuItem> getDishIndex() {
+        return dishIndex;
+    }
+
+    public FuzzyIndex getDishNameIndex() {
+        return dishNames;
+    }
+
+    public CompletionTrie getCompletions() {
+        return completions;
+    }
+}
@@ -0,0 +1,419 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * SearchIndex
+ * -----------
+ * In-memory inverted index over a fixed list of documents.
+ *
+ * Every searchable field is normalized once and indexed two ways:
+ *  - character trigrams, used for queries of three or more characters
+ *  - whole word tokens, used for shorter queries as a prefix lookup
+ *
+ * A query intersects the posting lists of its trigrams, starting from the
+ * shortest one, and only the surviving candidates are verified against the
+ * normalized text. Lookup cost therefore follows the size of the rarest
+ * posting list rather than the size of the catalog.
+ *
+ * Ranked searches score the matches with BM25F: each query word's frequency
+ * is summed over the fields, weighted per field and normalized by the field's
+ * length against its average, then saturated and weighted by how rare the
+ * word is. Only the best k matches are kept, in a bounded heap.
+ */
+public class SearchIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char FIELD_SEPARATOR = '\n';
+
+    // BM25 term frequency saturation and length normalization
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final List<T> documents;
+    private final String[] normalizedText;
+    private final Map<Long, int[]> gramPostings;
+    private final String[] tokens;
+    private final int[][] tokenPostings;
+
+    // Ranking: weight per field, and word counts per field and document
+    private final float[] fieldWeights;
+    private final int[][] fieldLengths;
+    private final float[] averageFieldLengths;
+
+    /**
+     * Indexes documents whose fields all weigh the same in ranking.
+     */
+    public SearchIndex(List<T> documents, List<String[]> fields) {
+        this(documents, fields, null);
+    }
+
+    /**
+     * @param documents    documents in result order
+     * @param fields       searchable fields, {@code fields.get(i)} belonging to {@code documents.get(i)}
+     * @param fieldWeights ranking weight of each field position, or null for equal weights
+     */
+    public SearchIndex(List<T> documents, List<String[]> fields, float[] fieldWeights) {
+        this.documents = Collections.unmodifiableList(new ArrayList<>(documents));
+        this.normalizedText = new String[documents.size()];
+
+        int fieldCount = fieldWeights != null ? fieldWeights.length : 0;
+        for (String[] documentFields : fields) {
+            fieldCount = Math.max(fieldCount, documentFields.length);
+        }
+        this.fieldWeights = new float[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            this.fieldWeights[field] = fieldWeights != null && field < fieldWeights.length
+                    ? fieldWeights[field] : 1f;
+        }
+        this.fieldLengths = new int[fieldCount][documents.size()];
+        long[] totalFieldLengths = new long[fieldCount];
+
+        Map<Long, PostingBuilder> grams = new HashMap<>();
+        TreeMap<String, PostingBuilder> words = new TreeMap<>();
+
+        for (int docId = 0; docId < documents.size(); docId++) {
+            // One separator per field boundary, even around empty fields, so a word's
+            // field position never depends on what the fields before it hold
+            StringBuilder text = new StringBuilder();
+            String[] documentFields = fields.get(docId);
+            for (int f = 0; f < documentFields.length; f++) {
+                if (f > 0) {
+                    text.append(FIELD_SEPARATOR);
+                }
+                text.append(TextNormalizer.normalize(documentFields[f]));
+            }
+            String normalized = text.toString();
+            normalizedText[docId] = normalized;
+
+            for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                long key = gramKey(normalized, i);
+                if (key < 0) {
+                    continue;
+                }
+                PostingBuilder postings = grams.get(key);
+                if (postings == null) {
+                    postings = new PostingBuilder();
+                    grams.put(key, postings);
+                }
+                postings.add(docId);
+            }
+
+            int start = -1;
+            int field = 0;
+            for (int i = 0; i <= normalized.length(); i++) {
+                boolean wordChar = i < normalized.length()
+                        && Character.isLetterOrDigit(normalized.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    fieldLengths[field][docId]++;
+                    totalFieldLengths[field]++;
+                    String word = normalized.substring(start, i);
+                    PostingBuilder postings = words.get(word);
+                    if (postings == null) {
+                        postings = new PostingBuilder();
+                        words.put(word, postings);
+                    }
+                    postings.add(docId);
+                    start = -1;
+                }
+                if (i < normalized.length() && normalized.charAt(i) == FIELD_SEPARATOR) {
+                    field++;
+                }
+            }
+        }
+
+        this.averageFieldLengths = new float[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            averageFieldLengths[field] = documents.isEmpty()
+                    ? 0f : (float) totalFieldLengths[field] / documents.size();
+        }
+
+        this.gramPostings = new HashMap<>(grams.size() * 2);
+        for (Map.Entry<Long, PostingBuilder> entry : grams.entrySet()) {
+            gramPostings.put(entry.getKey(), entry.getValue().toArray());
+        }
+
+        this.tokens = new String[words.size()];
+        this.tokenPostings = new int[words.size()][];
+        int index = 0;
+        for (Map.Entry<String, PostingBuilder> entry : words.entrySet()) {
+            tokens[index] = entry.getKey();
+            tokenPostings[index] = entry.getValue().toArray();
+            index++;
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public T get(int docId) {
+        return documents.get(docId);
+    }
+
+    /**
+     * Returns the matching documents in index order.
+     */
+    public List<T> search(String query) {
+        int[] ids = searchIds(query);
+        List<T> results = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            results.add(documents.get(id));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the IDs of at most {@code limit} matching documents, best scoring first.
+     * Matches are the same as {@link #searchIds}; equal scores keep index order.
+     */
+    public int[] searchTopIds(String query, int limit) {
+        int[] matches = searchIds(query);
+        String[] terms = queryTerms(TextNormalizer.normalize(query));
+
+        float[] idf = new float[terms.length];
+        for (int t = 0; t < terms.length; t++) {
+            int documentFrequency = terms.length == 1 ? matches.length : searchIds(terms[t]).length;
+            idf[t] = (float) Math.log(1 + (documents.size() - documentFrequency + 0.5)
+                    / (documentFrequency + 0.5));
+        }
+
+        TopK top = new TopK(Math.min(limit, matches.length));
+        for (int docId : matches) {
+            top.offer(docId, score(docId, terms, idf));
+        }
+        return top.toSortedIds();
+    }
+
+    /**
+     * BM25F score of one document. A word counts toward a term when it contains
+     * the term, in line with the substring matching of {@link #searchIds}.
+     */
+    private float score(int docId, String[] terms, float[] idf) {
+        String text = normalizedText[docId];
+        float score = 0f;
+
+        for (int t = 0; t < terms.length; t++) {
+            String term = terms[t];
+            float frequency = 0f;
+            int field = 0;
+            int start = -1;
+            for (int i = 0; i <= text.length(); i++) {
+                boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    if (wordContains(text, start, i, term)) {
+                        frequency += fieldWeights[field] / lengthNorm(field, docId);
+                    }
+                    start = -1;
+                }
+                if (i < text.length() && text.charAt(i) == FIELD_SEPARATOR) {
+                    field++;
+                }
+            }
+            score += idf[t] * frequency * (K1 + 1) / (frequency + K1);
+        }
+        return score;
+    }
+
+    private float lengthNorm(int field, int docId) {
+        float average = averageFieldLengths[field];
+        return average == 0f ? 1f : 1 - B + B * fieldLengths[field][docId] / average;
+    }
+
+    private static boolean wordContains(String text, int start, int end, String term) {
+        for (int i = start; i + term.length() <= end; i++) {
+            if (text.regionMatches(i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] queryTerms(String normalized) {
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length()
+                    && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = normalized.substring(start, i);
+                if (!terms.contains(term)) {
+                    terms.add(term);
+                }
+                start = -1;
+            }
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the sorted IDs of documents whose fields contain the query.
+     * Queries shorter than three characters match word prefixes instead.
+     */
+    public int[] searchIds(String query) {
+        String normalized = TextNormalizer.normalize(query);
+
+        if (normalized.isEmpty()) {
+            int[] all = new int[documents.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        if (normalized.length() < GRAM_LENGTH) {
+            return searchTokenPrefix(normalized);
+        }
+
+        return searchGrams(normalized);
+    }
+
+    private int[] searchGrams(String query) {
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            int[] postings = gramPostings.get(gramKey(query, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            if (!lists.contains(postings)) {
+                lists.add(postings);
+            }
+        }
+
+        // Intersect from the shortest list so the working set only shrinks
+        Collections.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] candidates = lists.get(0);
+        int count = candidates.length;
+        int[] buffer = Arrays.copyOf(candidates, count);
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            count = intersect(buffer, count, lists.get(i));
+        }
+
+        // Trigram co-occurrence does not imply adjacency, so verify survivors
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            int docId = buffer[i];
+            if (normalizedText[docId].contains(query)) {
+                buffer[matches++] = docId;
+            }
+        }
+        return Arrays.copyOf(buffer, matches);
+    }
+
+    private int[] searchTokenPrefix(String prefix) {
+        int from = lowerBound(prefix);
+        int to = from;
+        while (to < tokens.length && tokens[to].startsWith(prefix)) {
+            to++;
+        }
+
+        if (to == from) {
+            return new int[0];
+        }
+        if (to - from == 1) {
+            return tokenPostings[from].clone();
+        }
+
+        BitSet union = new BitSet(documents.size());
+        for (int i = from; i < to; i++) {
+            for (int docId : tokenPostings[i]) {
+                union.set(docId);
+            }
+        }
+        int[] result = new int[union.cardinality()];
+        int index = 0;
+        for (int docId = union.nextSetBit(0); docId >= 0; docId = union.nextSetBit(docId + 1)) {
+            result[index++] = docId;
+        }
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Keeps the entries of {@code buffer[0..count)} that also appear in
+     * {@code postings}, using a galloping search over the longer list.
+     */
+    private static int intersect(int[] buffer, int count, int[] postings) {
+        int kept = 0;
+        int position = 0;
+        for (int i = 0; i < count && position < postings.length; i++) {
+            int target = buffer[i];
+            int step = 1;
+            int high = position;
+            while (high < postings.length && postings[high] < target) {
+                position = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(postings, position,
+                    Math.min(high + 1, postings.length), target);
+            if (found >= 0) {
+                buffer[kept++] = target;
+                position = found + 1;
+            } else {
+                position = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Packs three UTF-16 chars into one key, or returns -1 when the gram
+     * spans a field boundary.
+     */
+    private static long gramKey(String text, int offset) {
+        char c0 = text.charAt(offset);
+        char c1 = text.charAt(offset + 1);
+        char c2 = text.charAt(offset + 2);
+        if (c0 == FIELD_SEPARATOR || c1 == FIELD_SEPARATOR || c2 == FIELD_SEPARATOR) {
+            return -1;
+        }
+        return ((long) c0 << 32) | ((long) c1 << 16) | c2;
+    }
+
+    private static class PostingBuilder {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int docId) {
+            // Documents are indexed in order, so duplicates are always adjacent
+            if (size > 0 && ids[size - 1] == docId) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = docId;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
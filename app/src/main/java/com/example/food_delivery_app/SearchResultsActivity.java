@@ -12,7 +12,7 @@ import android.widget.TextView;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -20,6 +20,10 @@ import java.util.List;
  * ---------------------
  * This activity displays search results for both restaurants and dishes.
  * It receives a search query from the previous activity and shows matching results.
+ *
+ * Results are ranked off the main thread, best first, and only the top
+ * MAX_RESULTS of each kind are kept. Their cards are then added a page per
+ * frame, so the first results appear without waiting for the rest to inflate.
  */
 public class SearchResultsActivity extends AppCompatActivity {
 
@@ -32,6 +36,22 @@ public class SearchResultsActivity extends AppCompatActivity {
     private TextView restaurantsTitle;
     private TextView dishesTitle;
 
+    // Shared catalog snapshot and its search indexes
+    private CatalogSnapshot catalog;
+    private SearchEngine searchEngine;
+
+    // Best matches kept per section
+    private static final int MAX_RESULTS = 50;
+
+    // Cards added to each section per frame
+    private static final int RESULTS_PAGE_SIZE = 8;
+
+    // Ranked results and how many of each are on screen
+    private List<Restaurant> restaurantResults = Collections.emptyList();
+    private List<MenuItem> dishResults = Collections.emptyList();
+    private int shownRestaurants;
+    private int shownDishes;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -44,6 +64,8 @@ public class SearchResultsActivity extends AppCompatActivity {
         restaurantsTitle = findViewById(R.id.restaurantsTitle);
         dishesTitle = findViewById(R.id.dishesTitle);
 
+        catalog = CatalogRepository.getInstance().getSnapshot();
+
         // Back button to return to previous screen
         findViewById(R.id.backButton).setOnClickListener(v -> onBackPressed());
 
@@ -65,32 +87,55 @@ public class SearchResultsActivity extends AppCompatActivity {
     }
 
     /**
-     * Performs search on restaurants and dishes
+     * Ranks restaurants and dishes on the disk thread, then shows them
      */
     private void performSearch(String query) {
-        query = query.toLowerCase().trim();
+        String normalized = TextNormalizer.normalize(query);
 
         // Clear previous search results
         restaurantsLayout.removeAllViews();
         dishesLayout.removeAllViews();
 
-        boolean hasRestaurantResults = false;
-        boolean hasDishResults = false;
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            if (searchEngine == null) {
+                searchEngine = SearchEngine.forSnapshot(catalog);
+            }
+            List<Restaurant> restaurants = searchRestaurants(normalized);
+            List<MenuItem> dishes = searchDishes(normalized);
+            AppExecutors.getInstance().mainThread().execute(() -> showResults(restaurants, dishes));
+        });
+    }
 
-        // Search restaurants
-        List<Restaurant> restaurantResults = searchRestaurants(query);
-        for (Restaurant restaurant : restaurantResults) {
-            addRestaurantCard(restaurant);
-            hasRestaurantResults = true;
-        }
+    /**
+     * Searches restaurants based on name or tags, best matches first
+     */
+    private List<Restaurant> searchRestaurants(String query) {
+        return searchEngine.searchRestaurants(query, MAX_RESULTS);
+    }
 
-        // Search dishes
-        List<Dish> dishResults = searchDishes(query);
-        for (Dish dish : dishResults) {
-            addDishCard(dish);
-            hasDishResults = true;
+    /**
+     * Searches dishes based on name, description, or tags, best matches first
+     */
+    private List<MenuItem> searchDishes(String query) {
+        return searchEngine.searchDishes(query, MAX_RESULTS);
+    }
+
+    /**
+     * Shows section titles for the ranked results and starts adding their cards
+     */
+    private void showResults(List<Restaurant> restaurants, List<MenuItem> dishes) {
+        if (isDestroyed()) {
+            return;
         }
 
+        restaurantResults = restaurants;
+        dishResults = dishes;
+        shownRestaurants = 0;
+        shownDishes = 0;
+
+        boolean hasRestaurantResults = !restaurants.isEmpty();
+        boolean hasDishResults = !dishes.isEmpty();
+
         // Show or hide section titles
         restaurantsTitle.setVisibility(hasRestaurantResults ? View.VISIBLE : View.GONE);
         dishesTitle.setVisibility(hasDishResults ? View.VISIBLE : View.GONE);
@@ -98,41 +143,32 @@ public class SearchResultsActivity extends AppCompatActivity {
         // Show "no results" message if nothing found
         boolean hasResults = hasRestaurantResults || hasDishResults;
         noResultsText.setVisibility(hasResults ? View.GONE : View.VISIBLE);
+
+        appendNextPage();
     }
 
     /**
-     * Searches restaurants based on name or tags
+     * Adds the next page of cards to both sections, and schedules the following
+     * page for the next frame while any remain
      */
-    private List<Restaurant> searchRestaurants(String query) {
-        List<Restaurant> allRestaurants = getSampleRestaurants();
-        List<Restaurant> results = new ArrayList<>();
-
-        for (Restaurant restaurant : allRestaurants) {
-            if (restaurant.name.toLowerCase().contains(query) ||
-                    restaurant.tags.toLowerCase().contains(query)) {
-                results.add(restaurant);
-            }
+    private void appendNextPage() {
+        if (isDestroyed()) {
+            return;
         }
 
-        return results;
-    }
+        int restaurantEnd = Math.min(restaurantResults.size(), shownRestaurants + RESULTS_PAGE_SIZE);
+        for (; shownRestaurants < restaurantEnd; shownRestaurants++) {
+            addRestaurantCard(restaurantResults.get(shownRestaurants));
+        }
 
-    /**
-     * Searches dishes based on name, description, or tags
-     */
-    private List<Dish> searchDishes(String query) {
-        List<Dish> allDishes = getSampleDishes();
-        List<Dish> results = new ArrayList<>();
-
-        for (Dish dish : allDishes) {
-            if (dish.name.toLowerCase().contains(query) ||
-                    dish.description.toLowerCase().contains(query) ||
-                    dish.tags.toLowerCase().contains(query)) {
-                results.add(dish);
-            }
+        int dishEnd = Math.min(dishResults.size(), shownDishes + RESULTS_PAGE_SIZE);
+        for (; shownDishes < dishEnd; shownDishes++) {
+            addDishCard(dishResults.get(shownDishes));
         }
 
-        return results;
+        if (shownRestaurants < restaurantResults.size() || shownDishes < dishResults.size()) {
+            restaurantsLayout.post(this::appendNextPage);
+        }
     }
 
     /**
@@ -150,14 +186,14 @@ public class SearchResultsActivity extends AppCompatActivity {
         Button viewMenu = cardView.findViewById(R.id.viewMenuButton);
 
         // Set restaurant data
-        name.setText(restaurant.name);
-        tags.setText(restaurant.tags);
+        name.setText(restaurant.getName());
+        tags.setText(restaurant.getTags());
 
         // Navigate to restaurant menu
         viewMenu.setOnClickListener(v -> {
             Intent intent = new Intent(this, RestaurantMenuActivity.class);
-            intent.putExtra("RESTAURANT_NAME", restaurant.name);
-            intent.putExtra("RESTAURANT_ID", restaurant.id);
+            intent.putExtra("RESTAURANT_NAME", restaurant.getName());
+            intent.putExtra("RESTAURANT_ID", restaurant.getId());
             startActivity(intent);
         });
 
@@ -168,7 +204,7 @@ public class SearchResultsActivity extends AppCompatActivity {
     /**
      * Creates and displays a dish card dynamically
      */
-    private void addDishCard(Dish dish) {
+    private void addDishCard(MenuItem dish) {
 
         // Inflate dish card layout
         CardView cardView = (CardView) getLayoutInflater()
@@ -181,15 +217,16 @@ public class SearchResultsActivity extends AppCompatActivity {
         Button viewDish = cardView.findViewById(R.id.viewDishButton);
 
         // Set dish data
-        name.setText(dish.name);
-        description.setText(dish.description);
-        tags.setText("Restaurant: " + dish.restaurantName);
+        name.setText(dish.getName());
+        description.setText(dish.getDescription());
+        Restaurant restaurant = catalog.getRestaurant(dish.getRestaurantId());
+        tags.setText("Restaurant: " + (restaurant != null ? restaurant.getName() : ""));
 
         // Navigate to restaurant menu and scroll to selected dish
         viewDish.setOnClickListener(v -> {
             Intent intent = new Intent(this, RestaurantMenuActivity.class);
-            intent.putExtra("RESTAURANT_ID", dish.restaurantId);
-            intent.putExtra("DISH_ID", dish.id);
+            intent.putExtra("RESTAURANT_ID", dish.getRestaurantId());
+            intent.putExtra("DISH_ID", dish.getId());
             intent.putExtra("SCROLL_TO_DISH", true);
             startActivity(intent);
         });
@@ -197,80 +234,4 @@ public class SearchResultsActivity extends AppCompatActivity {
         // Add card to layout
         dishesLayout.addView(cardView);
     }
-
-    /**
-     * Sample restaurant data (temporary / demo data)
-     */
-    private List<Restaurant> getSampleRestaurants() {
-        List<Restaurant> restaurants = new ArrayList<>();
-        restaurants.add(new Restaurant("Sunny Burger and Pizza", "sunny", "Pizza, Burger, Fast Food"));
-        restaurants.add(new Restaurant("Rome 1960 Chicken, Pizza and Burger", "rome", "Chicken, Pizza, Burger, Italian"));
-        restaurants.add(new Restaurant("H Town Burger", "htown", "Burger, American, Fast Food"));
-        restaurants.add(new Restaurant("Venezia – Italian Restaurant", "venezia", "Italian, Pasta, Pizza, Fine Dining"));
-        restaurants.add(new Restaurant("Tokyo Sushi House", "tokyo", "Sushi, Japanese, Asian, Seafood"));
-        restaurants.add(new Restaurant("Napoli Pizza House", "napoli", "Pizza, Italian, Wood Fired"));
-        restaurants.add(new Restaurant("Fresh Juice Bar", "juice", "Juice, Drinks, Healthy, Smoothies"));
-        return restaurants;
-    }
-
-    /**
-     * Sample dish data (temporary / demo data)
-     */
-    private List<Dish> getSampleDishes() {
-        List<Dish> dishes = new ArrayList<>();
-        dishes.add(new Dish("Pepperoni Pizza", "pepperoni_pizza", "sunny", "Sunny Burger and Pizza",
-                "Delicious pepperoni pizza with mozzarella cheese and tomato sauce", "Pizza, Italian"));
-        dishes.add(new Dish("Margherita Pizza", "margherita_pizza", "napoli", "Napoli Pizza House",
-                "Classic margherita pizza with fresh basil", "Pizza, Vegetarian"));
-        dishes.add(new Dish("Cheeseburger", "cheeseburger", "sunny", "Sunny Burger and Pizza",
-                "Juicy beef patty with cheese, lettuce, and tomato", "Burger, American"));
-        dishes.add(new Dish("California Roll", "california_roll", "tokyo", "Tokyo Sushi House",
-                "8 pieces of California roll with crab and avocado", "Sushi, Japanese, Seafood"));
-        dishes.add(new Dish("Fresh Orange Juice", "orange_juice", "juice", "Fresh Juice Bar",
-                "Freshly squeezed orange juice, no sugar added", "Juice, Healthy, Drink"));
-        dishes.add(new Dish("Spaghetti Carbonara", "carbonara", "venezia", "Venezia – Italian Restaurant",
-                "Creamy spaghetti carbonara with pancetta", "Pasta, Italian"));
-        dishes.add(new Dish("BBQ Burger", "bbq_burger", "htown", "H Town Burger",
-                "Burger with BBQ sauce, onion rings, and cheddar", "Burger, BBQ, American"));
-        dishes.add(new Dish("Chicken Burger", "chicken_burger", "rome", "Rome 1960 Chicken, Pizza and Burger",
-                "Crispy chicken burger with lettuce and mayo", "Burger, Chicken"));
-        return dishes;
-    }
-
-    /**
-     * Restaurant model class
-     */
-    static class Restaurant {
-        String name;
-        String id;
-        String tags;
-
-        Restaurant(String name, String id, String tags) {
-            this.name = name;
-            this.id = id;
-            this.tags = tags;
-        }
-    }
-
-    /**
-     * Dish model class
-     */
-    static class Dish {
-        String name;
-        String id;
-        String restaurantId;
-        String restaurantName;
-        String description;
-        String tags;
-
-        Dish(String name, String id, String restaurantId,
-             String restaurantName, String description, String tags) {
-            this.name = name;
-            this.id = id;
-            this.restaurantId = restaurantId;
-            this.restaurantName = restaurantName;
-            this.description = description;
-            this.tags = tags;
-        }
-    }
 }
@@ -25,7 +25,7 @@ public class SignupActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_signup);
 
-        databaseHelper = new DatabaseHelper(this);
+        databaseHelper = DatabaseHelper.getInstance(this);
 
         EditText fullName = findViewById(R.id.inputFullName);
         EditText email = findViewById(R.id.inputEmailPhone);
@@ -67,7 +67,7 @@ public class SignupActivity extends AppCompatActivity {
                 return;
             }
 
-            if (databaseHelper.checkEmailExists(identifier)) {
+            if (databaseHelper.checkAccountExists(identifier)) {
                 Toast.makeText(this,
                         "Account already exists. Please login or use a different email/phone.",
                         Toast.LENGTH_LONG).show();
@@ -99,12 +99,4 @@ public class SignupActivity extends AppCompatActivity {
             return insets;
         });
     }
-
-    @Override
-    protected void onDestroy() {
-        if (databaseHelper != null) {
-            databaseHelper.close();
-        }
-        super.onDestroy();
-    }
 }
@@ -0,0 +1,85 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimulatedCourierFeed
+ * --------------------
+ * Moves a courier along a fixed route at a constant speed and reports its position every
+ * {@code intervalMillis} on a background thread. Progress is kept across stop / start.
+ */
+public class SimulatedCourierFeed implements CourierFeed {
+
+    private final List<GeoPoint> route;
+    private final double[] legLengths;
+    private final double speedMetersPerSecond;
+    private final long intervalMillis;
+
+    private ScheduledExecutorService timer;
+    private ScheduledFuture<?> ticks;
+
+    // Guarded by this; only advanced on the timer thread
+    private int leg;
+    private double metersIntoLeg;
+
+    public SimulatedCourierFeed(List<GeoPoint> route, double speedMetersPerSecond,
+                                long intervalMillis) {
+        if (route.size() < 2) {
+            throw new IllegalArgumentException("A route needs at least two points");
+        }
+        this.route = new ArrayList<>(route);
+        this.speedMetersPerSecond = speedMetersPerSecond;
+        this.intervalMillis = intervalMillis;
+
+        legLengths = new double[route.size() - 1];
+        for (int i = 0; i < legLengths.length; i++) {
+            legLengths[i] = route.get(i).distanceTo(route.get(i + 1));
+        }
+    }
+
+    @Override
+    public synchronized void start(Listener listener) {
+        if (timer != null) {
+            return;
+        }
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "courier-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticks = timer.scheduleAtFixedRate(() -> tick(listener),
+                0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (timer != null) {
+            ticks.cancel(false);
+            timer.shutdown();
+            timer = null;
+        }
+    }
+
+    private synchronized void tick(Listener listener) {
+        metersIntoLeg += speedMetersPerSecond * intervalMillis / 1000.0;
+        while (leg < legLengths.length && metersIntoLeg >= legLengths[leg]) {
+            metersIntoLeg -= legLengths[leg];
+            leg++;
+        }
+
+        boolean delivered = leg == legLengths.length;
+        GeoPoint position = delivered
+                ? route.get(route.size() - 1)
+                : route.get(leg).interpolate(route.get(leg + 1), metersIntoLeg / legLengths[leg]);
+
+        listener.onLocation(new CourierLocation(position, System.currentTimeMillis(), delivered));
+        if (delivered) {
+            stop();
+        }
+    }
+}
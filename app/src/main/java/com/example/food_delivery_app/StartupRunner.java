@@ -0,0 +1,87 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * StartupRunner
+ * -------------
+ * Runs the app's startup work in three phases and times every task into a StartupTrace:
+ *  - critical: inline, on the calling (main) thread; keep this as small as possible
+ *  - deferred: on the background executor as soon as the critical phase is done
+ *  - idle: after the first frame, via the idle executor (main-thread idle, then background)
+ * A task that throws is recorded and skipped; it does not stop the rest of its phase.
+ */
+public class StartupRunner {
+    // Critical work above this is a startup regression
+    static final long CRITICAL_BUDGET_NANOS = 50_000_000L;
+
+    private static final class Task {
+        final String name;
+        final Runnable work;
+
+        Task(String name, Runnable work) {
+            this.name = name;
+            this.work = work;
+        }
+    }
+
+    private final StartupTrace trace;
+    private final Executor deferredExecutor;
+    private final Executor idleExecutor;
+    private final List<List<Task>> tasks = new ArrayList<>();
+    private boolean idleScheduled;
+
+    public StartupRunner(StartupTrace trace, Executor deferredExecutor, Executor idleExecutor) {
+        this.trace = trace;
+        this.deferredExecutor = deferredExecutor;
+        this.idleExecutor = idleExecutor;
+        for (int i = 0; i < StartupTrace.Phase.values().length; i++) {
+            tasks.add(new ArrayList<>());
+        }
+    }
+
+    public StartupRunner add(StartupTrace.Phase phase, String name, Runnable work) {
+        tasks.get(phase.ordinal()).add(new Task(name, work));
+        return this;
+    }
+
+    /**
+     * Runs the critical phase now and queues the deferred phase. Call from Application.onCreate.
+     */
+    public void start() {
+        runPhase(StartupTrace.Phase.CRITICAL);
+        deferredExecutor.execute(() -> runPhase(StartupTrace.Phase.DEFERRED));
+    }
+
+    /**
+     * Records the first frame and queues the idle phase; only the first call has any effect.
+     */
+    public synchronized void onFirstFrame() {
+        trace.markFirstFrame();
+        if (!idleScheduled) {
+            idleScheduled = true;
+            idleExecutor.execute(() -> runPhase(StartupTrace.Phase.IDLE));
+        }
+    }
+
+    public boolean isCriticalWithinBudget() {
+        long critical = trace.getPhaseNanos(StartupTrace.Phase.CRITICAL);
+        return critical >= 0 && critical <= CRITICAL_BUDGET_NANOS;
+    }
+
+    private void runPhase(StartupTrace.Phase phase) {
+        long phaseStart = trace.now();
+        for (Task task : tasks.get(phase.ordinal())) {
+            long start = trace.now();
+            try {
+                task.work.run();
+            } catch (RuntimeException e) {
+                // Startup carries on; the span still shows how long the failure took
+            }
+            trace.recordSpan(task.name, phase, start, trace.now() - start);
+        }
+        trace.recordPhase(phase, trace.now() - phaseStart);
+    }
+}
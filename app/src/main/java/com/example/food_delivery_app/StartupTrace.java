@@ -0,0 +1,128 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * StartupTrace
+ * ------------
+ * Timings recorded while the app starts: one span per startup task, the total time of each
+ * phase, and the time to the first drawn frame. All times are relative to the trace's
+ * origin, normally process start (see {@link #start(long)}). Thread-safe; readable from tests.
+ */
+public class StartupTrace {
+
+    public enum Phase {
+        // On the main thread before the first screen can draw
+        CRITICAL,
+        // In the background right after the critical phase
+        DEFERRED,
+        // In the background once the first frame is up and the main thread is idle
+        IDLE
+    }
+
+    /**
+     * One timed task.
+     */
+    public static final class Span {
+        private final String name;
+        private final Phase phase;
+        private final long startNanos;
+        private final long durationNanos;
+
+        Span(String name, Phase phase, long startNanos, long durationNanos) {
+            this.name = name;
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        // Since the trace origin
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+
+    private static StartupTrace instance;
+
+    private final long originNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private final boolean[] phaseDone = new boolean[Phase.values().length];
+    private long firstFrameNanos = -1;
+
+    StartupTrace(long originNanos) {
+        this.originNanos = originNanos;
+    }
+
+    /**
+     * Creates the process-wide trace with its origin at the given System.nanoTime() value.
+     * Has no effect if the trace already exists.
+     */
+    public static synchronized StartupTrace start(long originNanos) {
+        if (instance == null) {
+            instance = new StartupTrace(originNanos);
+        }
+        return instance;
+    }
+
+    public static synchronized StartupTrace getInstance() {
+        if (instance == null) {
+            instance = new StartupTrace(System.nanoTime());
+        }
+        return instance;
+    }
+
+    long now() {
+        return System.nanoTime() - originNanos;
+    }
+
+    synchronized void recordSpan(String name, Phase phase, long startNanos, long durationNanos) {
+        spans.add(new Span(name, phase, startNanos, durationNanos));
+    }
+
+    synchronized void recordPhase(Phase phase, long durationNanos) {
+        phaseNanos[phase.ordinal()] = durationNanos;
+        phaseDone[phase.ordinal()] = true;
+    }
+
+    /**
+     * Marks the first frame as drawn; later calls are ignored.
+     */
+    public synchronized void markFirstFrame() {
+        if (firstFrameNanos < 0) {
+            firstFrameNanos = now();
+        }
+    }
+
+    public synchronized List<Span> getSpans() {
+        return Collections.unmodifiableList(new ArrayList<>(spans));
+    }
+
+    /**
+     * Wall time of the phase in nanoseconds, or -1 if it has not finished.
+     */
+    public synchronized long getPhaseNanos(Phase phase) {
+        return phaseDone[phase.ordinal()] ? phaseNanos[phase.ordinal()] : -1;
+    }
+
+    /**
+     * Nanoseconds from the trace origin to the first frame, or -1 if not drawn yet.
+     */
+    public synchronized long getTimeToFirstFrameNanos() {
+        return firstFrameNanos;
+    }
+}
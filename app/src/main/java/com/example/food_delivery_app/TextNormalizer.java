@@ -0,0 +1,37 @@
+package com.example.food_delivery_app;
+
+/**
+ * TextNormalizer
+ * --------------
+ * Canonical form used for all search matching: lower case, trimmed,
+ * with runs of whitespace collapsed to a single space.
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(Character.toLowerCase(c));
+        }
+
+        return builder.toString();
+    }
+}
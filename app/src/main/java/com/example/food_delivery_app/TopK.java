@@ -0,0 +1,98 @@
+package com.example.food_delivery_app;
+
+/**
+ * TopK
+ * ----
+ * The k highest-scoring IDs offered so far, kept in a bounded min-heap.
+ * Picking the best k of n matches costs O(n log k) and never sorts all n.
+ * Equal scores go to the lower ID, so results are stable from run to run.
+ */
+public class TopK {
+
+    private final int[] ids;
+    private final float[] scores;
+    private int size;
+
+    public TopK(int k) {
+        this.ids = new int[Math.max(0, k)];
+        this.scores = new float[Math.max(0, k)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void offer(int id, float score) {
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(ids, scores, size++);
+        } else if (size > 0 && worse(ids[0], scores[0], id, score)) {
+            // The weakest kept entry sits at the root
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(ids, scores, 0, size);
+        }
+    }
+
+    /**
+     * Kept IDs, best first. The heap is left as it was.
+     */
+    public int[] toSortedIds() {
+        int[] heapIds = ids.clone();
+        float[] heapScores = scores.clone();
+
+        // Popping the weakest entry repeatedly fills the result from the back
+        int[] result = new int[size];
+        for (int remaining = size; remaining > 0; remaining--) {
+            result[remaining - 1] = heapIds[0];
+            heapIds[0] = heapIds[remaining - 1];
+            heapScores[0] = heapScores[remaining - 1];
+            siftDown(heapIds, heapScores, 0, remaining - 1);
+        }
+        return result;
+    }
+
+    private static void siftUp(int[] ids, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(ids[index], scores[index], ids[parent], scores[parent])) {
+                return;
+            }
+            swap(ids, scores, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] ids, float[] scores, int index, int size) {
+        while (true) {
+            int weakest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && worse(ids[left], scores[left], ids[weakest], scores[weakest])) {
+                weakest = left;
+            }
+            if (right < size && worse(ids[right], scores[right], ids[weakest], scores[weakest])) {
+                weakest = right;
+            }
+            if (weakest == index) {
+                return;
+            }
+            swap(ids, scores, index, weakest);
+            index = weakest;
+        }
+    }
+
+    private static boolean worse(int id, float score, int otherId, float otherScore) {
+        return score < otherScore || (score == otherScore && id > otherId);
+    }
+
+    private static void swap(int[] ids, float[] scores, int i, int j) {
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.food_delivery_app;
+
+/**
+ * TrackingState
+ * -------------
+ * What the tracking screen shows for one courier position. Values are already rounded to
+ * what is displayed, so two states that render the same compare equal field by field.
+ */
+public class TrackingState {
+    private final int etaMinutes;
+    private final int distanceHundredMeters; // 0.1 km steps
+    private final boolean delivered;
+
+    public TrackingState(int etaMinutes, int distanceHundredMeters, boolean delivered) {
+        this.etaMinutes = etaMinutes;
+        this.distanceHundredMeters = distanceHundredMeters;
+        this.delivered = delivered;
+    }
+
+    public int getEtaMinutes() {
+        return etaMinutes;
+    }
+
+    public int getDistanceHundredMeters() {
+        return distanceHundredMeters;
+    }
+
+    public boolean isDelivered() {
+        return delivered;
+    }
+
+    public String getStatusText() {
+        if (delivered) {
+            return "Your courier has arrived";
+        }
+        return "Courier is " + (distanceHundredMeters / 10) + "." + (distanceHundredMeters % 10)
+                + " km away";
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.food_delivery_app;
+
+/**
+ * UserSession
+ * -----------
+ * The signed-in user for this process, set by MainActivity after a successful login.
+ */
+public class UserSession {
+    // Orders placed without a signed-in user are recorded against this ID
+    public static final long GUEST_USER_ID = 0;
+
+    private static UserSession instance;
+
+    private volatile User currentUser;
+
+    private UserSession() {
+    }
+
+    public static synchronized UserSession getInstance() {
+        if (instance == null) {
+            instance = new UserSession();
+        }
+        return instance;
+    }
+
+    public User getCurrentUser() {
+        return currentUser;
+    }
+
+    public void setCurrentUser(User user) {
+        currentUser = user;
+    }
+
+    public long getCurrentUserId() {
+        User user = currentUser;
+        return user == null ? GUEST_USER_ID : user.getId();
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.food_delivery_app;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Round trip through the binary catalog file, lazy menus, and regeneration
+ * from the source data. Open and scan cost is measured in the benchmark
+ * module's BinaryCatalogBenchmark.
+ */
+public class BinaryCatalogTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void sampleCatalog_roundTrips() throws Exception {
+        List<Restaurant> expected = new SampleCatalogSource().loadRestaurants();
+        File file = new File(tmp.getRoot(), "catalog.bin");
+        BinaryCatalog.write(expected, 7, file);
+
+        BinaryCatalog catalog = BinaryCatalog.open(file);
+        assertEquals(7, catalog.getSourceStamp());
+        assertEquals(expected.size(), catalog.getRestaurantCount());
+
+        int itemIndex = 0;
+        for (int r = 0; r < expected.size(); r++) {
+            Restaurant want = expected.get(r);
+            Restaurant got = catalog.toRestaurant(r);
+            assertEquals(want.getId(), got.getId());
+            assertEquals(want.getName(), got.getName());
+            assertEquals(want.getTags(), got.getTags());
+            assertEquals(want.getRating(), got.getRating());
+            assertEquals(want.getFoodType(), got.getFoodType());
+            assertEquals(want.getDeliveryTime(), got.getDeliveryTime());
+            assertEquals(want.getMinOrder(), got.getMinOrder());
+            assertEquals(want.getLocation().getLatitude(), got.getLocation().getLatitude(), 0);
+            assertEquals(want.getLocation().getLongitude(), got.getLocation().getLongitude(), 0);
+            assertEquals(itemIndex, catalog.getFirstItem(r));
+            assertEquals(want.getMenuItems().size(), got.getMenuItems().size());
+
+            for (int i = 0; i < want.getMenuItems().size(); i++, itemIndex++) {
+                MenuItem wantItem = want.getMenuItems().get(i);
+                MenuItem gotItem = got.getMenuItems().get(i);
+                assertEquals(wantItem.getId(), gotItem.getId());
+                assertEquals(wantItem.getRestaurantId(), gotItem.getRestaurantId());
+                assertEquals(wantItem.getName(), gotItem.getName());
+                assertEquals(wantItem.getDescription(), gotItem.getDescription());
+                assertEquals(wantItem.getPrice(), gotItem.getPrice());
+                assertEquals(wantItem.getCategory(), gotItem.getCategory());
+                // Emoji survive the UTF-8 string table
+                assertEquals(wantItem.getEmoji(), gotItem.getEmoji());
+                assertEquals(wantItem.getTags(), gotItem.getTags());
+                assertEquals(wantItem.getImageUrl(), gotItem.getImageUrl());
+                assertEquals(r, catalog.getItemRestaurant(itemIndex));
+            }
+        }
+        assertEquals(itemIndex, catalog.getItemCount());
+    }
+
+    @Test
+    public void menus_areReadOnlyWhenOpened() throws Exception {
+        List<Restaurant> sample = new SampleCatalogSource().loadRestaurants();
+        File file = new File(tmp.getRoot(), "catalog.bin");
+        BinaryCatalog.write(sample, 1, file);
+        BinaryCatalog catalog = BinaryCatalog.open(file);
+
+        int[] loads = new int[catalog.getRestaurantCount()];
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (int r = 0; r < catalog.getRestaurantCount(); r++) {
+            Restaurant record = catalog.toRestaurant(r);
+            int index = r;
+            restaurants.add(new Restaurant(record.getId(), record.getName(), record.getTags(),
+                    record.getRating(), record.getFoodType(), record.getDeliveryTime(),
+                    record.getMinOrder(), record.getLocation(), record.getMenuSize(), () -> {
+                        loads[index]++;
+                        return catalog.toMenu(index);
+                    }));
+        }
+
+        CatalogSnapshot snapshot = new CatalogSnapshot(1, restaurants);
+        FacetIndex.forRestaurants(snapshot.getRestaurants());
+        assertEquals(sample.get(0).getMenuItems().size(), restaurants.get(0).getMenuSize());
+        assertEquals(0, loads[0] + loads[1]);
+
+        // Opening one menu reads just that one, once
+        assertEquals(sample.get(1).getMenuItems().size(),
+                snapshot.getRestaurant(sample.get(1).getId()).getMenuItems().size());
+        snapshot.getRestaurant(sample.get(1).getId()).getMenuItems();
+        assertEquals(0, loads[0]);
+        assertEquals(1, loads[1]);
+
+        // Dish search needs them all
+        String dishId = sample.get(0).getMenuItems().get(0).getId();
+        assertEquals(dishId, snapshot.getMenuItem(dishId).getId());
+        assertEquals(1, loads[0]);
+        assertEquals(1, loads[1]);
+    }
+
+    @Test
+    public void source_regeneratesOnlyWhenMissingStaleOrDamaged() throws Exception {
+        File file = new File(tmp.getRoot(), "catalog.bin");
+        int[] loads = {0};
+        CatalogSource sample = () -> {
+            loads[0]++;
+            return new SampleCatalogSource().loadRestaurants();
+        };
+
+        List<Restaurant> first = new BinaryCatalogSource(file, sample, 1).loadRestaurants();
+        assertEquals(1, loads[0]);
+        assertEquals(new SampleCatalogSource().loadRestaurants().size(), first.size());
+
+        // Same stamp: served from the file
+        new BinaryCatalogSource(file, sample, 1).loadRestaurants();
+        assertEquals(1, loads[0]);
+
+        // New stamp, e.g. after an update
+        new BinaryCatalogSource(file, sample, 2).loadRestaurants();
+        assertEquals(2, loads[0]);
+        assertEquals(2, BinaryCatalog.open(file).getSourceStamp());
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[]{1, 2, 3});
+        }
+        List<Restaurant> repaired = new BinaryCatalogSource(file, sample, 2).loadRestaurants();
+        assertEquals(3, loads[0]);
+        assertEquals(first.get(0).getName(), repaired.get(0).getName());
+    }
+
+    @Test
+    public void damagedStringReferences_fallBackToTheSource() throws Exception {
+        File file = new File(tmp.getRoot(), "catalog.bin");
+        int[] loads = {0};
+        CatalogSource sample = () -> {
+            loads[0]++;
+            return new SampleCatalogSource().loadRestaurants();
+        };
+        List<Restaurant> expected = new SampleCatalogSource().loadRestaurants();
+        new BinaryCatalogSource(file, sample, 1).loadRestaurants();
+        assertEquals(1, loads[0]);
+
+        // The first item's name points far past the string table
+        try (RandomAccessFile patch = new RandomAccessFile(file, "rw")) {
+            patch.seek(28);
+            int itemTable = patch.readInt();
+            patch.seek(itemTable + 4);
+            patch.writeInt(Integer.MAX_VALUE - 2);
+        }
+        try {
+            BinaryCatalog.open(file).getItemName(0);
+            fail("damaged string offset should be rejected");
+        } catch (IllegalStateException expectedFailure) {
+            // Corrupt catalog: string offset
+        }
+
+        // Records still read; the damaged menu comes from the source instead
+        List<Restaurant> restaurants = new BinaryCatalogSource(file, sample, 1).loadRestaurants();
+        assertEquals(1, loads[0]);
+        assertEquals(expected.get(0).getMenuItems().get(0).getName(),
+                restaurants.get(0).getMenuItems().get(0).getName());
+        assertEquals(2, loads[0]);
+
+        // A damaged restaurant record serves the source and regenerates the file next time
+        new BinaryCatalogSource(file, sample, 1).loadRestaurants();
+        assertEquals(3, loads[0]);
+        try (RandomAccessFile patch = new RandomAccessFile(file, "rw")) {
+            patch.seek(24);
+            int restaurantTable = patch.readInt();
+            patch.seek(restaurantTable);
+            patch.writeInt(-8);
+        }
+        restaurants = new BinaryCatalogSource(file, sample, 1).loadRestaurants();
+        assertEquals(4, loads[0]);
+        assertEquals(expected.get(0).getName(), restaurants.get(0).getName());
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void store_readsRestaurantsByPosition() throws Exception {
+        List<Restaurant> expected = new SampleCatalogSource().loadRestaurants();
+        CatalogSource source = new BinaryCatalogSource(
+                new File(tmp.getRoot(), "catalog.bin"), new SampleCatalogSource(), 1);
+
+        RestaurantStore store = new CatalogRepository(source).getRestaurantStore();
+        assertTrue(store instanceof BinaryCatalog);
+        assertEquals(expected.size(), store.getRestaurantCount());
+        for (int r = 0; r < expected.size(); r++) {
+            assertEquals(expected.get(r).getName(), store.getRestaurantName(r));
+            assertEquals(expected.get(r).getTags(), store.getRestaurantTags(r));
+            assertEquals(expected.get(r).getId(), store.toRestaurant(r).getId());
+        }
+    }
+
+    @Test
+    public void repositoryStore_followsPublishedRestaurants() {
+        List<Restaurant> sample = new SampleCatalogSource().loadRestaurants();
+        CatalogRepository repository = new CatalogRepository(new SampleCatalogSource());
+
+        // A source without a store is served from its snapshot
+        RestaurantStore store = repository.getRestaurantStore();
+        assertEquals(sample.size(), store.getRestaurantCount());
+        assertEquals(sample.get(0).getName(), store.getRestaurantName(0));
+
+        repository.publish(sample.subList(1, 2));
+        store = repository.getRestaurantStore();
+        assertEquals(1, store.getRestaurantCount());
+        assertEquals(sample.get(1).getId(), store.toRestaurant(0).getId());
+    }
+}
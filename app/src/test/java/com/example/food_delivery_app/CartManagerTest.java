@@ -0,0 +1,318 @@
+package com.example.food_delivery_app;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CartManagerTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private CartManager cart;
+
+    @Before
+    public void setUp() {
+        cart = new CartManager();
+        cart.clearCart();
+    }
+
+    @Test
+    public void addItem_sameIdIncreasesQuantity() {
+        cart.addItem(new CartItem("sunny_bbq_burger", "BBQ Burger", Money.ofMajor(480), 1, ""));
+        cart.addItem(new CartItem("sunny_bbq_burger", "BBQ Burger", Money.ofMajor(480), 1, ""));
+
+        assertEquals(1, cart.getItemCount());
+        assertEquals(2, cart.getItem("sunny_bbq_burger").getQuantity());
+        assertEquals(Money.ofMajor(960), cart.getTotals().getSubtotal());
+    }
+
+    @Test
+    public void mutations_keepTotalsCurrent() {
+        cart.addItem(new CartItem("a", "A", Money.ofMajor(100), 2, ""));
+        cart.addItem(new CartItem("b", "B", Money.ofMajor(50), 1, ""));
+        cart.updateQuantity("a", 5);
+        cart.decreaseQuantity("b");
+        cart.increaseQuantity("b");
+
+        // 600 ETB qualifies for free delivery; 15% tax on top
+        assertEquals(Money.ofMajor(600), cart.calculateSubtotal());
+        assertEquals(Money.ofMajor(600 + 90), cart.calculateTotal());
+
+        cart.removeItem("a");
+        assertNull(cart.getItem("a"));
+        assertEquals(Money.ofMajor(100), cart.calculateSubtotal());
+        assertEquals(Money.ofMajor(100 + 60 + 15), cart.calculateTotal());
+
+        cart.updateQuantity("b", 0);
+        assertEquals(0, cart.getItemCount());
+        assertEquals(0, cart.calculateSubtotal());
+    }
+
+    @Test
+    public void snapshot_isNotAffectedByLaterMutations() {
+        cart.addItem(new CartItem("a", "A", Money.ofMajor(100), 1, ""));
+        List<CartItem> before = cart.getCartItems();
+
+        cart.increaseQuantity("a");
+        cart.addItem(new CartItem("b", "B", Money.ofMajor(50), 1, ""));
+
+        assertEquals(1, before.size());
+        assertEquals(1, before.get(0).getQuantity());
+        assertEquals(2, cart.getCartItems().size());
+    }
+
+    @Test
+    public void removeOrdered_keepsWhatWasAddedWhileTheOrderWasPlaced() {
+        cart.addItem(new CartItem("a", "A", Money.ofMajor(100), 2, ""));
+        cart.addItem(new CartItem("b", "B", Money.ofMajor(50), 1, ""));
+        List<CartItem> ordered = cart.getCartItems();
+
+        // Changes made while the order is in flight
+        cart.increaseQuantity("a");
+        cart.addItem(new CartItem("c", "C", Money.ofMajor(30), 1, ""));
+
+        cart.removeOrdered(ordered);
+
+        assertEquals(2, cart.getItemCount());
+        assertEquals(1, cart.getItem("a").getQuantity());
+        assertNull(cart.getItem("b"));
+        assertEquals(1, cart.getItem("c").getQuantity());
+        assertEquals(Money.ofMajor(130), cart.calculateSubtotal());
+    }
+
+    @Test
+    public void concurrentAddAndRemove_totalsMatchContents() throws Exception {
+        int threads = 16;
+        int operations = 20_000;
+        int distinctItems = 64;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            futures.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < operations; i++) {
+                    int n = random.nextInt(distinctItems);
+                    String id = "item" + n;
+                    switch (random.nextInt(5)) {
+                        case 0:
+                        case 1:
+                            cart.addItem(new CartItem(id, "Item " + n, Money.ofMajor(10 + n), 1, ""));
+                            break;
+                        case 2:
+                            cart.removeItem(id);
+                            break;
+                        case 3:
+                            cart.updateQuantity(id, 1 + random.nextInt(4));
+                            break;
+                        default:
+                            // Readers run alongside writers
+                            assertTrue(cart.getCartItems().size() <= distinctItems);
+                            cart.getTotals();
+                            break;
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        long expected = 0;
+        for (CartItem item : cart.getCartItems()) {
+            expected += item.getTotalPrice();
+        }
+        assertEquals(cart.getItemCount(), cart.getCartItems().size());
+        assertEquals(expected, cart.getTotals().getSubtotal());
+    }
+
+    @Test
+    public void writeBehind_coalescesRapidChangesIntoOneSave() throws Exception {
+        AtomicInteger saves = new AtomicInteger();
+        CartStore store = new CartStore(tmp.newFile("cart.bin")) {
+            @Override
+            public void save(List<CartItem> items) throws IOException {
+                saves.incrementAndGet();
+                super.save(items);
+            }
+        };
+        ScheduledExecutorService disk = Executors.newSingleThreadScheduledExecutor();
+        cart.attachStore(store, disk);
+        drain(disk);
+
+        cart.addItem(new CartItem("a", "A", Money.ofMajor(100), 1, ""));
+        for (int i = 0; i < 50; i++) {
+            cart.increaseQuantity("a");
+            cart.decreaseQuantity("a");
+        }
+        cart.increaseQuantity("a");
+        cart.flush();
+        drain(disk);
+        disk.shutdown();
+
+        assertEquals(1, saves.get());
+        List<CartItem> saved = store.load();
+        assertEquals(1, saved.size());
+        assertEquals(2, saved.get(0).getQuantity());
+    }
+
+    @Test
+    public void attachStore_restoresSavedCartBeforeNewItems() throws Exception {
+        File file = tmp.newFile("cart.bin");
+        List<CartItem> previous = new ArrayList<>();
+        previous.add(new CartItem("a", "A", Money.ofMajor(100), 2, ""));
+        previous.add(new CartItem("b", "B", Money.ofMajor(50), 1, ""));
+        new CartStore(file).save(previous);
+
+        // Added while the restore is still queued
+        ScheduledExecutorService disk = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch blocked = new CountDownLatch(1);
+        disk.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        cart.attachStore(new CartStore(file), disk);
+        cart.addItem(new CartItem("c", "C", Money.ofMajor(10), 1, ""));
+        cart.addItem(new CartItem("a", "A", Money.ofMajor(100), 1, ""));
+        blocked.countDown();
+        drain(disk);
+        cart.flush();
+        drain(disk);
+        disk.shutdown();
+
+        List<CartItem> items = cart.getCartItems();
+        assertEquals(3, items.size());
+        assertEquals("a", items.get(0).getId());
+        assertEquals(3, items.get(0).getQuantity());
+        assertEquals("c", items.get(2).getId());
+        assertEquals(Money.ofMajor(360), cart.calculateSubtotal());
+        assertEquals(3, new CartStore(file).load().size());
+    }
+
+    @Test
+    public void listener_getsOneItemLevelChangePerMutation() {
+        cart.addItem(new CartItem("a", "A", Money.ofMajor(100), 1, ""));
+        List<List<CartChange>> events = new ArrayList<>();
+        List<CartItem> initial = cart.addListener((changes, totals) -> events.add(changes), Runnable::run);
+        assertEquals(1, initial.size());
+
+        cart.addItem(new CartItem("b", "B", Money.ofMajor(50), 1, ""));
+        cart.increaseQuantity("a");
+        cart.decreaseQuantity("b"); // already at one, nothing changes
+        cart.removeItem("a");
+
+        assertEquals(3, events.size());
+        assertChange(events.get(0), CartChange.Type.INSERTED, "b");
+        assertEquals(1, events.get(0).get(0).getPosition());
+        assertChange(events.get(1), CartChange.Type.CHANGED, "a");
+        assertEquals(2, events.get(1).get(0).getItem().getQuantity());
+        assertChange(events.get(2), CartChange.Type.REMOVED, "a");
+    }
+
+    @Test
+    public void replayingChanges_reproducesTheCart() {
+        List<CartItem> view = new ArrayList<>();
+        CartTotals[] lastTotals = {CartTotals.EMPTY};
+        List<CartItem> initial = cart.addListener((changes, totals) -> {
+            for (CartChange change : changes) {
+                int index = indexOf(view, change.getItemId());
+                switch (change.getType()) {
+                    case INSERTED:
+                        view.add(change.getPosition(), change.getItem());
+                        break;
+                    case CHANGED:
+                        view.set(index, change.getItem());
+                        break;
+                    case REMOVED:
+                        view.remove(index);
+                        break;
+                }
+            }
+            lastTotals[0] = totals;
+        }, Runnable::run);
+        assertTrue(initial.isEmpty());
+
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            String id = "item" + random.nextInt(20);
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    cart.addItem(new CartItem(id, id, Money.ofMajor(10), 1 + random.nextInt(3), ""));
+                    break;
+                case 2:
+                    cart.increaseQuantity(id);
+                    break;
+                case 3:
+                    cart.decreaseQuantity(id);
+                    break;
+                case 4:
+                    cart.removeItem(id);
+                    break;
+                default:
+                    if (random.nextInt(50) == 0) {
+                        cart.clearCart();
+                    } else {
+                        cart.updateQuantity(id, random.nextInt(4));
+                    }
+            }
+
+            List<CartItem> expected = cart.getCartItems();
+            assertEquals(expected.size(), view.size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j).getId(), view.get(j).getId());
+                assertEquals(expected.get(j).getQuantity(), view.get(j).getQuantity());
+            }
+        }
+        assertEquals(cart.getTotals().getTotal(), lastTotals[0].getTotal());
+    }
+
+    private static void assertChange(List<CartChange> changes, CartChange.Type type, String itemId) {
+        assertEquals(1, changes.size());
+        assertEquals(type, changes.get(0).getType());
+        assertEquals(itemId, changes.get(0).getItemId());
+    }
+
+    private static int indexOf(List<CartItem> items, String itemId) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(itemId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void drain(ScheduledExecutorService executor) throws Exception {
+        executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.food_delivery_app;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CartStoreTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void saveAndLoad_roundTrips() throws Exception {
+        CartStore store = new CartStore(new File(tmp.getRoot(), "cart.bin"));
+        List<CartItem> items = new ArrayList<>();
+        items.add(new CartItem("sunny_bbq_burger", "BBQ Burger", Money.ofMajor(480), 2, ""));
+        items.add(new CartItem("juice_mango", "Mango Juice", Money.parse("95.50"), 1, null));
+
+        store.save(items);
+        List<CartItem> loaded = store.load();
+
+        assertEquals(2, loaded.size());
+        assertEquals("sunny_bbq_burger", loaded.get(0).getId());
+        assertEquals(Money.ofMajor(480), loaded.get(0).getPrice());
+        assertEquals(2, loaded.get(0).getQuantity());
+        assertEquals("Mango Juice", loaded.get(1).getName());
+        assertEquals(Money.parse("95.50"), loaded.get(1).getPrice());
+        assertFalse(new File(tmp.getRoot(), "cart.bin.tmp").exists());
+    }
+
+    @Test
+    public void load_missingOrDamagedFileIsEmpty() throws Exception {
+        File file = new File(tmp.getRoot(), "cart.bin");
+        assertTrue(new CartStore(file).load().isEmpty());
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[] {0, 0, 0, 1, 0, 0, 0, 5, 0});
+        }
+        assertTrue(new CartStore(file).load().isEmpty());
+    }
+
+    @Test
+    public void load_corruptLineCountIsEmpty() throws Exception {
+        File file = new File(tmp.getRoot(), "cart.bin");
+
+        // Version 1 with a negative count, then with a count far beyond the file
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[] {0, 0, 0, 1, -1, -1, -1, -2});
+        }
+        assertTrue(new CartStore(file).load().isEmpty());
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[] {0, 0, 0, 1, 0x7f, -1, -1, -1});
+        }
+        assertTrue(new CartStore(file).load().isEmpty());
+    }
+
+    @Test
+    public void leftoverTempFile_doesNotReplaceSavedCart() throws Exception {
+        File file = new File(tmp.getRoot(), "cart.bin");
+        CartStore store = new CartStore(file);
+        List<CartItem> items = new ArrayList<>();
+        items.add(new CartItem("a", "A", Money.ofMajor(100), 1, ""));
+        store.save(items);
+
+        // A save interrupted before the rename
+        try (FileOutputStream out = new FileOutputStream(new File(tmp.getRoot(), "cart.bin.tmp"))) {
+            out.write(new byte[] {0, 0});
+        }
+
+        assertEquals(1, store.load().size());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Suggestions on the sample catalog and agreement with a full scan on random
+ * data. Lookup cost is measured in the benchmark module's CompletionBenchmark.
+ */
+public class CompletionTrieTest {
+
+    @Test
+    public void sampleCatalog_suggestsNamesDishesAndTags() {
+        CompletionTrie trie = CompletionTrie.forCatalog(
+                new CatalogSnapshot(1, new SampleCatalogSource().loadRestaurants()));
+
+        List<String> piz = trie.complete("piz");
+        assertEquals("Pizza", piz.get(0));
+        for (String suggestion : piz) {
+            assertTrue(suggestion, suggestion.toLowerCase().matches("(.* )?piz.*"));
+        }
+
+        // Later words complete too, and case and spacing do not matter
+        assertTrue(trie.complete("  SU").contains("Tokyo Sushi House"));
+        assertTrue(trie.complete("tokyo s").contains("Tokyo Sushi House"));
+
+        assertTrue(trie.complete("").isEmpty());
+        assertTrue(trie.complete("xqz").isEmpty());
+        assertTrue(trie.complete("p").size() <= CompletionTrie.DEFAULT_LIMIT);
+    }
+
+    @Test
+    public void popularityAddsUpAcrossDuplicates() {
+        CompletionTrie trie = new CompletionTrie.Builder()
+                .add("Burger Barn", 3)
+                .add("Burrito", 2)
+                .add("burrito", 2)
+                .add("Bun", 1)
+                .build(2);
+
+        List<String> expected = new ArrayList<>();
+        expected.add("Burrito");
+        expected.add("Burger Barn");
+        assertEquals(expected, trie.complete("bu"));
+        assertEquals(Collections.singletonList("Burger Barn"), trie.complete("bar"));
+        assertEquals(3, trie.getSuggestionCount());
+    }
+
+    @Test
+    public void completions_matchAFullScan() {
+        Random random = new Random(7);
+        Map<String, Long> weights = new LinkedHashMap<>();
+        CompletionTrie.Builder builder = new CompletionTrie.Builder();
+        for (int i = 0; i < 3_000; i++) {
+            String text = randomWord(random) + (random.nextBoolean() ? " " + randomWord(random) : "");
+            long weight = 1 + random.nextInt(50);
+            builder.add(text, weight);
+            Long previous = weights.get(text);
+            weights.put(text, previous == null ? weight : previous + weight);
+        }
+        CompletionTrie trie = builder.build(5);
+
+        for (int i = 0; i < 500; i++) {
+            String prefix = randomWord(random).substring(0, 1 + random.nextInt(2));
+            assertEquals(prefix, scan(weights, prefix, 5), trie.complete(prefix));
+        }
+    }
+
+    private static List<String> scan(Map<String, Long> weights, String prefix, int limit) {
+        List<Map.Entry<String, Long>> matches = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : weights.entrySet()) {
+            if ((" " + entry.getKey()).contains(" " + prefix)) {
+                matches.add(entry);
+            }
+        }
+        matches.sort((a, b) -> {
+            int byWeight = Long.compare(b.getValue(), a.getValue());
+            return byWeight != 0 ? byWeight : a.getKey().compareTo(b.getKey());
+        });
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, matches.size()); i++) {
+            result.add(matches.get(i).getKey());
+        }
+        return result;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append("abcdefg".charAt(random.nextInt(7)));
+        }
+        return word.toString();
+    }
+}
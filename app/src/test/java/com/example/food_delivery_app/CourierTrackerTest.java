@@ -0,0 +1,84 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CourierTrackerTest {
+
+    private static final GeoPoint RESTAURANT = new GeoPoint(9.0108, 38.7613);
+    private static final GeoPoint CUSTOMER = new GeoPoint(9.0262, 38.7701);
+
+    @Test
+    public void burstBetweenPolls_isCoalescedToTheNewest() {
+        CourierTracker tracker = new CourierTracker(CUSTOMER);
+        for (int i = 0; i <= 1_000; i++) {
+            tracker.onLocation(new CourierLocation(
+                    RESTAURANT.interpolate(CUSTOMER, i / 1_000.0), i, false));
+        }
+
+        TrackingState state = tracker.poll();
+        assertEquals(0, state.getDistanceHundredMeters());
+        assertNull(tracker.poll());
+        assertEquals(1_001, tracker.getReceivedCount());
+        assertEquals(1_000, tracker.getCoalescedCount());
+    }
+
+    @Test
+    public void olderLocation_doesNotReplaceNewer() {
+        CourierTracker tracker = new CourierTracker(CUSTOMER);
+        tracker.onLocation(new CourierLocation(CUSTOMER, 200, true));
+        tracker.onLocation(new CourierLocation(RESTAURANT, 100, false));
+
+        assertTrue(tracker.poll().isDelivered());
+    }
+
+    @Test
+    public void state_roundsToWhatIsShown() {
+        CourierTracker tracker = new CourierTracker(CUSTOMER);
+        double meters = RESTAURANT.distanceTo(CUSTOMER);
+        TrackingState state = tracker.stateFor(new CourierLocation(RESTAURANT, 0, false));
+
+        assertEquals(Math.round(meters / 100), state.getDistanceHundredMeters());
+        assertEquals((int) Math.ceil(meters / CourierTracker.AVERAGE_SPEED_METERS_PER_SECOND / 60),
+                state.getEtaMinutes());
+        assertEquals("Courier is 2.0 km away", state.getStatusText());
+    }
+
+    @Test
+    public void fastFeed_slowPoller_keepsUpAndEndsDelivered() throws Exception {
+        List<GeoPoint> route = Arrays.asList(RESTAURANT, new GeoPoint(9.0192, 38.7625), CUSTOMER);
+        // About 2 km at 4 km/s reported every millisecond: ~500 updates in half a second
+        SimulatedCourierFeed feed = new SimulatedCourierFeed(route, 4_000, 1);
+        CourierTracker tracker = new CourierTracker(CUSTOMER);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        feed.start(tracker);
+        int frames = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            // A deliberately slow screen
+            Thread.sleep(50);
+            TrackingState state = tracker.poll();
+            if (state != null) {
+                frames++;
+                if (state.isDelivered()) {
+                    delivered.countDown();
+                    break;
+                }
+            }
+        }
+        feed.stop();
+
+        assertEquals(0, delivered.getCount());
+        assertTrue("most updates should be coalesced", frames < tracker.getReceivedCount() / 2);
+        assertEquals(tracker.getReceivedCount(), tracker.getCoalescedCount() + frames);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.food_delivery_app;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The login query on a plain JVM SQLite with DatabaseSchema's SQL: its answers
+ * and its query plan. Latency of the connection patterns is measured in the
+ * benchmark module's DatabaseLookupBenchmark.
+ */
+public class DatabaseLookupTest {
+
+    private File databaseFile;
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        databaseFile = File.createTempFile("lookup", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DatabaseSchema.SQL_CREATE_USERS);
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (full_name, email, phone, password) VALUES (?, ?, '', ?)")) {
+            for (int i = 0; i < 100; i++) {
+                insert.setString(1, "User " + i);
+                insert.setString(2, "user" + i + "@test.com");
+                insert.setString(3, "secret" + i);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+        databaseFile.delete();
+    }
+
+    @Test
+    public void authenticate_acceptsOnlyTheMatchingPassword() throws Exception {
+        try (PreparedStatement query = connection.prepareStatement(DatabaseSchema.SQL_AUTHENTICATE)) {
+            assertEquals(1, authenticate(query, "user42@test.com", "secret42"));
+            assertEquals(0, authenticate(query, "user42@test.com", "secret43"));
+            assertEquals(0, authenticate(query, "nobody@test.com", "secret42"));
+        }
+    }
+
+    @Test
+    public void authenticate_seeksTheEmailIndex() throws Exception {
+        try (PreparedStatement plan = connection.prepareStatement(
+                "EXPLAIN QUERY PLAN " + DatabaseSchema.SQL_AUTHENTICATE)) {
+            plan.setString(1, "user42@test.com");
+            plan.setString(2, "secret42");
+            try (ResultSet result = plan.executeQuery()) {
+                assertTrue(result.next());
+                String detail = result.getString(4);
+                assertTrue(detail, detail.contains("USING INDEX"));
+                assertFalse(detail, detail.startsWith("SCAN"));
+            }
+        }
+    }
+
+    private static long authenticate(PreparedStatement query, String email, String password)
+            throws SQLException {
+        query.setString(1, email);
+        query.setString(2, password);
+        try (ResultSet result = query.executeQuery()) {
+            assertTrue(result.next());
+            return result.getLong(1);
+        }
+    }
+}
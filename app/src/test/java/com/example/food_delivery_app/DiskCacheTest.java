@@ -0,0 +1,118 @@
+package com.example.food_delivery_app;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DiskCacheTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void evictsLeastRecentlyUsed_whenOverBudget() throws Exception {
+        File directory = tmp.newFolder("images");
+        DiskCache cache = new DiskCache(directory, 3_000);
+
+        put(cache, "a", 1_000);
+        put(cache, "b", 1_000);
+        put(cache, "c", 1_000);
+        assertNotNull(cache.get("a"));
+        put(cache, "d", 1_000);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3_000, cache.size());
+        assertEquals(3, directory.listFiles().length);
+    }
+
+    @Test
+    public void reopenedCache_findsExistingFilesAndDropsPartialOnes() throws Exception {
+        File directory = tmp.newFolder("images");
+        put(new DiskCache(directory, 10_000), "a", 500);
+        assertTrue(new File(directory, "unfinished.7.tmp").createNewFile());
+
+        DiskCache reopened = new DiskCache(directory, 10_000);
+        assertNotNull(reopened.get("a"));
+        assertEquals(500, reopened.size());
+        assertEquals(1, directory.listFiles().length);
+    }
+
+    @Test
+    public void failedWrite_storesNothing() throws Exception {
+        File directory = tmp.newFolder("images");
+        DiskCache cache = new DiskCache(directory, 10_000);
+        try {
+            cache.put("a", out -> {
+                out.write(new byte[100]);
+                throw new IOException("connection reset");
+            });
+            fail();
+        } catch (IOException expected) {
+            // expected
+        }
+
+        assertNull(cache.get("a"));
+        assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test
+    public void fileLargerThanTheBudget_isKeptForItsReader() throws Exception {
+        File directory = tmp.newFolder("images");
+        DiskCache cache = new DiskCache(directory, 3_000);
+        put(cache, "a", 1_000);
+
+        File huge = cache.put("huge", out -> out.write(new byte[5_000]));
+
+        assertTrue(huge.exists());
+        assertEquals(5_000, huge.length());
+        assertNull(cache.get("a"));
+
+        // The next write evicts it
+        put(cache, "b", 1_000);
+        assertFalse(huge.exists());
+        assertEquals(1_000, cache.size());
+    }
+
+    @Test
+    public void memoryCache_evictsByBytes() {
+        MemoryCache<String, byte[]> cache = new MemoryCache<>(100, value -> value.length);
+        cache.put("a", new byte[40]);
+        cache.put("b", new byte[40]);
+        cache.get("a");
+        cache.put("c", new byte[40]);
+        cache.put("huge", new byte[101]);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNull(cache.get("huge"));
+        assertEquals(80, cache.size());
+    }
+
+    @Test
+    public void memoryCache_oversizeValueReplacesTheOldOne() {
+        MemoryCache<String, byte[]> cache = new MemoryCache<>(100, value -> value.length);
+        cache.put("a", new byte[40]);
+        cache.put("b", new byte[40]);
+
+        cache.put("a", new byte[101]);
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertEquals(40, cache.size());
+    }
+
+    private static void put(DiskCache cache, String key, int bytes) throws IOException {
+        cache.put(key, out -> out.write(new byte[bytes]));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EtaEstimatorTest {
+
+    @Test
+    public void matrix_matchesFloydWarshall() {
+        RoadGraph graph = AddisRoadNetwork.createGraph();
+        assertMatrixMatches(graph);
+
+        Random random = new Random(7);
+        for (int run = 0; run < 20; run++) {
+            RoadGraph randomGraph = new RoadGraph();
+            int zones = 2 + random.nextInt(40);
+            for (int i = 0; i < zones; i++) {
+                randomGraph.addZone("z" + i, new GeoPoint(
+                        8.98 + random.nextDouble() * 0.06, 38.72 + random.nextDouble() * 0.09));
+            }
+            for (int i = 0; i < zones * 2; i++) {
+                randomGraph.addRoad(random.nextInt(zones), random.nextInt(zones),
+                        20 + random.nextInt(40));
+            }
+            assertMatrixMatches(randomGraph);
+        }
+    }
+
+    @Test
+    public void estimate_growsWithDistance() {
+        EtaEstimator estimator = AddisRoadNetwork.getEstimator();
+        GeoPoint customer = AddisRoadNetwork.DEFAULT_CUSTOMER_LOCATION;
+
+        int nextDoor = estimator.estimateMinutes(new GeoPoint(9.0110, 38.7615), customer);
+        int kazanchis = estimator.estimateMinutes(new GeoPoint(9.0180, 38.7700), customer);
+        int cmc = estimator.estimateMinutes(new GeoPoint(9.0220, 38.8350), customer);
+
+        assertEquals(EtaEstimator.PREPARATION_SECONDS / 60 + 1, nextDoor);
+        assertTrue(nextDoor < kazanchis);
+        assertTrue(kazanchis < cmc);
+    }
+
+    private static void assertMatrixMatches(RoadGraph graph) {
+        int n = graph.getZoneCount();
+        double[][] best = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                best[i][j] = i == j ? 0 : Double.POSITIVE_INFINITY;
+            }
+            for (double[] road : graph.getRoads(i)) {
+                best[i][(int) road[0]] = Math.min(best[i][(int) road[0]], road[1]);
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    best[i][j] = Math.min(best[i][j], best[i][k] + best[k][j]);
+                }
+            }
+        }
+
+        EtaEstimator estimator = new EtaEstimator(graph);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int expected = Double.isInfinite(best[i][j])
+                        ? Integer.MAX_VALUE : (int) Math.round(best[i][j]);
+                assertEquals(expected, estimator.travelSeconds(i, j));
+                assertEquals(estimator.travelSeconds(i, j), estimator.travelSeconds(j, i));
+            }
+        }
+    }
+}
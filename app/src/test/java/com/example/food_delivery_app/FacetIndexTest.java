@@ -0,0 +1,154 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FacetIndexTest {
+
+    private static final String[] TAGS = {
+            "Pizza, Burger, Fast Food",
+            "Chicken, Pizza, Burger, Italian",
+            "Burger, American, Fast Food",
+            "Italian, Pasta, Pizza, Fine Dining",
+            "Food Court",
+            ""
+    };
+
+    @Test
+    public void tagsAreInternedWholeAndCaseInsensitively() {
+        FacetIndex index = new FacetIndex(TAGS);
+
+        assertEquals(index.getFacetId("pizza"), index.getFacetId("  PIZZA "));
+        assertEquals("Pizza", index.getFacetName(index.getFacetId("pizza")));
+        assertEquals(-1, index.getFacetId("Food"));
+        assertEquals(-1, index.getFacetId("Pizz"));
+        assertEquals(9, index.getFacetCount());
+
+        // The old substring match put "Fast Food" and "Food Court" under "Food"
+        int fastFood = index.getFacetId("fast food");
+        assertTrue(index.hasFacet(0, fastFood));
+        assertFalse(index.hasFacet(4, fastFood));
+    }
+
+    @Test
+    public void multiSelect_allAndAny() {
+        FacetIndex index = new FacetIndex(TAGS);
+        FacetIndex.Selection selection = index.newSelection();
+
+        assertArrayEquals(new boolean[]{true, true, true, true, true, true},
+                index.match(selection, FacetIndex.Mode.ALL));
+
+        selection.toggle(index.getFacetId("Pizza"));
+        selection.toggle(index.getFacetId("Italian"));
+        assertEquals(2, selection.size());
+
+        assertArrayEquals(new boolean[]{false, true, false, true, false, false},
+                index.match(selection, FacetIndex.Mode.ALL));
+
+        selection.toggle(index.getFacetId("Fast Food"));
+        assertArrayEquals(new boolean[]{false, false, false, false, false, false},
+                index.match(selection, FacetIndex.Mode.ALL));
+        assertArrayEquals(new boolean[]{true, true, true, true, false, false},
+                index.match(selection, FacetIndex.Mode.ANY));
+
+        assertFalse(selection.toggle(index.getFacetId("Fast Food")));
+        assertFalse(selection.contains(index.getFacetId("Fast Food")));
+    }
+
+    @Test
+    public void moreThan64Facets_spanSeveralWords() {
+        String[] tags = new String[200];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = "tag" + i + ", tag" + (i + 1) % tags.length + ", common";
+        }
+        FacetIndex index = new FacetIndex(tags);
+        assertEquals(201, index.getFacetCount());
+
+        FacetIndex.Selection selection = index.newSelection();
+        selection.toggle(index.getFacetId("tag150"));
+        selection.toggle(index.getFacetId("common"));
+
+        boolean[] matches = index.match(selection, FacetIndex.Mode.ALL);
+        for (int i = 0; i < matches.length; i++) {
+            assertEquals("row " + i, i == 149 || i == 150, matches[i]);
+        }
+    }
+
+    @Test
+    public void incrementalCounts_matchAFullRecount() {
+        List<Restaurant> restaurants = new SyntheticCatalogSource(2_000, 0).loadRestaurants();
+        FacetIndex index = FacetIndex.forRestaurants(restaurants);
+
+        boolean[] visible = new boolean[index.size()];
+        Arrays.fill(visible, true);
+        FacetIndex.Counts counts = index.count(visible);
+
+        Random random = new Random(17);
+        for (int step = 0; step < 10_000; step++) {
+            int row = random.nextInt(visible.length);
+            visible[row] = !visible[row];
+            if (visible[row]) {
+                counts.add(row);
+            } else {
+                counts.remove(row);
+            }
+        }
+
+        FacetIndex.Counts expected = index.count(visible);
+        for (int facet = 0; facet < index.getFacetCount(); facet++) {
+            assertEquals(index.getFacetName(facet), expected.get(facet), counts.get(facet));
+        }
+        assertEquals(0, counts.get(-1));
+    }
+
+    @Test
+    public void bitsetFilter_agreesWithTagLists() {
+        List<Restaurant> restaurants = new SyntheticCatalogSource(500, 0).loadRestaurants();
+        FacetIndex index = FacetIndex.forRestaurants(restaurants);
+
+        Random random = new Random(23);
+        for (int round = 0; round < 200; round++) {
+            FacetIndex.Selection selection = index.newSelection();
+            Set<String> picked = new HashSet<>();
+            for (int i = 1 + random.nextInt(3); i > 0; i--) {
+                int facet = random.nextInt(index.getFacetCount());
+                if (selection.toggle(facet)) {
+                    picked.add(index.getFacetName(facet).toLowerCase());
+                } else {
+                    picked.remove(index.getFacetName(facet).toLowerCase());
+                }
+            }
+
+            boolean[] all = index.match(selection, FacetIndex.Mode.ALL);
+            boolean[] any = index.match(selection, FacetIndex.Mode.ANY);
+            for (int row = 0; row < restaurants.size(); row++) {
+                Set<String> tags = tagSet(restaurants.get(row).getTags());
+                assertEquals("row " + row, tags.containsAll(picked), all[row]);
+                assertEquals("row " + row, picked.isEmpty() || !Collections.disjoint(tags, picked),
+                        any[row]);
+                assertEquals(all[row], index.matches(row, selection, FacetIndex.Mode.ALL));
+            }
+        }
+    }
+
+    private static Set<String> tagSet(String tags) {
+        Set<String> set = new HashSet<>();
+        for (String tag : tags.split(",")) {
+            if (!tag.trim().isEmpty()) {
+                set.add(tag.trim().toLowerCase());
+            }
+        }
+        return set;
+    }
+}
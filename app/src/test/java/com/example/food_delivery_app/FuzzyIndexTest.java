@@ -0,0 +1,147 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Typo tolerance on the sample catalog and completeness of the trigram filter
+ * against a brute-force scan. Latency is measured in the benchmark module's
+ * FuzzyBenchmark.
+ */
+public class FuzzyIndexTest {
+
+    private static final String SYLLABLES = "ba be bi bo ka ke ki ko la le li lo ma me mi mo na ne"
+            + " ni no pa pe pi po ra re ri ro sa se si so ta te ti to za ze zi zo";
+
+    @Test
+    public void misspelledQueries_stillFindTheSampleCatalog() {
+        SearchEngine engine = new SearchEngine(
+                new CatalogSnapshot(1, new SampleCatalogSource().loadRestaurants()));
+
+        assertTrue(engine.searchDishes("piza").size() > 0);
+        for (MenuItem dish : engine.searchDishes("piza")) {
+            assertTrue(dish.getName(), dish.getName().toLowerCase().contains("pizza"));
+        }
+        assertEquals("Pasta Carbonara", firstName(engine.searchDishes("carbonarra")));
+        assertEquals("Tokyo Sushi House", engine.searchRestaurants("tokio").get(0).getName());
+
+        // Nonsense and too-short words still find nothing
+        assertTrue(engine.searchDishes("xqzv").isEmpty());
+        assertTrue(engine.searchDishes("zz").isEmpty());
+    }
+
+    @Test
+    public void boundedDistance_agreesWithFullLevenshtein() {
+        Random random = new Random(3);
+        for (int i = 0; i < 20_000; i++) {
+            String a = randomWord(random, 1 + random.nextInt(9), "abc");
+            String b = randomWord(random, 1 + random.nextInt(9), "abc");
+            int max = random.nextInt(4);
+            int expected = levenshtein(a, b);
+            assertEquals(a + " / " + b + " max " + max,
+                    Math.min(expected, max + 1), FuzzyIndex.boundedDistance(a, b, max));
+        }
+    }
+
+    @Test
+    public void trigramFilter_missesNoWordWithinTheDistance() {
+        Random random = new Random(5);
+        List<String> names = randomNames(random, 5_000);
+        FuzzyIndex index = new FuzzyIndex(names);
+
+        Set<String> vocabulary = new HashSet<>();
+        for (String name : names) {
+            for (String word : name.split(" ")) {
+                vocabulary.add(word);
+            }
+        }
+
+        for (int i = 0; i < 300; i++) {
+            String query = typo(random, new ArrayList<>(vocabulary).get(random.nextInt(vocabulary.size())));
+            int max = FuzzyIndex.maxEdits(query.length());
+
+            Set<String> expected = new HashSet<>();
+            for (String word : vocabulary) {
+                if (levenshtein(query, word) <= max) {
+                    expected.add(word);
+                }
+            }
+            assertEquals(query, expected, new HashSet<>(index.similarWords(query)));
+        }
+    }
+
+    private static String firstName(List<MenuItem> dishes) {
+        assertFalse(dishes.isEmpty());
+        return dishes.get(0).getName();
+    }
+
+    private static List<String> randomNames(Random random, int count) {
+        String[] syllables = SYLLABLES.split(" ");
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            int words = 2 + random.nextInt(2);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    name.append(' ');
+                }
+                int length = 2 + random.nextInt(3);
+                for (int s = 0; s < length; s++) {
+                    name.append(syllables[random.nextInt(syllables.length)]);
+                }
+            }
+            names.add(name.toString());
+        }
+        return names;
+    }
+
+    private static String typo(Random random, String word) {
+        StringBuilder typo = new StringBuilder(word);
+        int position = random.nextInt(typo.length());
+        switch (random.nextInt(3)) {
+            case 0:
+                typo.deleteCharAt(position);
+                break;
+            case 1:
+                typo.insert(position, (char) ('a' + random.nextInt(26)));
+                break;
+            default:
+                typo.setCharAt(position, (char) ('a' + random.nextInt(26)));
+        }
+        return typo.toString();
+    }
+
+    private static String randomWord(Random random, int length, String alphabet) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return word.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.food_delivery_app;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ImagePipelineTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicInteger decodes = new AtomicInteger();
+    private volatile CountDownLatch fetchGate = new CountDownLatch(0);
+
+    private ExecutorService workers;
+    private ExecutorService callbacks;
+    private MemoryCache<String, byte[]> memory;
+    private DiskCache disk;
+    private ImagePipeline<byte[]> pipeline;
+
+    @Before
+    public void setUp() throws Exception {
+        workers = Executors.newFixedThreadPool(2);
+        callbacks = Executors.newSingleThreadExecutor();
+        memory = new MemoryCache<>(64 * 1024, image -> image.length);
+        disk = new DiskCache(tmp.newFolder("images"), 1024 * 1024);
+
+        // "Images" are the URL's bytes repeated; the decoder keeps one byte per sample
+        ImagePipeline.Fetcher fetcher = (url, out) -> {
+            fetches.incrementAndGet();
+            try {
+                fetchGate.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            for (int i = 0; i < 100; i++) {
+                out.write(url.getBytes());
+            }
+        };
+        ImagePipeline.Decoder<byte[]> decoder = (file, width, height) -> {
+            decodes.incrementAndGet();
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            int sample = ImagePipeline.calculateSampleSize(bytes.length, bytes.length, width, width);
+            byte[] image = new byte[bytes.length / sample];
+            for (int i = 0; i < image.length; i++) {
+                image[i] = bytes[i * sample];
+            }
+            return image;
+        };
+
+        pipeline = new ImagePipeline<>(memory, disk, fetcher, decoder, workers, callbacks);
+    }
+
+    @After
+    public void tearDown() {
+        workers.shutdownNow();
+        callbacks.shutdownNow();
+    }
+
+    @Test
+    public void concurrentRequestsForOneImage_shareOneFetchAndDecode() throws Exception {
+        fetchGate = new CountDownLatch(1);
+        List<byte[]> results = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.load("http://local/a.jpg", 1_000, 1, image -> {
+                results.add(image);
+                done.countDown();
+            });
+        }
+        fetchGate.countDown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, fetches.get());
+        assertEquals(1, decodes.get());
+        for (byte[] image : results) {
+            assertArrayEquals(results.get(0), image);
+        }
+    }
+
+    @Test
+    public void memoryHit_isDeliveredImmediately() throws Exception {
+        byte[] first = loadAndWait("http://local/a.jpg", 100);
+
+        byte[][] second = new byte[1][];
+        pipeline.load("http://local/a.jpg", 100, 1, image -> second[0] = image);
+
+        assertNotNull(second[0]);
+        assertArrayEquals(first, second[0]);
+        assertEquals(1, decodes.get());
+    }
+
+    @Test
+    public void decodesAtTargetSize_andReusesDiskForOtherSizes() throws Exception {
+        // 1700 source bytes
+        byte[] small = loadAndWait("http://local/a.jpg", 100);
+        byte[] large = loadAndWait("http://local/a.jpg", 1_000);
+
+        assertTrue(small.length >= 100 && small.length < 200);
+        assertTrue(large.length >= 1_000);
+        assertEquals(1, fetches.get());
+        assertEquals(2, decodes.get());
+    }
+
+    @Test
+    public void memoryCache_staysWithinItsByteBudget() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            loadAndWait("http://local/image-" + i + ".jpg", 10_000);
+        }
+
+        assertTrue(memory.size() <= memory.maxSize());
+        // Evicted from memory but still on disk: decoded again, not downloaded again
+        loadAndWait("http://local/image-0.jpg", 10_000);
+        assertEquals(200, fetches.get());
+        assertEquals(201, decodes.get());
+    }
+
+    @Test
+    public void cancelledRequest_isNotCalledBack() throws Exception {
+        fetchGate = new CountDownLatch(1);
+        AtomicInteger cancelledCalls = new AtomicInteger();
+        CountDownLatch kept = new CountDownLatch(1);
+
+        ImagePipeline.Request<byte[]> scrolledAway =
+                pipeline.load("http://local/a.jpg", 100, 1, image -> cancelledCalls.incrementAndGet());
+        pipeline.load("http://local/a.jpg", 100, 1, image -> kept.countDown());
+        pipeline.cancel(scrolledAway);
+        fetchGate.countDown();
+
+        assertTrue(kept.await(10, TimeUnit.SECONDS));
+        callbacks.submit(() -> { }).get();
+        assertEquals(0, cancelledCalls.get());
+    }
+
+    @Test
+    public void cancellingEveryRequest_abandonsTheJob() throws Exception {
+        fetchGate = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        ImagePipeline.Request<byte[]> request =
+                pipeline.load("http://local/a.jpg", 100, 1, image -> calls.incrementAndGet());
+        pipeline.cancel(request);
+        fetchGate.countDown();
+
+        // A new request starts a fresh job rather than joining the abandoned one
+        assertNotNull(loadAndWait("http://local/a.jpg", 100));
+        callbacks.submit(() -> { }).get();
+        assertEquals(0, calls.get());
+        assertTrue(request.isCancelled());
+    }
+
+    @Test
+    public void failedFetch_deliversNull() throws Exception {
+        ImagePipeline<byte[]> failing = new ImagePipeline<>(memory, disk,
+                (url, out) -> {
+                    throw new IOException("offline");
+                },
+                (file, width, height) -> new byte[1], workers, callbacks);
+
+        CountDownLatch done = new CountDownLatch(1);
+        byte[][] result = {new byte[0]};
+        failing.load("http://local/missing.jpg", 100, 1, image -> {
+            result[0] = image;
+            done.countDown();
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNull(result[0]);
+        assertNull(disk.get("http://local/missing.jpg"));
+    }
+
+    @Test
+    public void failedUrl_isNotFetchedAgainRightAway() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        ImagePipeline<byte[]> failing = new ImagePipeline<>(memory, disk,
+                (url, out) -> {
+                    attempts.incrementAndGet();
+                    throw new IOException("connect timed out");
+                },
+                (file, width, height) -> new byte[1], workers, callbacks);
+
+        CountDownLatch done = new CountDownLatch(1);
+        failing.load("http://local/missing.jpg", 100, 1, image -> done.countDown());
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        // Answered at once, at any size, without another fetch
+        byte[][] result = {new byte[0]};
+        failing.load("http://local/missing.jpg", 200, 1, image -> result[0] = image);
+        assertNull(result[0]);
+        assertEquals(1, attempts.get());
+
+        // Other URLs are unaffected
+        CountDownLatch other = new CountDownLatch(1);
+        failing.load("http://local/other.jpg", 100, 1, image -> other.countDown());
+        assertTrue(other.await(10, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void crashingDecoder_deliversNullAndLetsTheImageLoadAgain() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        ImagePipeline<byte[]> crashing = new ImagePipeline<>(memory, disk,
+                (url, out) -> out.write(1),
+                (file, width, height) -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException("corrupt image");
+                    }
+                    return new byte[1];
+                }, workers, callbacks);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            CountDownLatch done = new CountDownLatch(1);
+            byte[][] result = {new byte[0]};
+            crashing.load("http://local/corrupt.jpg", 100, 1, image -> {
+                result[0] = image;
+                done.countDown();
+            });
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            if (attempt == 0) {
+                assertNull(result[0]);
+            } else {
+                assertNotNull(result[0]);
+            }
+        }
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void urlFetcher_readsLocalFiles() throws Exception {
+        File photo = tmp.newFile("photo.jpg");
+        Files.write(photo.toPath(), new byte[]{1, 2, 3});
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImagePipeline.URL_FETCHER.fetch(photo.toURI().toString(), out);
+
+        assertArrayEquals(new byte[]{1, 2, 3}, out.toByteArray());
+    }
+
+    @Test
+    public void sampleSize_neverGoesBelowTarget() {
+        assertEquals(1, ImagePipeline.calculateSampleSize(100, 100, 100, 100));
+        assertEquals(4, ImagePipeline.calculateSampleSize(4000, 3000, 800, 600));
+        assertEquals(2, ImagePipeline.calculateSampleSize(4000, 3000, 800, 1000));
+        assertEquals(1, ImagePipeline.calculateSampleSize(4000, 3000, 0, 0));
+    }
+
+    private byte[] loadAndWait(String url, int width) throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        byte[][] result = new byte[1][];
+        pipeline.load(url, width, 1, image -> {
+            result[0] = image;
+            done.countDown();
+        });
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        return result[0];
+    }
+}
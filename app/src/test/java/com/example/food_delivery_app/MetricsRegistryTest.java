@@ -0,0 +1,117 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void histogram_bucketsAndPercentiles() {
+        LatencyHistogram histogram = new MetricsRegistry().histogram("test");
+        for (int i = 0; i < 90; i++) {
+            histogram.record(3_000); // 3 us, bucket [2, 4) us
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1_000_000); // 1 ms
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(4_000, snapshot.getPercentileNanos(50));
+        assertEquals(4_000, snapshot.getPercentileNanos(90));
+        assertEquals(1_000_000, snapshot.getPercentileNanos(99));
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals((90 * 3_000 + 10 * 1_000_000) / 100, snapshot.getMeanNanos());
+
+        assertEquals(0, LatencyHistogram.bucketOf(999));
+        assertEquals(1, LatencyHistogram.bucketOf(1_000));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void concurrentRecording_losesNothing() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("events");
+        LatencyHistogram histogram = registry.histogram("latency");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    counter.increment();
+                    histogram.record(i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(800_000, counter.get());
+        assertEquals(800_000, histogram.snapshot().getCount());
+        assertEquals(99_999, histogram.snapshot().getMaxNanos());
+    }
+
+    @Test
+    public void recording_doesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("events");
+        LatencyHistogram histogram = registry.histogram("latency");
+
+        // Warm up so the JIT and the measurement itself are settled
+        for (int i = 0; i < 200_000; i++) {
+            counter.increment();
+            histogram.recordSince(System.nanoTime() - i);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 1_000_000; i++) {
+            counter.increment();
+            histogram.recordSince(System.nanoTime() - i);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // A few hundred bytes of noise at most; one object per record would be megabytes
+        assertTrue("allocated " + allocated + " bytes", allocated < 10_000);
+    }
+
+    @Test
+    public void instrumentedPaths_showUpInTheDump() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        long searchesBefore = registry.histogram("search.dishes").snapshot().getCount();
+        long mutationsBefore = registry.counter("cart.mutations").get();
+
+        SearchEngine engine = new SearchEngine(new CatalogSnapshot(1,
+                new SyntheticCatalogSource(10, 10).loadRestaurants()));
+        engine.searchDishes("pizza");
+        engine.searchDishes("burger");
+
+        CartManager cart = new CartManager();
+        cart.addItem(new CartItem("a", "A", Money.ofMajor(100), 1, ""));
+        cart.increaseQuantity("a");
+        cart.increaseQuantity("missing");
+
+        assertEquals(searchesBefore + 2, registry.histogram("search.dishes").snapshot().getCount());
+        assertEquals(mutationsBefore + 2, registry.counter("cart.mutations").get());
+
+        String dump = registry.dump();
+        assertTrue(dump, dump.contains("search.dishes count="));
+        assertTrue(dump, dump.contains("cart.mutation count="));
+        assertTrue(dump, dump.contains("cart.mutations "));
+    }
+}
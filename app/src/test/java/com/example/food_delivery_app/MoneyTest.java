@@ -0,0 +1,55 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MoneyTest {
+
+    @Test
+    public void parse_handlesCatalogFormats() {
+        assertEquals(45000, Money.parse("450.00"));
+        assertEquals(4500, Money.parse("45"));
+        assertEquals(123450, Money.parse("1,234.5"));
+        assertEquals(1001, Money.parse("10.005"));
+        assertEquals(1000, Money.parse("10.004"));
+        assertEquals(-250, Money.parse("-2.50"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void parse_rejectsText() {
+        Money.parse("12 ETB");
+    }
+
+    @Test
+    public void format_groupsThousands() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("450.00", Money.format(45000));
+        assertEquals("1,234.05", Money.format(123405));
+        assertEquals("1,000,000.00", Money.format(Money.ofMajor(1_000_000)));
+        assertEquals("-0.50", Money.format(-50));
+    }
+
+    @Test
+    public void applyRate_roundsHalfAwayFromZero() {
+        assertEquals(2, Money.applyRate(10, 1_500));   // 1.5 -> 2
+        assertEquals(1, Money.applyRate(9, 1_500));    // 1.35 -> 1
+        assertEquals(-2, Money.applyRate(-10, 1_500));
+    }
+
+    @Test
+    public void pricing_largeOrderHasNoDrift() {
+        // 100,000 lines of 0.10 ETB must total exactly 10,000 ETB
+        long subtotal = 0;
+        for (int i = 0; i < 100_000; i++) {
+            subtotal += Money.parse("0.10");
+        }
+        CartTotals totals = Pricing.price(subtotal);
+
+        assertEquals(Money.ofMajor(10_000), totals.getSubtotal());
+        assertEquals(0, totals.getDeliveryFee());
+        assertEquals(Money.ofMajor(1_500), totals.getTax());
+        assertEquals(Money.ofMajor(11_500), totals.getTotal());
+        assertEquals(Pricing.DELIVERY_FEE, Pricing.price(Money.ofMajor(499)).getDeliveryFee());
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.food_delivery_app;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the order SQL and bindings from DatabaseSchema on a plain JVM SQLite: keyset pages
+ * must walk the whole history exactly once and seek the (user_id, created_at) index.
+ * Checkout and paging latency are measured in the benchmark module's OrderHistoryBenchmark.
+ */
+public class OrderHistoryTest {
+
+    private static final long USER = 42;
+    private static final int PAGE_SIZE = 20;
+
+    private File databaseFile;
+    private Connection connection;
+    private PreparedStatement insertOrder;
+    private PreparedStatement insertItem;
+    private long clock = 1_700_000_000_000L;
+
+    @Before
+    public void setUp() throws Exception {
+        databaseFile = File.createTempFile("orders", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA foreign_keys=ON");
+            statement.execute(DatabaseSchema.SQL_CREATE_ORDERS);
+            statement.execute(DatabaseSchema.SQL_CREATE_ORDERS_USER_INDEX);
+            statement.execute(DatabaseSchema.SQL_CREATE_ORDER_ITEMS);
+        }
+        insertOrder = connection.prepareStatement(DatabaseSchema.SQL_INSERT_ORDER,
+                Statement.RETURN_GENERATED_KEYS);
+        insertItem = connection.prepareStatement(DatabaseSchema.SQL_INSERT_ORDER_ITEM);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        insertOrder.close();
+        insertItem.close();
+        connection.close();
+        new File(databaseFile.getPath() + "-wal").delete();
+        new File(databaseFile.getPath() + "-shm").delete();
+        databaseFile.delete();
+    }
+
+    @Test
+    public void keysetPages_returnEveryOrderOnceNewestFirst() throws Exception {
+        // Three orders per timestamp, so page boundaries fall inside ties
+        for (int i = 0; i < 1_000; i++) {
+            placeOrder(USER, 2, clock + i / 3);
+            placeOrder(USER + 1, 1, clock + i / 3);
+        }
+
+        Set<Long> seen = new HashSet<>();
+        Order last = null;
+        int pages = 0;
+        while (true) {
+            int rows = 0;
+            try (ResultSet page = historyPage(USER, last)) {
+                while (page.next()) {
+                    long id = page.getLong(1);
+                    long createdAt = page.getLong(4);
+                    assertEquals(USER, page.getLong(3));
+                    assertTrue("newest first", last == null || createdAt < last.getCreatedAt()
+                            || (createdAt == last.getCreatedAt() && id < last.getId()));
+                    assertTrue("no duplicates", seen.add(id));
+                    last = new Order(id, page.getString(2), USER, createdAt, CartTotals.EMPTY, 0);
+                    rows++;
+                }
+            }
+            if (rows == 0) {
+                break;
+            }
+            pages++;
+        }
+
+        assertEquals(1_000, seen.size());
+        assertEquals(1_000 / PAGE_SIZE, pages);
+    }
+
+    @Test
+    public void historyQueries_seekTheUserIndex() throws Exception {
+        Order last = new Order(1, "FD-00000001", USER, clock, CartTotals.EMPTY, 1);
+        for (Order after : new Order[]{null, last}) {
+            String plan = queryPlan(DatabaseSchema.orderHistorySql(after),
+                    (Object[]) DatabaseSchema.orderHistoryArgs(USER, after, PAGE_SIZE));
+            assertTrue(plan, plan.contains("SEARCH orders USING INDEX idx_orders_user_created"));
+            // Rows come off the index newest first, with no sort step
+            assertFalse(plan, plan.contains("TEMP B-TREE"));
+        }
+        assertTrue(queryPlan(DatabaseSchema.SQL_ORDER_ITEMS, 1).contains("USING"));
+    }
+
+    /**
+     * DatabaseHelper.placeOrder on this connection: one transaction, DatabaseSchema's values
+     * bound to the same two prepared inserts.
+     */
+    private void placeOrder(long userId, int lines, long createdAt) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            bind(insertOrder, DatabaseSchema.orderValues(Order.newOrderNumber(), userId, createdAt,
+                    Pricing.price(Money.ofMajor(100) * lines), lines));
+            insertOrder.executeUpdate();
+            long orderId;
+            try (ResultSet keys = insertOrder.getGeneratedKeys()) {
+                keys.next();
+                orderId = keys.getLong(1);
+            }
+            for (int line = 0; line < lines; line++) {
+                bind(insertItem, DatabaseSchema.orderItemValues(orderId, line,
+                        new CartItem("item" + line, "Item " + line, Money.ofMajor(100), 1, "")));
+                insertItem.executeUpdate();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+    }
+
+    // Bound as strings, as SQLiteDatabase.rawQuery does
+    private ResultSet historyPage(long userId, Order after) throws SQLException {
+        PreparedStatement query = connection.prepareStatement(DatabaseSchema.orderHistorySql(after));
+        String[] args = DatabaseSchema.orderHistoryArgs(userId, after, PAGE_SIZE);
+        for (int i = 0; i < args.length; i++) {
+            query.setString(i + 1, args[i]);
+        }
+        query.closeOnCompletion();
+        return query.executeQuery();
+    }
+
+    private String queryPlan(String sql, Object... args) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            for (int i = 0; i < args.length; i++) {
+                explain.setObject(i + 1, args[i]);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(4)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+}
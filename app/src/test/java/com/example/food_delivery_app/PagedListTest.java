@@ -0,0 +1,177 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PagedListTest {
+
+    private static final int PAGE_SIZE = 30;
+
+    // Loads and UI updates run only when the test drains them, like a real handler would
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor queue = tasks::add;
+
+    private final List<Restaurant> catalog = new SyntheticCatalogSource(5_000, 0).loadRestaurants();
+    private final List<Integer> requestedOffsets = new ArrayList<>();
+    private final List<String> events = new ArrayList<>();
+
+    private final PagedList.PageSource<Restaurant> source = (offset, limit) -> {
+        requestedOffsets.add(offset);
+        return new ArrayList<>(catalog.subList(Math.min(offset, catalog.size()),
+                Math.min(offset + limit, catalog.size())));
+    };
+
+    private final PagedList.Callback callback = new PagedList.Callback() {
+        @Override
+        public void onItemsInserted(int position, int count) {
+            events.add("inserted " + position + "+" + count);
+        }
+
+        @Override
+        public void onItemsChanged(int position, int count) {
+            events.add("changed " + position + "+" + count);
+        }
+    };
+
+    @Test
+    public void firstPage_thenPrefetchNearTheEnd() {
+        PagedList<Restaurant> list = newList(5);
+        list.start();
+        assertEquals(0, list.size());
+        drain();
+
+        assertEquals(PAGE_SIZE, list.size());
+        assertEquals("inserted 0+30", events.get(0));
+
+        // Well before the end: nothing more is read
+        list.get(5);
+        assertTrue(tasks.isEmpty());
+
+        // Within the prefetch distance: the next page is requested once
+        list.get(PAGE_SIZE - 10);
+        list.get(PAGE_SIZE - 5);
+        drain();
+        assertEquals(2 * PAGE_SIZE, list.size());
+        assertEquals(2, requestedOffsets.size());
+        assertSame(catalog.get(PAGE_SIZE + 3), list.get(PAGE_SIZE + 3));
+    }
+
+    @Test
+    public void scrollingThroughTheCity_keepsMemoryConstant() {
+        PagedList<Restaurant> list = newList(5);
+        list.start();
+        drain();
+
+        int maxPages = 0;
+        for (int position = 0; position < list.size() || !list.isComplete(); position++) {
+            if (position >= list.size()) {
+                drain();
+                continue;
+            }
+            Restaurant restaurant = list.get(position);
+            if (restaurant == null) {
+                drain();
+                restaurant = list.get(position);
+            }
+            assertSame(catalog.get(position), restaurant);
+            drain();
+            maxPages = Math.max(maxPages, list.getCachedPageCount());
+        }
+
+        assertEquals(catalog.size(), list.size());
+        assertTrue(list.isComplete());
+        assertTrue("cached pages " + maxPages, maxPages <= 5);
+        // Each page was read once on the way down
+        assertEquals((catalog.size() + PAGE_SIZE - 1) / PAGE_SIZE, requestedOffsets.size());
+    }
+
+    @Test
+    public void scrollingBack_rereadsDroppedPages() {
+        PagedList<Restaurant> list = newList(3);
+        list.start();
+        drain();
+        for (int position = 0; position < 10 * PAGE_SIZE; position++) {
+            list.get(position);
+            drain();
+        }
+        assertFalse(list.isLoaded(0));
+
+        events.clear();
+        assertNull(list.get(3));
+        assertNull(list.get(4));
+        drain();
+
+        assertEquals("changed 0+30", events.get(0));
+        assertSame(catalog.get(3), list.get(3));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void failedPage_isRetriedOnTheNextRead() {
+        boolean[] fail = {true};
+        PagedList<Restaurant> list = new PagedList<>((offset, limit) -> {
+            if (fail[0]) {
+                throw new IllegalStateException("store unavailable");
+            }
+            return source.loadPage(offset, limit);
+        }, PAGE_SIZE, PAGE_SIZE / 2, 5, queue, queue, callback);
+
+        list.start();
+        drain();
+        assertEquals(0, list.size());
+
+        fail[0] = false;
+        list.start();
+        drain();
+        assertEquals(PAGE_SIZE, list.size());
+    }
+
+    @Test
+    public void closedList_ignoresPagesInFlight() {
+        PagedList<Restaurant> list = newList(5);
+        list.start();
+        list.close();
+        drain();
+
+        assertEquals(0, list.size());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void shortFeed_completesOnAPartialPage() {
+        List<Restaurant> seven = catalog.subList(0, 7);
+        PagedList<Restaurant> list = new PagedList<>(
+                (offset, limit) -> new ArrayList<>(seven.subList(Math.min(offset, 7),
+                        Math.min(offset + limit, 7))),
+                PAGE_SIZE, PAGE_SIZE / 2, 5, queue, queue, callback);
+        list.start();
+        drain();
+
+        assertEquals(7, list.size());
+        assertTrue(list.isComplete());
+        list.get(6);
+        assertTrue(tasks.isEmpty());
+    }
+
+    private PagedList<Restaurant> newList(int maxPages) {
+        return new PagedList<>(source, PAGE_SIZE, PAGE_SIZE / 2, maxPages, queue, queue, callback);
+    }
+
+    private void drain() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
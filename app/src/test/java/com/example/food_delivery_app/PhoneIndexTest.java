@@ -0,0 +1,140 @@
+package com.example.food_delivery_app;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The version 3 users migration and the phone login query plan, on a plain JVM
+ * SQLite with DatabaseSchema's SQL. Lookup latency is measured in the benchmark
+ * module's PhoneLookupBenchmark.
+ */
+public class PhoneIndexTest {
+
+    private File databaseFile;
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        databaseFile = File.createTempFile("phones", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DatabaseSchema.SQL_CREATE_USERS);
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+        databaseFile.delete();
+    }
+
+    @Test
+    public void migration_normalizesDedupesAndIndexesPhones() throws Exception {
+        // Version 2 rows: signup stored '' and the debug user a raw number
+        insert("a@test.com", "");
+        insert("b@test.com", "1234567890");
+        insert("c@test.com", "0911 22 33 44");
+        insert("d@test.com", "+251-911-223344");
+        insert("e@test.com", "call me");
+        insert("f@test.com", null);
+
+        migrate();
+
+        assertNull(phoneOf("a@test.com"));
+        assertEquals("+1234567890", phoneOf("b@test.com"));
+        assertEquals("+251911223344", phoneOf("c@test.com"));
+        assertNull(phoneOf("d@test.com"));
+        assertNull(phoneOf("e@test.com"));
+        assertNull(phoneOf("f@test.com"));
+
+        try {
+            insert("g@test.com", "+251911223344");
+            fail("phone index should be unique");
+        } catch (SQLException expected) {
+            // UNIQUE constraint failed: users.phone
+        }
+    }
+
+    @Test
+    public void phoneLogin_seeksThePhoneIndex() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DatabaseSchema.SQL_CREATE_USERS_PHONE_INDEX);
+        }
+
+        try (PreparedStatement plan = connection.prepareStatement(
+                "EXPLAIN QUERY PLAN " + DatabaseSchema.SQL_LOGIN_BY_PHONE)) {
+            plan.setString(1, "+251911223344");
+            try (ResultSet result = plan.executeQuery()) {
+                assertTrue(result.next());
+                String detail = result.getString(4);
+                assertTrue(detail, detail.contains("USING INDEX idx_users_phone"));
+            }
+        }
+    }
+
+    /**
+     * DatabaseHelper.indexPhoneNumbers on this connection: read every row, let
+     * PhoneNumbers decide the stored phones, then write back the ones that changed.
+     */
+    private void migrate() throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        List<String> stored = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(DatabaseSchema.SQL_SELECT_PHONES);
+             ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+                stored.add(rows.getString(2));
+            }
+        }
+
+        String[] phones = PhoneNumbers.canonicalForUniqueIndex(stored.toArray(new String[0]));
+        try (PreparedStatement update = connection.prepareStatement(DatabaseSchema.SQL_UPDATE_PHONE)) {
+            for (int i = 0; i < phones.length; i++) {
+                if (phones[i] != null && phones[i].equals(stored.get(i))) {
+                    continue;
+                }
+                update.setString(1, phones[i]);
+                update.setLong(2, ids.get(i));
+                update.executeUpdate();
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DatabaseSchema.SQL_CREATE_USERS_PHONE_INDEX);
+        }
+    }
+
+    private void insert(String email, String phone) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (full_name, email, phone, password) VALUES ('x', ?, ?, 'secret')")) {
+            insert.setString(1, email);
+            insert.setString(2, phone);
+            insert.executeUpdate();
+        }
+    }
+
+    private String phoneOf(String email) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(DatabaseSchema.SQL_USER_BY_EMAIL)) {
+            query.setString(1, email);
+            try (ResultSet result = query.executeQuery()) {
+                assertTrue(result.next());
+                return result.getString(4);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PhoneNumbersTest {
+
+    @Test
+    public void localAndInternationalSpellings_shareOneCanonicalForm() {
+        String canonical = "+251911223344";
+        assertEquals(canonical, PhoneNumbers.normalize("0911223344"));
+        assertEquals(canonical, PhoneNumbers.normalize("0911 22 33 44"));
+        assertEquals(canonical, PhoneNumbers.normalize("911223344"));
+        assertEquals(canonical, PhoneNumbers.normalize("+251 911 223 344"));
+        assertEquals(canonical, PhoneNumbers.normalize("+251-911-223344"));
+        assertEquals(canonical, PhoneNumbers.normalize("00251911223344"));
+        assertEquals(canonical, PhoneNumbers.normalize("251911223344"));
+        assertEquals(canonical, PhoneNumbers.normalize("(091) 122.3344"));
+    }
+
+    @Test
+    public void otherCountries_keepTheirCode() {
+        assertEquals("+14155550123", PhoneNumbers.normalize("+1 (415) 555-0123"));
+        assertEquals("+1234567890", PhoneNumbers.normalize("1234567890"));
+    }
+
+    @Test
+    public void nonNumbers_areRejected() {
+        assertNull(PhoneNumbers.normalize(null));
+        assertNull(PhoneNumbers.normalize(""));
+        assertNull(PhoneNumbers.normalize("test@test.com"));
+        assertNull(PhoneNumbers.normalize("12345"));
+        assertNull(PhoneNumbers.normalize("+0911223344"));
+        assertNull(PhoneNumbers.normalize("09112233x4"));
+        assertNull(PhoneNumbers.normalize("+251+911223344"));
+        assertNull(PhoneNumbers.normalize("+1234567890123456"));
+    }
+
+    @Test
+    public void uniqueIndexMigration_keepsTheOldestAccountsNumber() {
+        String[] stored = {"", "1234567890", "0911 22 33 44", "+251-911-223344", "call me",
+                "+251911223344", "+14155550123"};
+
+        assertArrayEquals(new String[]{null, "+1234567890", "+251911223344", null, null, null,
+                "+14155550123"}, PhoneNumbers.canonicalForUniqueIndex(stored));
+    }
+}
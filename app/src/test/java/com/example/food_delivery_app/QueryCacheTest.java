@@ -0,0 +1,89 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Result caching by normalized query and catalog version, and the entry and
+ * memory bounds. The saving is measured in the benchmark module's SearchBenchmark.
+ */
+public class QueryCacheTest {
+
+    @Test
+    public void repeatedQuery_isServedFromTheCache() {
+        QueryCache cache = new QueryCache(QueryCache.MAX_ENTRIES, QueryCache.MAX_BYTES);
+        SearchEngine engine = new SearchEngine(new CatalogSnapshot(1,
+                new SampleCatalogSource().loadRestaurants()), cache);
+        long hits = QueryCache.hits().get();
+        long misses = QueryCache.misses().get();
+
+        List<MenuItem> first = engine.searchDishes("pizza", 10);
+        List<MenuItem> again = engine.searchDishes("  PIZZA ", 10);
+
+        assertEquals(first, again);
+        assertEquals(hits + 1, QueryCache.hits().get());
+        assertEquals(misses + 1, QueryCache.misses().get());
+
+        // A different limit or kind of search is a different entry
+        engine.searchDishes("pizza", 5);
+        engine.searchDishes("pizza");
+        engine.searchRestaurants("pizza", 10);
+        assertEquals(hits + 1, QueryCache.hits().get());
+        assertEquals(4, cache.count());
+    }
+
+    @Test
+    public void newCatalogVersion_neverSeesOldResults() {
+        QueryCache cache = new QueryCache(QueryCache.MAX_ENTRIES, QueryCache.MAX_BYTES);
+        List<Restaurant> restaurants = new SampleCatalogSource().loadRestaurants();
+        SearchEngine v1 = new SearchEngine(new CatalogSnapshot(1, restaurants), cache);
+        SearchEngine v2 = new SearchEngine(new CatalogSnapshot(2,
+                restaurants.subList(0, 1)), cache);
+
+        int before = v1.searchRestaurants("a").size();
+        assertTrue(before > 1);
+        assertEquals(1, v2.searchRestaurants("a").size());
+        assertEquals(before, v1.searchRestaurants("a").size());
+        assertNotNull(cache.get(1, "restaurants", "a", -1));
+        assertNotNull(cache.get(2, "restaurants", "a", -1));
+        assertNull(cache.get(3, "restaurants", "a", -1));
+    }
+
+    @Test
+    public void entryBound_evictsTheLeastRecentlyUsed() {
+        QueryCache cache = new QueryCache(3, QueryCache.MAX_BYTES);
+        int[] ids = {1, 2, 3};
+        cache.put(1, "dishes", "a", 10, ids);
+        cache.put(1, "dishes", "b", 10, ids);
+        cache.put(1, "dishes", "c", 10, ids);
+        assertSame(ids, cache.get(1, "dishes", "a", 10));
+
+        cache.put(1, "dishes", "d", 10, ids);
+
+        assertEquals(3, cache.count());
+        assertNull(cache.get(1, "dishes", "b", 10));
+        assertSame(ids, cache.get(1, "dishes", "a", 10));
+    }
+
+    @Test
+    public void memoryBound_limitsTheHeldIds() {
+        QueryCache cache = new QueryCache(100, 4_000);
+
+        cache.put(1, "dishes", "huge", 5_000, new int[5_000]);
+        assertNull(cache.get(1, "dishes", "huge", 5_000));
+
+        for (int i = 0; i < 20; i++) {
+            cache.put(1, "dishes", "q" + i, 200, new int[200]);
+        }
+        assertTrue(cache.sizeInBytes() <= 4_000);
+        assertTrue(cache.count() < 20);
+        assertNotNull(cache.get(1, "dishes", "q19", 200));
+    }
+}
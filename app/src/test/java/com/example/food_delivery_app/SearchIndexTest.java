@@ -0,0 +1,65 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Correctness of the inverted index against a linear scan. Latency is measured
+ * in the benchmark module's SearchBenchmark.
+ */
+public class SearchIndexTest {
+
+    @Test
+    public void sampleCatalog_matchesSubstringScan() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(1, new SampleCatalogSource().loadRestaurants());
+        SearchEngine engine = new SearchEngine(snapshot);
+
+        String[] queries = {"pizza", "chicken burger", "Italian", "juice", "sushi", "xyz", "Burg"};
+        for (String query : queries) {
+            assertEquals(query, scanDishes(snapshot, query), engine.searchDishes(query));
+        }
+    }
+
+    @Test
+    public void shortQuery_matchesWordPrefix() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(1, new SampleCatalogSource().loadRestaurants());
+        SearchEngine engine = new SearchEngine(snapshot);
+
+        for (MenuItem dish : engine.searchDishes("sa")) {
+            String text = TextNormalizer.normalize(dish.getName() + " " + dish.getDescription()
+                    + " " + dish.getTags());
+            assertTrue(dish.getName(), text.startsWith("sa") || text.contains(" sa"));
+        }
+        assertEquals(snapshot.getRestaurants().size(), engine.searchRestaurants("").size());
+    }
+
+    @Test
+    public void syntheticCatalog_matchesSubstringScan() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(1,
+                new SyntheticCatalogSource(20, 50).loadRestaurants());
+        SearchEngine engine = new SearchEngine(snapshot);
+
+        String[] queries = {"smoky pizza 42", "avocado", "crispy sushi", "mango", "fiery"};
+        for (String query : queries) {
+            assertEquals(query, scanDishes(snapshot, query), engine.searchDishes(query));
+        }
+    }
+
+    private static List<MenuItem> scanDishes(CatalogSnapshot snapshot, String query) {
+        String normalized = TextNormalizer.normalize(query);
+        List<MenuItem> results = new ArrayList<>();
+        for (MenuItem dish : snapshot.getMenuItems()) {
+            if (TextNormalizer.normalize(dish.getName()).contains(normalized)
+                    || TextNormalizer.normalize(dish.getDescription()).contains(normalized)
+                    || TextNormalizer.normalize(dish.getTags()).contains(normalized)) {
+                results.add(dish);
+            }
+        }
+        return results;
+    }
+}
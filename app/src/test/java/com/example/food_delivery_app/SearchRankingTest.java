@@ -0,0 +1,138 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Field-weighted BM25 ranking and the bounded heap that picks the top k.
+ */
+public class SearchRankingTest {
+
+    // name, description, tags, as SearchEngine indexes dishes
+    private static final float[] DISH_WEIGHTS = {3f, 1f, 1.5f};
+
+    @Test
+    public void topK_matchesAFullSort() {
+        Random random = new Random(9);
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(300);
+            int k = random.nextInt(40);
+            float[] scores = new float[n];
+            TopK top = new TopK(k);
+            for (int id = 0; id < n; id++) {
+                // Few distinct scores, so ties are common
+                scores[id] = random.nextInt(20);
+                top.offer(id, scores[id]);
+            }
+
+            Integer[] all = new Integer[n];
+            for (int id = 0; id < n; id++) {
+                all[id] = id;
+            }
+            Arrays.sort(all, (a, b) -> scores[a] != scores[b]
+                    ? Float.compare(scores[b], scores[a]) : Integer.compare(a, b));
+            int[] expected = new int[Math.min(k, n)];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = all[i];
+            }
+
+            assertArrayEquals(expected, top.toSortedIds());
+            assertArrayEquals(expected, top.toSortedIds());
+        }
+    }
+
+    @Test
+    public void nameHit_outranksTagAndDescriptionHits() {
+        SearchIndex<String> index = dishIndex(
+                new String[]{"Veggie Wrap", "Comes with a burger sauce", "Healthy"},
+                new String[]{"Chicken Burger", "Grilled chicken", "Fast Food"},
+                new String[]{"Fries", "Crispy potatoes", "Burger, Sides"});
+
+        assertEquals(Arrays.asList("Chicken Burger", "Fries", "Veggie Wrap"),
+                names(index, index.searchTopIds("burger", 10)));
+    }
+
+    @Test
+    public void shortFieldsAndRareWords_rankHigher() {
+        SearchIndex<String> index = dishIndex(
+                new String[]{"Double Stacked Cheese Bacon Burger Deluxe", "", ""},
+                new String[]{"Burger", "", ""},
+                new String[]{"Classic Burger", "", ""},
+                new String[]{"Classic Spicy Burger", "", ""});
+
+        assertEquals("Burger", names(index, index.searchTopIds("burger", 1)).get(0));
+
+        // "spicy" is rare, so the only document with it wins despite its length
+        List<String> spicy = names(index, index.searchTopIds("spicy burger", 3));
+        assertEquals("Classic Spicy Burger", spicy.get(0));
+    }
+
+    @Test
+    public void emptyName_keepsLaterFieldsInPlace() {
+        SearchIndex<String> index = dishIndex(
+                new String[]{"", "burger", ""},
+                new String[]{"Fries", "", "burger"});
+
+        // A tag hit outweighs a description hit; an unnamed dish must not score as a name hit
+        assertEquals(Arrays.asList("Fries", ""), names(index, index.searchTopIds("burger", 10)));
+    }
+
+    @Test
+    public void topIds_areTheBestOfTheExactMatches() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(1,
+                new SyntheticCatalogSource(100, 50).loadRestaurants());
+        SearchEngine engine = new SearchEngine(snapshot);
+        SearchIndex<MenuItem> dishes = engine.getDishIndex();
+
+        for (String query : new String[]{"pizza", "smoky", "avocado", "crispy sushi", "ca"}) {
+            int[] matches = dishes.searchIds(query);
+            int[] top = dishes.searchTopIds(query, 20);
+            assertEquals(query, Math.min(20, matches.length), top.length);
+
+            Set<Integer> matchSet = new HashSet<>();
+            for (int id : matches) {
+                matchSet.add(id);
+            }
+            for (int id : top) {
+                assertTrue(query, matchSet.contains(id));
+            }
+
+            // The ranked prefix does not depend on how many results are asked for
+            int[] five = dishes.searchTopIds(query, 5);
+            assertArrayEquals(query, Arrays.copyOf(top, five.length), five);
+        }
+
+        assertEquals(10, engine.searchDishes("pizza", 10).size());
+        assertEquals("Pasta Carbonara", new SearchEngine(
+                new CatalogSnapshot(1, new SampleCatalogSource().loadRestaurants()))
+                .searchDishes("carbonarra", 5).get(0).getName());
+    }
+
+    private static SearchIndex<String> dishIndex(String[]... dishes) {
+        List<String> names = new ArrayList<>();
+        List<String[]> fields = new ArrayList<>();
+        for (String[] dish : dishes) {
+            names.add(dish[0]);
+            fields.add(dish);
+        }
+        return new SearchIndex<>(names, fields, DISH_WEIGHTS);
+    }
+
+    private static List<String> names(SearchIndex<String> index, int[] ids) {
+        List<String> names = new ArrayList<>();
+        for (int id : ids) {
+            names.add(index.get(id));
+        }
+        return names;
+    }
+}
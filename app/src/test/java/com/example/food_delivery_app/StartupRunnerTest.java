@@ -0,0 +1,96 @@
+package com.example.food_delivery_app;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StartupRunnerTest {
+
+    @Test
+    public void phasesRunInOrder_andIdleWaitsForFirstFrame() {
+        List<Runnable> deferredQueue = new ArrayList<>();
+        List<Runnable> idleQueue = new ArrayList<>();
+        List<String> ran = new ArrayList<>();
+        StartupTrace trace = new StartupTrace(System.nanoTime());
+
+        StartupRunner runner = new StartupRunner(trace, deferredQueue::add, idleQueue::add)
+                .add(StartupTrace.Phase.IDLE, "idle", () -> ran.add("idle"))
+                .add(StartupTrace.Phase.DEFERRED, "deferred", () -> ran.add("deferred"))
+                .add(StartupTrace.Phase.CRITICAL, "critical", () -> ran.add("critical"));
+
+        runner.start();
+        assertEquals(Collections.singletonList("critical"), ran);
+        assertEquals(-1, trace.getPhaseNanos(StartupTrace.Phase.DEFERRED));
+
+        deferredQueue.remove(0).run();
+        assertTrue(idleQueue.isEmpty());
+        assertEquals(-1, trace.getTimeToFirstFrameNanos());
+
+        runner.onFirstFrame();
+        runner.onFirstFrame();
+        assertEquals(1, idleQueue.size());
+        assertTrue(trace.getTimeToFirstFrameNanos() >= 0);
+        idleQueue.remove(0).run();
+
+        assertEquals(3, ran.size());
+        assertEquals("idle", ran.get(2));
+        for (StartupTrace.Phase phase : StartupTrace.Phase.values()) {
+            assertTrue(trace.getPhaseNanos(phase) >= 0);
+        }
+    }
+
+    @Test
+    public void failingTask_isTimedAndDoesNotStopThePhase() {
+        StartupTrace trace = new StartupTrace(System.nanoTime());
+        List<String> ran = new ArrayList<>();
+
+        new StartupRunner(trace, Runnable::run, Runnable::run)
+                .add(StartupTrace.Phase.CRITICAL, "broken", () -> {
+                    throw new IllegalStateException("no disk");
+                })
+                .add(StartupTrace.Phase.CRITICAL, "next", () -> ran.add("next"))
+                .start();
+
+        assertEquals(Collections.singletonList("next"), ran);
+        List<StartupTrace.Span> spans = trace.getSpans();
+        assertEquals("broken", spans.get(0).getName());
+        assertEquals(StartupTrace.Phase.CRITICAL, spans.get(0).getPhase());
+        assertEquals("next", spans.get(1).getName());
+    }
+
+    @Test
+    public void heavyWork_runsAfterTheCriticalPhase() throws Exception {
+        StartupTrace trace = new StartupTrace(System.nanoTime());
+        ExecutorService background = Executors.newSingleThreadExecutor();
+        CatalogRepository catalog = new CatalogRepository(new SyntheticCatalogSource(200, 50));
+
+        // Same split as FoodDeliveryApplication, minus the Android-only tasks
+        StartupRunner runner = new StartupRunner(trace, background, background)
+                .add(StartupTrace.Phase.CRITICAL, "executors", () -> { })
+                .add(StartupTrace.Phase.DEFERRED, "catalog", catalog::getSnapshot)
+                .add(StartupTrace.Phase.IDLE, "search-index",
+                        () -> SearchEngine.forSnapshot(catalog.getSnapshot()))
+                .add(StartupTrace.Phase.IDLE, "eta-matrix",
+                        () -> new EtaEstimator(AddisRoadNetwork.createGraph()));
+        runner.start();
+        runner.onFirstFrame();
+        background.shutdown();
+        assertTrue(background.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<String> phases = new ArrayList<>();
+        for (StartupTrace.Span span : trace.getSpans()) {
+            phases.add(span.getPhase() + " " + span.getName());
+        }
+        assertEquals(Arrays.asList("CRITICAL executors", "DEFERRED catalog",
+                "IDLE search-index", "IDLE eta-matrix"), phases);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.food_delivery_app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a large, deterministic catalog for tests and benchmarks.
+ */
+public class SyntheticCatalogSource implements CatalogSource {
+
+    private static final String[] ADJECTIVES = {
+            "Spicy", "Classic", "Crispy", "Grilled", "Smoky", "Creamy", "Fresh", "Double",
+            "Golden", "Roasted", "Sweet", "Tangy", "Royal", "Rustic", "Garden", "Fiery"
+    };
+    private static final String[] DISHES = {
+            "Burger", "Pizza", "Pasta", "Sushi", "Salad", "Wrap", "Taco", "Curry",
+            "Noodles", "Sandwich", "Soup", "Steak", "Smoothie", "Juice", "Cake", "Roll"
+    };
+    private static final String[] INGREDIENTS = {
+            "cheese", "chicken", "beef", "tomato", "basil", "avocado", "mushroom", "onion",
+            "pepper", "salmon", "tuna", "mango", "garlic", "lettuce", "bacon", "spinach"
+    };
+    private static final String[] CATEGORIES = {"pizza", "burger", "drinks"};
+    private static final String[] TAGS = {
+            "Pizza", "Burger", "Italian", "Fast Food", "Japanese", "Healthy", "Drinks",
+            "Dessert", "Chicken", "Seafood", "Vegetarian", "American"
+    };
+
+    private final int restaurantCount;
+    private final int itemsPerRestaurant;
+    private final long seed;
+
+    public SyntheticCatalogSource(int restaurantCount, int itemsPerRestaurant) {
+        this(restaurantCount, itemsPerRestaurant, 42L);
+    }
+
+    public SyntheticCatalogSource(int restaurantCount, int itemsPerRestaurant, long seed) {
+        this.restaurantCount = restaurantCount;
+        this.itemsPerRestaurant = itemsPerRestaurant;
+        this.seed = seed;
+    }
+
+    @Override
+    public List<Restaurant> loadRestaurants() {
+        Random random = new Random(seed);
+        List<Restaurant> restaurants = new ArrayList<>(restaurantCount);
+
+        for (int r = 0; r < restaurantCount; r++) {
+            String restaurantId = "r" + r;
+            List<MenuItem> items = new ArrayList<>(itemsPerRestaurant);
+
+            for (int i = 0; i < itemsPerRestaurant; i++) {
+                String name = pick(random, ADJECTIVES) + " " + pick(random, DISHES) + " " + i;
+                String description = "Made with " + pick(random, INGREDIENTS) + ", "
+                        + pick(random, INGREDIENTS) + " and " + pick(random, INGREDIENTS);
+                long price = Money.ofMajor(50 + random.nextInt(600));
+                items.add(new MenuItem(restaurantId + "_" + i, restaurantId, name, description,
+                        price, pick(random, CATEGORIES), "🍽️",
+                        pick(random, TAGS) + ", " + pick(random, TAGS)));
+            }
+
+            restaurants.add(new Restaurant(restaurantId,
+                    pick(random, ADJECTIVES) + " " + pick(random, DISHES) + " House " + r,
+                    pick(random, TAGS) + ", " + pick(random, TAGS) + ", " + pick(random, TAGS),
+                    "★★★★☆(4.0)", pick(random, DISHES), "20 min", "300 ETB",
+                    new GeoPoint(8.98 + random.nextDouble() * 0.06,
+                            38.72 + random.nextDouble() * 0.09),
+                    items));
+        }
+
+        return restaurants;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
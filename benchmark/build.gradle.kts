@@ -0,0 +1,82 @@
+// Pure-JVM JMH benchmarks for the app's core logic.
+// Run with: ./gradlew :benchmark:jmh
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// The app module is an Android module, so the plain-Java core classes are
+// compiled straight from its sources instead of depending on it.
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            srcDir("../app/src/test/java")
+            include(
+                "com/example/food_delivery_app/AddisRoadNetwork.java",
+                "com/example/food_delivery_app/BinaryCatalog.java",
+                "com/example/food_delivery_app/BinaryCatalogSource.java",
+                "com/example/food_delivery_app/CartChange.java",
+                "com/example/food_delivery_app/CartItem.java",
+                "com/example/food_delivery_app/CartManager.java",
+                "com/example/food_delivery_app/CartStore.java",
+                "com/example/food_delivery_app/CartTotals.java",
+                "com/example/food_delivery_app/CatalogRepository.java",
+                "com/example/food_delivery_app/CatalogSnapshot.java",
+                "com/example/food_delivery_app/CatalogSource.java",
+                "com/example/food_delivery_app/CompletionTrie.java",
+                "com/example/food_delivery_app/Counter.java",
+                "com/example/food_delivery_app/DatabaseSchema.java",
+                "com/example/food_delivery_app/EtaEstimator.java",
+                "com/example/food_delivery_app/FacetIndex.java",
+                "com/example/food_delivery_app/FuzzyIndex.java",
+                "com/example/food_delivery_app/GeoPoint.java",
+                "com/example/food_delivery_app/LatencyHistogram.java",
+                "com/example/food_delivery_app/LiveFilter.java",
+                "com/example/food_delivery_app/MemoryCache.java",
+                "com/example/food_delivery_app/MenuItem.java",
+                "com/example/food_delivery_app/MetricsRegistry.java",
+                "com/example/food_delivery_app/Money.java",
+                "com/example/food_delivery_app/Order.java",
+                "com/example/food_delivery_app/PhoneNumbers.java",
+                "com/example/food_delivery_app/Pricing.java",
+                "com/example/food_delivery_app/QueryCache.java",
+                "com/example/food_delivery_app/Restaurant.java",
+                "com/example/food_delivery_app/RestaurantStore.java",
+                "com/example/food_delivery_app/RoadGraph.java",
+                "com/example/food_delivery_app/SampleCatalogSource.java",
+                "com/example/food_delivery_app/SearchEngine.java",
+                "com/example/food_delivery_app/SearchIndex.java",
+                "com/example/food_delivery_app/SyntheticCatalogSource.java",
+                "com/example/food_delivery_app/TextNormalizer.java",
+                "com/example/food_delivery_app/TopK.java"
+            )
+        }
+    }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+dependencies {
+    jmh(libs.jmh.core)
+    // Phone and order lookups run against a plain JVM SQLite
+    jmh(libs.sqlite.jdbc)
+    jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // Reports allocation rate (gc.alloc.rate.norm) next to throughput
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,83 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The memory-mapped catalog file at 100k dishes against building the object
+ * catalog. Run with the gc profiler: opening and scanning the file should
+ * allocate almost nothing per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryCatalogBenchmark {
+
+    private static final int RESTAURANTS = 1_000;
+    private static final int ITEMS_PER_RESTAURANT = 100;
+
+    private File file;
+    private CatalogSource source;
+    private BinaryCatalog catalog;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        source = new SyntheticCatalogSource(RESTAURANTS, ITEMS_PER_RESTAURANT);
+        file = File.createTempFile("catalog", ".bin");
+        BinaryCatalog.write(source.loadRestaurants(), 1, file);
+        catalog = BinaryCatalog.open(file);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public BinaryCatalog open() throws IOException {
+        return BinaryCatalog.open(file);
+    }
+
+    @Benchmark
+    public long priceScan() {
+        long total = 0;
+        for (int r = 0; r < catalog.getRestaurantCount(); r++) {
+            int first = catalog.getFirstItem(r);
+            for (int item = first; item < first + catalog.getMenuSize(r); item++) {
+                total += catalog.getItemPrice(item);
+            }
+        }
+        return total;
+    }
+
+    // What startup does: restaurant records only, menus stay in the file
+    @Benchmark
+    public List<Restaurant> loadRestaurants() {
+        return new BinaryCatalogSource(file, source, 1).loadRestaurants();
+    }
+
+    // What opening a restaurant does
+    @Benchmark
+    public List<MenuItem> openMenu() {
+        cursor = (cursor + 1) % RESTAURANTS;
+        return catalog.toMenu(cursor);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Restaurant> objectCatalog() {
+        return source.loadRestaurants();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CartManager add / update / total at different cart sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int cartSize;
+
+    private CartManager cart;
+    private CartItem[] items;
+    private int cursor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        cart = new CartManager();
+
+        items = new CartItem[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            items[i] = new CartItem("item" + i, "Item " + i, Money.ofMajor(10 + i % 500), 1, "");
+            cart.addItem(items[i]);
+        }
+    }
+
+    private CartItem next() {
+        cursor = (cursor + 1) % cartSize;
+        return items[cursor];
+    }
+
+    @Benchmark
+    public CartManager addExisting() {
+        cart.addItem(next());
+        return cart;
+    }
+
+    @Benchmark
+    public CartManager updateQuantity() {
+        CartItem item = next();
+        cart.updateQuantity(item.getId(), 1 + (cursor & 3));
+        return cart;
+    }
+
+    @Benchmark
+    public CartManager removeAndAdd() {
+        CartItem item = next();
+        cart.removeItem(item.getId());
+        cart.addItem(item);
+        return cart;
+    }
+
+    @Benchmark
+    public long total() {
+        return cart.calculateTotal();
+    }
+
+    @Benchmark
+    public int snapshotAfterUpdate() {
+        cart.increaseQuantity(next().getId());
+        return cart.getCartItems().size();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing CartItem.getTotalPrice over carts of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartItemBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int cartSize;
+
+    private CartItem[] items;
+
+    @Setup
+    public void setUp() {
+        items = new CartItem[cartSize];
+        for (int i = 0; i < cartSize; i++) {
+            items[i] = new CartItem("item" + i, "Item " + i, Money.parse((10 + i % 500) + ".50"),
+                    1 + i % 5, "");
+        }
+    }
+
+    @Benchmark
+    public long sumTotalPrices() {
+        long sum = 0;
+        for (CartItem item : items) {
+            sum += item.getTotalPrice();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search box suggestions: one lookup per keystroke, and building the trie for
+ * a new catalog snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompletionBenchmark {
+
+    private static final String[] PREFIXES = {
+            "s", "sp", "spi", "spicy b", "pizza", "crispy ta", "g", "roll"
+    };
+
+    @Param({"1000", "100000"})
+    public int dishCount;
+
+    private CatalogSnapshot snapshot;
+    private CompletionTrie trie;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        int restaurants = Math.max(1, dishCount / 20);
+        snapshot = new CatalogSnapshot(1,
+                new SyntheticCatalogSource(restaurants, dishCount / restaurants).loadRestaurants());
+        trie = CompletionTrie.forCatalog(snapshot);
+    }
+
+    @Benchmark
+    public List<String> complete() {
+        cursor = (cursor + 1) % PREFIXES.length;
+        return trie.complete(PREFIXES[cursor]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public CompletionTrie build() {
+        return CompletionTrie.forCatalog(snapshot);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login lookups on a plain JVM SQLite with DatabaseSchema's SQL: the old pattern
+ * of opening, querying and closing on every call against the long-lived WAL
+ * connection with a precompiled statement that DatabaseHelper uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatabaseLookupBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private File databaseFile;
+    private String url;
+    private Connection connection;
+    private PreparedStatement authenticate;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        databaseFile = File.createTempFile("lookup", ".db");
+        url = "jdbc:sqlite:" + databaseFile.getAbsolutePath();
+        connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute(DatabaseSchema.SQL_CREATE_USERS);
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (full_name, email, phone, password) VALUES (?, ?, '', ?)")) {
+            for (int i = 0; i < USERS; i++) {
+                insert.setString(1, "User " + i);
+                insert.setString(2, "user" + i + "@test.com");
+                insert.setString(3, "secret" + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        authenticate = connection.prepareStatement(DatabaseSchema.SQL_AUTHENTICATE);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        authenticate.close();
+        connection.close();
+        new File(databaseFile.getPath() + "-wal").delete();
+        new File(databaseFile.getPath() + "-shm").delete();
+        databaseFile.delete();
+    }
+
+    // The old DatabaseHelper pattern
+    @Benchmark
+    public long openPerLookup() throws SQLException {
+        try (Connection perCall = DriverManager.getConnection(url);
+             PreparedStatement query = perCall.prepareStatement(DatabaseSchema.SQL_AUTHENTICATE)) {
+            return authenticate(query);
+        }
+    }
+
+    @Benchmark
+    public long longLived() throws SQLException {
+        return authenticate(authenticate);
+    }
+
+    private long authenticate(PreparedStatement query) throws SQLException {
+        cursor = (cursor + 7_919) % USERS;
+        query.setString(1, "user" + cursor + "@test.com");
+        query.setString(2, "secret" + cursor);
+        try (ResultSet result = query.executeQuery()) {
+            return result.next() ? result.getLong(1) : -1;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ETA estimates on one thread; the target is at least 10k per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class EtaBenchmark {
+
+    private EtaEstimator estimator;
+    private GeoPoint[] points;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        estimator = new EtaEstimator(AddisRoadNetwork.createGraph());
+
+        Random random = new Random(1);
+        points = new GeoPoint[1024];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new GeoPoint(8.98 + random.nextDouble() * 0.06,
+                    38.72 + random.nextDouble() * 0.12);
+        }
+    }
+
+    @Benchmark
+    public int estimate() {
+        cursor = (cursor + 1) & 1023;
+        return estimator.estimateSeconds(points[cursor], points[(cursor * 31 + 7) & 1023]);
+    }
+
+    // A lookup for zones that are already known, e.g. a restaurant's cached zone
+    @Benchmark
+    public int matrixLookup() {
+        cursor = (cursor + 1) & 1023;
+        return estimator.travelSeconds(cursor & 15, (cursor >> 4) & 15);
+    }
+
+    @Benchmark
+    public EtaEstimator buildMatrix() {
+        return new EtaEstimator(AddisRoadNetwork.createGraph());
+    }
+}
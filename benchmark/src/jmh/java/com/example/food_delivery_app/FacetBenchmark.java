@@ -0,0 +1,87 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The restaurant list's category filter: facet bitset matching and counting
+ * against the substring scan over tags it replaced, at different list sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacetBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int restaurantCount;
+
+    @Param({"1", "2"})
+    public int selectedCount;
+
+    private FacetIndex index;
+    private FacetIndex.Selection selection;
+    private String[] lowerTags;
+    private String[] picked;
+    private boolean[] visible;
+
+    @Setup
+    public void setUp() {
+        List<Restaurant> restaurants =
+                new SyntheticCatalogSource(restaurantCount, 0).loadRestaurants();
+        index = FacetIndex.forRestaurants(restaurants);
+
+        lowerTags = new String[restaurants.size()];
+        for (int i = 0; i < lowerTags.length; i++) {
+            lowerTags[i] = restaurants.get(i).getTags().toLowerCase();
+        }
+
+        picked = new String[selectedCount];
+        selection = index.newSelection();
+        for (int i = 0; i < selectedCount; i++) {
+            picked[i] = index.getFacetName(i).toLowerCase();
+            selection.toggle(i);
+        }
+
+        visible = new boolean[index.size()];
+        Arrays.fill(visible, true);
+    }
+
+    @Benchmark
+    public boolean[] matchAll() {
+        return index.match(selection, FacetIndex.Mode.ALL);
+    }
+
+    @Benchmark
+    public boolean[] matchAny() {
+        return index.match(selection, FacetIndex.Mode.ANY);
+    }
+
+    @Benchmark
+    public boolean[] substringScan() {
+        boolean[] matches = new boolean[lowerTags.length];
+        for (int row = 0; row < lowerTags.length; row++) {
+            boolean all = true;
+            for (String tag : picked) {
+                all &= lowerTags[row].contains(tag);
+            }
+            matches[row] = all;
+        }
+        return matches;
+    }
+
+    // Per-category counts shown on the chips, recounted from scratch
+    @Benchmark
+    public FacetIndex.Counts count() {
+        return index.count(visible);
+    }
+}
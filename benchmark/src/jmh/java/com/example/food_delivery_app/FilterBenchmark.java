@@ -0,0 +1,61 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The restaurant list's live filter matching, at different list sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int restaurantCount;
+
+    @Param({"p", "pizza", "fast food"})
+    public String query;
+
+    private ScheduledExecutorService worker;
+    private LiveFilter filter;
+
+    @Setup
+    public void setUp() {
+        List<Restaurant> restaurants =
+                new SyntheticCatalogSource(restaurantCount, 0).loadRestaurants();
+
+        String[] keys = new String[restaurants.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Restaurant restaurant = restaurants.get(i);
+            keys[i] = TextNormalizer.normalize(restaurant.getName()) + "\n"
+                    + TextNormalizer.normalize(restaurant.getTags());
+        }
+
+        worker = Executors.newSingleThreadScheduledExecutor();
+        filter = new LiveFilter(keys, 0, worker, Runnable::run, (shown, hidden) -> { });
+    }
+
+    @TearDown
+    public void tearDown() {
+        filter.cancel();
+        worker.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean[] match() {
+        return filter.matches(query);
+    }
+}
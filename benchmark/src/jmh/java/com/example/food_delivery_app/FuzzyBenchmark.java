@@ -0,0 +1,95 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typo-tolerant name matching on random names with a large vocabulary, where
+ * the trigram filter has the most words to rule out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzyBenchmark {
+
+    private static final String[] SYLLABLES = ("ba be bi bo ka ke ki ko la le li lo ma me mi mo"
+            + " na ne ni no pa pe pi po ra re ri ro sa se si so ta te ti to za ze zi zo").split(" ");
+
+    @Param({"1000", "10000", "100000"})
+    public int nameCount;
+
+    private List<String> names;
+    private FuzzyIndex index;
+    private String[] queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        names = new ArrayList<>(nameCount);
+        for (int i = 0; i < nameCount; i++) {
+            names.add(randomName(random));
+        }
+        index = new FuzzyIndex(names);
+
+        // Two misspelled words of an existing name
+        queries = new String[256];
+        for (int i = 0; i < queries.length; i++) {
+            String[] words = names.get(random.nextInt(names.size())).split(" ");
+            queries[i] = typo(random, words[0]) + " " + typo(random, words[1]);
+        }
+    }
+
+    @Benchmark
+    public int[] search() {
+        cursor = (cursor + 1) & 255;
+        return index.searchIds(queries[cursor]);
+    }
+
+    @Benchmark
+    public FuzzyIndex build() {
+        return new FuzzyIndex(names);
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int words = 2 + random.nextInt(2);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                name.append(' ');
+            }
+            int length = 2 + random.nextInt(3);
+            for (int s = 0; s < length; s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        return name.toString();
+    }
+
+    private static String typo(Random random, String word) {
+        StringBuilder typo = new StringBuilder(word);
+        int position = random.nextInt(typo.length());
+        switch (random.nextInt(3)) {
+            case 0:
+                typo.deleteCharAt(position);
+                break;
+            case 1:
+                typo.insert(position, (char) ('a' + random.nextInt(26)));
+                break;
+            default:
+                typo.setCharAt(position, (char) ('a' + random.nextInt(26)));
+        }
+        return typo.toString();
+    }
+}
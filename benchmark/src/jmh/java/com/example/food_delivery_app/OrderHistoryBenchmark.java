@@ -0,0 +1,147 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkout and order history pages on a plain JVM SQLite with DatabaseSchema's SQL,
+ * at different history lengths; neither should grow with the history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderHistoryBenchmark {
+
+    private static final long USER = 42;
+    private static final int PAGE_SIZE = 20;
+    private static final int CHECKOUT_LINES = 5;
+
+    @Param({"0", "5000", "50000"})
+    public int historySize;
+
+    private File databaseFile;
+    private Connection connection;
+    private PreparedStatement insertOrder;
+    private PreparedStatement insertItem;
+    private PreparedStatement firstPage;
+    private PreparedStatement page;
+    private Order deepest;
+    private long clock = 1_700_000_000_000L;
+
+    @Setup
+    public void setUp() throws Exception {
+        databaseFile = File.createTempFile("orders", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA foreign_keys=ON");
+            statement.execute(DatabaseSchema.SQL_CREATE_ORDERS);
+            statement.execute(DatabaseSchema.SQL_CREATE_ORDERS_USER_INDEX);
+            statement.execute(DatabaseSchema.SQL_CREATE_ORDER_ITEMS);
+        }
+        insertOrder = connection.prepareStatement(DatabaseSchema.SQL_INSERT_ORDER,
+                Statement.RETURN_GENERATED_KEYS);
+        insertItem = connection.prepareStatement(DatabaseSchema.SQL_INSERT_ORDER_ITEM);
+
+        // Always at least one page to read
+        for (int i = 0; i < Math.max(historySize, PAGE_SIZE); i++) {
+            placeOrder(3);
+        }
+        deepest = new Order(Long.MAX_VALUE, "", USER, clock - historySize + PAGE_SIZE,
+                CartTotals.EMPTY, 0);
+
+        firstPage = connection.prepareStatement(DatabaseSchema.orderHistorySql(null));
+        page = connection.prepareStatement(DatabaseSchema.orderHistorySql(deepest));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        insertOrder.close();
+        insertItem.close();
+        firstPage.close();
+        page.close();
+        connection.close();
+        new File(databaseFile.getPath() + "-wal").delete();
+        new File(databaseFile.getPath() + "-shm").delete();
+        databaseFile.delete();
+    }
+
+    @Benchmark
+    public long checkout() throws SQLException {
+        return placeOrder(CHECKOUT_LINES);
+    }
+
+    @Benchmark
+    public int firstPage() throws SQLException {
+        return read(firstPage, null);
+    }
+
+    // The last page of the history
+    @Benchmark
+    public int deepestPage() throws SQLException {
+        return read(page, deepest);
+    }
+
+    /**
+     * DatabaseHelper.placeOrder on this connection: one transaction, the same two
+     * prepared inserts reused.
+     */
+    private long placeOrder(int lines) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            bind(insertOrder, DatabaseSchema.orderValues(Order.newOrderNumber(), USER, clock++,
+                    Pricing.price(Money.ofMajor(100) * lines), lines));
+            insertOrder.executeUpdate();
+            long orderId;
+            try (ResultSet keys = insertOrder.getGeneratedKeys()) {
+                keys.next();
+                orderId = keys.getLong(1);
+            }
+            for (int line = 0; line < lines; line++) {
+                bind(insertItem, DatabaseSchema.orderItemValues(orderId, line,
+                        new CartItem("item" + line, "Item " + line, Money.ofMajor(100), 1, "")));
+                insertItem.executeUpdate();
+            }
+            connection.commit();
+            return orderId;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static int read(PreparedStatement query, Order after) throws SQLException {
+        String[] args = DatabaseSchema.orderHistoryArgs(USER, after, PAGE_SIZE);
+        for (int i = 0; i < args.length; i++) {
+            query.setString(i + 1, args[i]);
+        }
+        int rows = 0;
+        try (ResultSet result = query.executeQuery()) {
+            while (result.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static void bind(PreparedStatement statement, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Phone login on a plain JVM SQLite with DatabaseSchema's SQL: the unique phone
+ * index against the full table scan it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhoneLookupBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int userCount;
+
+    private File databaseFile;
+    private Connection connection;
+    private PreparedStatement indexed;
+    private PreparedStatement scan;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        databaseFile = File.createTempFile("phones", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute(DatabaseSchema.SQL_CREATE_USERS);
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (full_name, email, phone, password) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < userCount; i++) {
+                insert.setString(1, "User " + i);
+                insert.setString(2, "user" + i + "@test.com");
+                insert.setString(3, PhoneNumbers.normalize(localNumber(i)));
+                insert.setString(4, "secret" + i);
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DatabaseSchema.SQL_CREATE_USERS_PHONE_INDEX);
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        indexed = connection.prepareStatement(DatabaseSchema.SQL_LOGIN_BY_PHONE);
+        scan = connection.prepareStatement(
+                DatabaseSchema.SQL_LOGIN_BY_PHONE.replace("FROM users", "FROM users NOT INDEXED"));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        indexed.close();
+        scan.close();
+        connection.close();
+        new File(databaseFile.getPath() + "-wal").delete();
+        new File(databaseFile.getPath() + "-shm").delete();
+        databaseFile.delete();
+    }
+
+    @Benchmark
+    public String indexedLogin() throws SQLException {
+        return login(indexed);
+    }
+
+    @Benchmark
+    public String scanLogin() throws SQLException {
+        return login(scan);
+    }
+
+    private String login(PreparedStatement query) throws SQLException {
+        cursor = (int) ((cursor + 7_919L) % userCount);
+        // Users type their number any way they like; it is normalized before the lookup
+        query.setString(1, PhoneNumbers.normalize(localNumber(cursor)));
+        try (ResultSet result = query.executeQuery()) {
+            return result.next() ? result.getString(5) : null;
+        }
+    }
+
+    private static String localNumber(int user) {
+        return String.format("09%02d %03d %03d",
+                user / 1_000_000 + 11, user / 1_000 % 1_000, user % 1_000);
+    }
+}
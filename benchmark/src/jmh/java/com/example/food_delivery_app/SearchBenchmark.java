@@ -0,0 +1,81 @@
+package com.example.food_delivery_app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dish search, ranked as used by SearchResultsActivity and unranked, against the
+ * linear scan it replaced, plus a repeated query answered from the query cache
+ * and the cost of indexing a catalog snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int dishCount;
+
+    @Param({"pizza", "smoky burger", "avocado"})
+    public String query;
+
+    private CatalogSnapshot snapshot;
+    private SearchEngine engine;
+    private SearchEngine cachedEngine;
+
+    @Setup
+    public void setUp() {
+        int restaurants = Math.max(1, dishCount / 100);
+        snapshot = new CatalogSnapshot(1,
+                new SyntheticCatalogSource(restaurants, dishCount / restaurants).loadRestaurants());
+        engine = new SearchEngine(snapshot);
+        cachedEngine = new SearchEngine(snapshot,
+                new QueryCache(QueryCache.MAX_ENTRIES, QueryCache.MAX_BYTES));
+    }
+
+    @Benchmark
+    public List<MenuItem> indexedSearch() {
+        return engine.searchDishes(query);
+    }
+
+    @Benchmark
+    public List<MenuItem> rankedTop50() {
+        return engine.searchDishes(query, 50);
+    }
+
+    // Every call after the first is a cache hit
+    @Benchmark
+    public List<MenuItem> cachedTop50() {
+        return cachedEngine.searchDishes(query, 50);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SearchEngine buildEngine() {
+        return new SearchEngine(snapshot);
+    }
+
+    @Benchmark
+    public List<MenuItem> linearScan() {
+        String normalized = query.toLowerCase().trim();
+        List<MenuItem> results = new ArrayList<>();
+        for (MenuItem dish : snapshot.getMenuItems()) {
+            if (dish.getName().toLowerCase().contains(normalized)
+                    || dish.getDescription().toLowerCase().contains(normalized)
+                    || dish.getTags().toLowerCase().contains(normalized)) {
+                results.add(dish);
+            }
+        }
+        return results;
+    }
+}
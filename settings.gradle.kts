@@ -21,4 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "FOOD_DELIVERY_APP"
 include(":app")
+include(":benchmark")
  
\ No newline at end of file